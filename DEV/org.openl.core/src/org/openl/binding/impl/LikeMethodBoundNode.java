@@ -0,0 +1,64 @@
+package org.openl.binding.impl;
+
+import java.lang.reflect.Method;
+
+import org.openl.binding.IBoundNode;
+import org.openl.exception.OpenLRuntimeException;
+import org.openl.rules.util.LikePattern;
+import org.openl.rules.util.Strings;
+import org.openl.syntax.ISyntaxNode;
+import org.openl.types.IMethodCaller;
+import org.openl.types.java.JavaOpenMethod;
+import org.openl.vm.IRuntimeEnv;
+
+/**
+ * Calls {@link Strings#like(String, String)} with a literal pattern which is compiled once at the binding time.
+ */
+public class LikeMethodBoundNode extends MethodBoundNode {
+
+    private final LikePattern likePattern;
+
+    private LikeMethodBoundNode(ISyntaxNode syntaxNode,
+            IBoundNode[] children,
+            IMethodCaller methodCaller,
+            LikePattern likePattern) {
+        super(syntaxNode, children, methodCaller);
+        this.likePattern = likePattern;
+    }
+
+    /**
+     * Creates the node if the method is {@link Strings#like(String, String)} and the pattern is a valid literal.
+     *
+     * @return {@code null} if the call cannot be precompiled
+     */
+    static LikeMethodBoundNode create(ISyntaxNode syntaxNode, IBoundNode[] children, IMethodCaller methodCaller) {
+        if (!(methodCaller instanceof JavaOpenMethod) || children.length != 2
+                || !(children[1] instanceof LiteralBoundNode)) {
+            return null;
+        }
+        Method javaMethod = ((JavaOpenMethod) methodCaller).getJavaMethod();
+        Object pattern = ((LiteralBoundNode) children[1]).getValue();
+        if (javaMethod.getDeclaringClass() != Strings.class || !"like".equals(javaMethod.getName())
+                || !(pattern instanceof String)) {
+            return null;
+        }
+        try {
+            return new LikeMethodBoundNode(syntaxNode, children, methodCaller, LikePattern.compile((String) pattern));
+        } catch (RuntimeException e) {
+            // The invalid pattern is reported at runtime as before
+            return null;
+        }
+    }
+
+    @Override
+    protected Object evaluateRuntime(IRuntimeEnv env) {
+        try {
+            return likePattern.matches((String) children[0].evaluate(env));
+        } catch (ControlSignalReturn signal) {
+            return signal.getReturnValue();
+        } catch (OpenLRuntimeException opex) {
+            opex.pushMethodNode(this);
+            throw opex;
+        }
+    }
+}
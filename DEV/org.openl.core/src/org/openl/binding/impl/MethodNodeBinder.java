@@ -97,6 +97,10 @@ public class MethodNodeBinder extends ANodeBinder {
 
         if (methodCaller != null) {
             log(methodName, parameterTypes, "entirely appropriate by signature method");
+            LikeMethodBoundNode likeMethodBoundNode = LikeMethodBoundNode.create(node, children, methodCaller);
+            if (likeMethodBoundNode != null) {
+                return likeMethodBoundNode;
+            }
             return new MethodBoundNode(node, children, methodCaller);
         }
 
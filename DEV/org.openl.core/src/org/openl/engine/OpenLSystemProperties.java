@@ -0,0 +1,136 @@
+package org.openl.engine;
+
+import java.util.Map;
+
+import org.openl.util.BooleanUtils;
+
+public class OpenLSystemProperties {
+
+    public static final String CUSTOM_SPREADSHEET_TYPE_PROPERTY = "custom.spreadsheet.type";
+    public static final String RUN_TESTS_IN_PARALLEL = "test.run.parallel";
+    public static final String TEST_RUN_THREAD_COUNT_PROPERTY = "test.run.thread.count";
+    public static final String DISPATCHING_MODE_PROPERTY = "dispatching.mode";
+    public static final String DISPATCHING_VALIDATION = "dispatching.validation";
+    public static final String DISPATCHING_MODE_JAVA = "java";
+    public static final String DISPATCHING_MODE_DT = "dt";
+    public static final String AUTO_COMPILE = "compile.auto";
+    public static final String DT_INDEX_SHARING = "dt.index.sharing";
+    public static final String SPREADSHEET_PARALLEL = "spreadsheet.parallel";
+    public static final String SPREADSHEET_PARALLEL_THRESHOLD = "spreadsheet.parallel.threshold";
+    public static final String BINDING_PARALLEL = "binding.parallel";
+    public static final String COMPILE_CACHE_DIR = "compile.cache.dir";
+    public static final String COMPILE_CACHE_MAX_AGE = "compile.cache.max.age";
+    public static final String COMPILE_PARSE_THREADS = "compile.parse.threads";
+    public static final String METHOD_CACHE_SIZE = "org.openl.cache.size";
+    public static final String JIT_THRESHOLD = "org.openl.jit.threshold";
+
+    private static final int DEFAULT_SPREADSHEET_PARALLEL_THRESHOLD = 32;
+    private static final int DEFAULT_COMPILE_CACHE_MAX_AGE = 30;
+    private static final int DEFAULT_COMPILE_PARSE_THREADS = 2;
+    private static final int DEFAULT_METHOD_CACHE_SIZE = 1000;
+    private static final int DEFAULT_JIT_THRESHOLD = 1000;
+
+    private OpenLSystemProperties() {
+    }
+
+    public static boolean isDTDispatchingMode(Map<String, Object> externalParameters) {
+        String dispatchingMode = getProperty(externalParameters, DISPATCHING_MODE_PROPERTY);
+        return DISPATCHING_MODE_DT.equalsIgnoreCase(dispatchingMode);
+    }
+
+    public static boolean isDispatchingValidationEnabled(Map<String, Object> externalParameters) {
+        String dispatchingValidation = getProperty(externalParameters, DISPATCHING_VALIDATION);
+        return BooleanUtils.toBoolean(dispatchingValidation);
+    }
+
+    public static boolean isRunTestsInParallel(Map<String, Object> externalParameters) {
+        String runTestsInParallel = getProperty(externalParameters, RUN_TESTS_IN_PARALLEL);
+        return BooleanUtils.toBoolean(runTestsInParallel);
+    }
+
+    public static int getTestRunThreadCount(Map<String, Object> externalParameters) {
+        String testRunTheadCount = getProperty(externalParameters, TEST_RUN_THREAD_COUNT_PROPERTY);
+        return Integer.valueOf(testRunTheadCount);
+    }
+
+    public static boolean isCustomSpreadsheetType(Map<String, Object> externalParameters) {
+        String customSpreadsheetType = getProperty(externalParameters, CUSTOM_SPREADSHEET_TYPE_PROPERTY);
+        return BooleanUtils.toBoolean(customSpreadsheetType, true);
+    }
+
+    public static boolean isAutoCompile(Map<String, Object> externalParameters) {
+        String autoCompile = getProperty(externalParameters, AUTO_COMPILE);
+        return BooleanUtils.toBoolean(autoCompile);
+    }
+
+    public static boolean isDTIndexSharing(Map<String, Object> externalParameters) {
+        String indexSharing = getProperty(externalParameters, DT_INDEX_SHARING);
+        return BooleanUtils.toBoolean(indexSharing);
+    }
+
+    public static boolean isSpreadsheetParallel(Map<String, Object> externalParameters) {
+        String spreadsheetParallel = getProperty(externalParameters, SPREADSHEET_PARALLEL);
+        return BooleanUtils.toBoolean(spreadsheetParallel);
+    }
+
+    /**
+     * Returns the minimal number of formula cells in a spreadsheet to evaluate its cells in parallel.
+     */
+    public static int getSpreadsheetParallelThreshold(Map<String, Object> externalParameters) {
+        String threshold = getProperty(externalParameters, SPREADSHEET_PARALLEL_THRESHOLD);
+        return threshold == null ? DEFAULT_SPREADSHEET_PARALLEL_THRESHOLD : Integer.parseInt(threshold.trim());
+    }
+
+    public static boolean isBindingParallel(Map<String, Object> externalParameters) {
+        String bindingParallel = getProperty(externalParameters, BINDING_PARALLEL);
+        return BooleanUtils.toBoolean(bindingParallel);
+    }
+
+    public static String getCompileCacheDir(Map<String, Object> externalParameters) {
+        return getProperty(externalParameters, COMPILE_CACHE_DIR);
+    }
+
+    /**
+     * Returns the number of days after which unused entries of the compilation cache are deleted.
+     */
+    public static int getCompileCacheMaxAge(Map<String, Object> externalParameters) {
+        String maxAge = getProperty(externalParameters, COMPILE_CACHE_MAX_AGE);
+        return maxAge == null ? DEFAULT_COMPILE_CACHE_MAX_AGE : Integer.parseInt(maxAge.trim());
+    }
+
+    /**
+     * Returns the maximal number of sheets of a workbook which are parsed at the same time. Every sheet being parsed
+     * keeps the full grid of its cells in memory, so the peak heap grows with the number of threads.
+     */
+    public static int getCompileParseThreads(Map<String, Object> externalParameters) {
+        String threads = getProperty(externalParameters, COMPILE_PARSE_THREADS);
+        return threads == null ? DEFAULT_COMPILE_PARSE_THREADS : Integer.parseInt(threads.trim());
+    }
+
+    /**
+     * Returns the number of cached results per method of variations calculation.
+     */
+    public static int getMethodCacheSize(Map<String, Object> externalParameters) {
+        String size = getProperty(externalParameters, METHOD_CACHE_SIZE);
+        return size == null ? DEFAULT_METHOD_CACHE_SIZE : Integer.parseInt(size.trim());
+    }
+
+    /**
+     * Returns the number of invocations of a Java method after which it is called by the generated byte code instead
+     * of reflection. A negative value disables the generation.
+     */
+    public static int getJitThreshold(Map<String, Object> externalParameters) {
+        String threshold = getProperty(externalParameters, JIT_THRESHOLD);
+        return threshold == null ? DEFAULT_JIT_THRESHOLD : Integer.parseInt(threshold.trim());
+    }
+
+    private static String getProperty(Map<String, Object> externalParameters, String property) {
+        String value;
+        if (externalParameters != null && externalParameters.containsKey(property)) {
+            value = externalParameters.get(property).toString();
+        } else {
+            value = System.getProperty(property);
+        }
+        return value;
+    }
+}
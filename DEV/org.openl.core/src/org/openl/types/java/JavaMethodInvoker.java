@@ -0,0 +1,20 @@
+package org.openl.types.java;
+
+/**
+ * Direct invoker of a Java method which is generated in runtime instead of calling the method via reflection.
+ *
+ * @see JavaMethodInvokerGenerator
+ */
+public interface JavaMethodInvoker {
+
+    /**
+     * Returned when the arguments do not match the method parameters exactly. In this case the method must be called
+     * via reflection, which converts the arguments or reports the error.
+     */
+    Object FALLBACK = new Object();
+
+    /**
+     * @return the result of the method, null for void methods or {@link #FALLBACK}
+     */
+    Object invoke(Object target, Object[] params);
+}
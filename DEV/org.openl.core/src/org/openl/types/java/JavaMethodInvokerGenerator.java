@@ -0,0 +1,238 @@
+package org.openl.types.java;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.openl.util.ClassUtils;
+
+/**
+ * Generates {@link JavaMethodInvoker} implementations which call the method directly, so the JIT compiler can inline
+ * the method into the rules code instead of going through {@link Method#invoke(Object, Object...)}.
+ * <p>
+ * Only the calls of Java methods are compiled. The bound expression trees of the rules are still interpreted, so the
+ * generated invoker removes the reflection overhead of a call but the rules code around it is not compiled.
+ * <p>
+ * The generated code checks the arguments before the call. Boxed values must have exactly the wrapper type of the
+ * primitive parameter, otherwise {@link JavaMethodInvoker#FALLBACK} is returned and the caller uses reflection with its
+ * widening conversions and error reporting.
+ * <p>
+ * The constructor of the generated class resolves all classes used by the call, so if they cannot be accessed from the
+ * generated class, e.g. the package is not exported from its module, {@link IllegalAccessError} is thrown by
+ * {@link #generate(Method)} rather than by the method invocation.
+ */
+final class JavaMethodInvokerGenerator {
+
+    private static final String INVOKER_PACKAGE = "org/openl/generated/invokers/";
+    private static final String INVOKER_INTERNAL_NAME = Type.getInternalName(JavaMethodInvoker.class);
+    private static final String OBJECT_INTERNAL_NAME = Type.getInternalName(Object.class);
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private JavaMethodInvokerGenerator() {
+    }
+
+    /**
+     * Checks if the method can be called from the generated class.
+     */
+    static boolean isSupported(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(declaringClass.getModifiers())) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            while (parameterType.isArray()) {
+                parameterType = parameterType.getComponentType();
+            }
+            if (!Modifier.isPublic(parameterType.getModifiers())) {
+                return false;
+            }
+        }
+        // Caller sensitive methods must be called from their real callers
+        String name = declaringClass.getName();
+        return declaringClass != Class.class && !ClassLoader.class.isAssignableFrom(declaringClass) && !name
+            .startsWith("java.lang.reflect.") && !name.startsWith("java.lang.invoke.") && !name
+                .startsWith("sun.") && !name.startsWith("jdk.");
+    }
+
+    static JavaMethodInvoker generate(Method method) throws Exception {
+        String className = INVOKER_PACKAGE + method.getDeclaringClass().getSimpleName() + "$" + method
+            .getName() + "$" + COUNTER.incrementAndGet();
+        byte[] byteCode = byteCode(className, method);
+        ClassLoader classLoader = new InvokerClassLoader(method.getDeclaringClass().getClassLoader());
+        Class<?> invokerClass = ClassUtils.defineClass(className.replace('/', '.'), byteCode, classLoader);
+        return (JavaMethodInvoker) invokerClass.newInstance();
+    }
+
+    static byte[] byteCode(String className, Method method) {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cw.visit(Opcodes.V1_8,
+            Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER,
+            className,
+            null,
+            OBJECT_INTERNAL_NAME,
+            new String[] { INVOKER_INTERNAL_NAME });
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT_INTERNAL_NAME, "<init>", "()V", false);
+        // Check the access to the classes before the first invocation
+        mv.visitLdcInsn(Type.getType(method.getDeclaringClass()));
+        mv.visitInsn(Opcodes.POP);
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!parameterType.isPrimitive()) {
+                mv.visitLdcInsn(Type.getType(parameterType));
+                mv.visitInsn(Opcodes.POP);
+            }
+        }
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC,
+            "invoke",
+            "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;",
+            null,
+            null);
+        mv.visitCode();
+        Label fallback = new Label();
+        Class<?> declaringClass = method.getDeclaringClass();
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        Class<?>[] parameterTypes = method.getParameterTypes();
+
+        // Validate the arguments
+        if (!isStatic) {
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(declaringClass));
+            mv.visitJumpInsn(Opcodes.IFEQ, fallback);
+        }
+        if (parameterTypes.length > 0) {
+            mv.visitVarInsn(Opcodes.ALOAD, 2);
+            mv.visitJumpInsn(Opcodes.IFNULL, fallback);
+            mv.visitVarInsn(Opcodes.ALOAD, 2);
+            mv.visitInsn(Opcodes.ARRAYLENGTH);
+            pushInt(mv, parameterTypes.length);
+            mv.visitJumpInsn(Opcodes.IF_ICMPNE, fallback);
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> parameterType = parameterTypes[i];
+            if (parameterType == Object.class) {
+                continue;
+            }
+            if (parameterType.isPrimitive()) {
+                loadParam(mv, i);
+                mv.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(ClassUtils.primitiveToWrapper(parameterType)));
+                mv.visitJumpInsn(Opcodes.IFEQ, fallback);
+            } else {
+                Label next = new Label();
+                loadParam(mv, i);
+                mv.visitJumpInsn(Opcodes.IFNULL, next);
+                loadParam(mv, i);
+                mv.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(parameterType));
+                mv.visitJumpInsn(Opcodes.IFEQ, fallback);
+                mv.visitLabel(next);
+            }
+        }
+
+        // Call the method
+        if (!isStatic) {
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(declaringClass));
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            loadParam(mv, i);
+            unbox(mv, parameterTypes[i]);
+        }
+        boolean isInterface = declaringClass.isInterface();
+        int opcode = isStatic ? Opcodes.INVOKESTATIC : isInterface ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL;
+        mv.visitMethodInsn(opcode,
+            Type.getInternalName(declaringClass),
+            method.getName(),
+            Type.getMethodDescriptor(method),
+            isInterface);
+        box(mv, method.getReturnType());
+        mv.visitInsn(Opcodes.ARETURN);
+
+        mv.visitLabel(fallback);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, INVOKER_INTERNAL_NAME, "FALLBACK", "Ljava/lang/Object;");
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static void loadParam(MethodVisitor mv, int i) {
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        pushInt(mv, i);
+        mv.visitInsn(Opcodes.AALOAD);
+    }
+
+    private static void pushInt(MethodVisitor mv, int value) {
+        if (value <= 5) {
+            mv.visitInsn(Opcodes.ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.BIPUSH, value);
+        } else {
+            mv.visitIntInsn(Opcodes.SIPUSH, value);
+        }
+    }
+
+    private static void unbox(MethodVisitor mv, Class<?> type) {
+        if (type == Object.class) {
+            return;
+        }
+        if (!type.isPrimitive()) {
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+            return;
+        }
+        String wrapper = Type.getInternalName(ClassUtils.primitiveToWrapper(type));
+        mv.visitTypeInsn(Opcodes.CHECKCAST, wrapper);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
+            wrapper,
+            type.getName() + "Value",
+            "()" + Type.getDescriptor(type),
+            false);
+    }
+
+    private static void box(MethodVisitor mv, Class<?> type) {
+        if (type == void.class) {
+            mv.visitInsn(Opcodes.ACONST_NULL);
+        } else if (type.isPrimitive()) {
+            String wrapper = Type.getInternalName(ClassUtils.primitiveToWrapper(type));
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC,
+                wrapper,
+                "valueOf",
+                "(" + Type.getDescriptor(type) + ")L" + wrapper + ";",
+                false);
+        }
+    }
+
+    /**
+     * Sees both the class of the invoked method and {@link JavaMethodInvoker}, even if they are loaded by unrelated
+     * class loaders.
+     */
+    private static final class InvokerClassLoader extends ClassLoader {
+
+        private final ClassLoader methodClassLoader;
+
+        InvokerClassLoader(ClassLoader methodClassLoader) {
+            super(JavaMethodInvoker.class.getClassLoader());
+            this.methodClassLoader = methodClassLoader;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            if (methodClassLoader != null) {
+                return methodClassLoader.loadClass(name);
+            }
+            throw new ClassNotFoundException(name);
+        }
+    }
+}
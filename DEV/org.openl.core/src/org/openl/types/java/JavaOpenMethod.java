@@ -9,8 +9,10 @@ package org.openl.types.java;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.openl.binding.MethodUtil;
+import org.openl.engine.OpenLSystemProperties;
 import org.openl.exception.OpenLRuntimeException;
 import org.openl.types.IMemberMetaInfo;
 import org.openl.types.IMethodSignature;
@@ -18,16 +20,29 @@ import org.openl.types.IOpenClass;
 import org.openl.types.IOpenMethod;
 import org.openl.util.StringUtils;
 import org.openl.vm.IRuntimeEnv;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author snshor
  *
  */
 public class JavaOpenMethod implements IOpenMethod, IMethodSignature {
+
+    /**
+     * The number of invocations after which the method is called by the generated byte code instead of reflection. A
+     * negative value disables the generation. Java methods are shared between modules, so only the system property is
+     * used.
+     */
+    private static final int COMPILE_THRESHOLD = OpenLSystemProperties.getJitThreshold(null);
+    private static final JavaMethodInvoker REFLECTION_INVOKER = (target, params) -> JavaMethodInvoker.FALLBACK;
+
     Method method;
 
     volatile IOpenClass[] parameterTypes;
 
+    private volatile JavaMethodInvoker invoker;
+    private final AtomicInteger invocations = new AtomicInteger();
+
     public JavaOpenMethod(Method method) {
         this.method = method;
     }
@@ -148,6 +163,22 @@ public class JavaOpenMethod implements IOpenMethod, IMethodSignature {
      */
     @Override
     public Object invoke(Object target, Object[] params, IRuntimeEnv env) {
+        JavaMethodInvoker directInvoker = invoker;
+        if (directInvoker == null && COMPILE_THRESHOLD >= 0 && invocations.incrementAndGet() >= COMPILE_THRESHOLD) {
+            directInvoker = compile();
+        }
+        if (directInvoker != null) {
+            Object result;
+            try {
+                result = directInvoker.invoke(target, params);
+            } catch (Throwable t) {
+                String msg = getMessage(target, method, params, t);
+                throw new OpenLRuntimeException(msg, t);
+            }
+            if (result != JavaMethodInvoker.FALLBACK) {
+                return result;
+            }
+        }
         try {
             return method.invoke(target, params);
         } catch (InvocationTargetException t) {
@@ -160,6 +191,23 @@ public class JavaOpenMethod implements IOpenMethod, IMethodSignature {
         }
     }
 
+    private synchronized JavaMethodInvoker compile() {
+        if (invoker == null) {
+            JavaMethodInvoker generated = REFLECTION_INVOKER;
+            if (JavaMethodInvokerGenerator.isSupported(method)) {
+                try {
+                    generated = JavaMethodInvokerGenerator.generate(method);
+                } catch (Exception | LinkageError e) {
+                    // E.g. the generated class cannot access the method because the package is not exported
+                    LoggerFactory.getLogger(JavaOpenMethod.class)
+                        .debug("Failed to generate an invoker for the method '{}'.", method, e);
+                }
+            }
+            invoker = generated;
+        }
+        return invoker;
+    }
+
     private String getMessage(Object target, Method m, Object[] params, Throwable exception) {
         String paramsValue = StringUtils.join(params, ", ");
         String targetValue = target == null ? "" : "`" + target + "`.";
@@ -188,6 +188,19 @@ public class SimpleVM implements IOpenVM {
         public IRuntimeEnv clone() {
             return new SimpleRuntimeEnv(this);
         }
+
+        /**
+         * Restores the state of a just created environment: removes all frames and 'this' objects and replaces the
+         * context with a new default one. It allows to reuse the environment for the next call instead of creating a
+         * new one.
+         */
+        public void reset() {
+            thisStack.setSize(0);
+            frameStack.setSize(0);
+            contextStack.setSize(0);
+            pushLocalFrame(new Object[0]);
+            pushContext(buildDefaultRuntimeContext());
+        }
     }
 
     /*
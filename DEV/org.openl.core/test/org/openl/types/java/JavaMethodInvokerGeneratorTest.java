@@ -0,0 +1,114 @@
+package org.openl.types.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.openl.exception.OpenLRuntimeException;
+
+public class JavaMethodInvokerGeneratorTest {
+
+    @Test
+    public void testStaticMethod() throws Exception {
+        JavaMethodInvoker invoker = JavaMethodInvokerGenerator
+            .generate(Math.class.getMethod("max", int.class, int.class));
+        assertEquals(7, invoker.invoke(null, new Object[] { 3, 7 }));
+        assertSame(JavaMethodInvoker.FALLBACK, invoker.invoke(null, new Object[] { 3L, 7 }));
+        assertSame(JavaMethodInvoker.FALLBACK, invoker.invoke(null, new Object[] { null, 7 }));
+        assertSame(JavaMethodInvoker.FALLBACK, invoker.invoke(null, new Object[] { 3 }));
+        assertSame(JavaMethodInvoker.FALLBACK, invoker.invoke(null, null));
+    }
+
+    @Test
+    public void testVirtualAndInterfaceMethods() throws Exception {
+        JavaMethodInvoker concat = JavaMethodInvokerGenerator
+            .generate(String.class.getMethod("concat", String.class));
+        assertEquals("ab", concat.invoke("a", new Object[] { "b" }));
+        assertSame(JavaMethodInvoker.FALLBACK, concat.invoke(1, new Object[] { "b" }));
+        assertSame(JavaMethodInvoker.FALLBACK, concat.invoke("a", new Object[] { 1 }));
+
+        JavaMethodInvoker length = JavaMethodInvokerGenerator.generate(CharSequence.class.getMethod("length"));
+        assertEquals(3, length.invoke(new StringBuilder("abc"), new Object[0]));
+        assertEquals(2, length.invoke("ab", null));
+
+        JavaMethodInvoker clear = JavaMethodInvokerGenerator.generate(List.class.getMethod("clear"));
+        List<String> list = new ArrayList<>();
+        list.add("a");
+        assertNull(clear.invoke(list, new Object[0]));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testExceptionIsNotWrapped() throws Exception {
+        JavaMethodInvokerGenerator.generate(Integer.class.getMethod("parseInt", String.class))
+            .invoke(null, new Object[] { "x" });
+    }
+
+    @Test
+    public void testIsSupported() throws Exception {
+        assertTrue(JavaMethodInvokerGenerator.isSupported(Math.class.getMethod("abs", double.class)));
+        assertFalse(JavaMethodInvokerGenerator.isSupported(Class.class.getMethod("forName", String.class)));
+        assertFalse(JavaMethodInvokerGenerator.isSupported(Object.class.getDeclaredMethod("clone")));
+    }
+
+    @Test(expected = IllegalAccessError.class)
+    public void testInaccessibleClassIsDetectedOnGeneration() throws Exception {
+        JavaMethodInvokerGenerator.generate(Hidden.class.getMethod("get"));
+    }
+
+    @Test
+    public void testIllegalAccessErrorIsNotRetried() throws Exception {
+        JavaOpenMethod method = new JavaOpenMethod(Accessor.class.getMethod("fail"));
+        for (int i = 1; i <= 2000; i++) {
+            try {
+                method.invoke(null, new Object[0], null);
+                fail();
+            } catch (OpenLRuntimeException e) {
+                assertTrue(e.getCause() instanceof IllegalAccessError);
+            }
+            assertEquals(i, Accessor.calls);
+        }
+    }
+
+    @Test
+    public void testJavaOpenMethodAfterThreshold() throws Exception {
+        JavaOpenMethod max = new JavaOpenMethod(Math.class.getMethod("max", long.class, long.class));
+        for (int i = 0; i < 2000; i++) {
+            assertEquals((long) i, max.invoke(null, new Object[] { (long) i, 0L }, null));
+            // Widening conversion is done by reflection
+            assertEquals((long) i, max.invoke(null, new Object[] { i, 0L }, null));
+        }
+
+        JavaOpenMethod parseInt = new JavaOpenMethod(Integer.class.getMethod("parseInt", String.class));
+        for (int i = 0; i < 2000; i++) {
+            try {
+                parseInt.invoke(null, new Object[] { "x" }, null);
+                fail();
+            } catch (OpenLRuntimeException e) {
+                assertTrue(e.getCause() instanceof NumberFormatException);
+            }
+        }
+    }
+
+    static class Hidden {
+        public static int get() {
+            return 1;
+        }
+    }
+
+    public static class Accessor {
+        static int calls;
+
+        public static void fail() {
+            calls++;
+            throw new IllegalAccessError("fail");
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package org.openl.rules.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled pattern of {@link Strings#like(String, String)}.
+ * <p>
+ * The string is matched by tracking all positions of the pattern reachable for the read characters at once, so the
+ * time is linear to the length of the string and does not depend on backtracking. Character lists which cannot be
+ * parsed unambiguously are translated to a regular expression as before.
+ */
+public final class LikePattern {
+
+    private static final LikePattern EMPTY = new LikePattern(null, null, null);
+
+    private static final IntPredicate ANY = ch -> ch != '\n' && ch != '\r' && ch != '\u0085' && ch != '\u2028'
+            && ch != '\u2029';
+    private static final IntPredicate DIGIT = ch -> ch >= '0' && ch <= '9';
+    private static final IntPredicate ALPHA = ch -> ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z';
+    private static final IntPredicate SPACE = ch -> ch == ' ' || ch >= '\t' && ch <= '\r';
+
+    private final Pattern regex;
+    private final IntPredicate[] classes;
+    /**
+     * {@code true} if the character class is matched 0 or more times, {@code false} if exactly once.
+     */
+    private final boolean[] repeated;
+
+    private LikePattern(Pattern regex, IntPredicate[] classes, boolean[] repeated) {
+        this.regex = regex;
+        this.classes = classes;
+        this.repeated = repeated;
+    }
+
+    /**
+     * Compiles the pattern of {@link Strings#like(String, String)}.
+     *
+     * @param pattern pattern
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the pattern is invalid
+     */
+    public static LikePattern compile(String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            return EMPTY;
+        }
+        LikePattern likePattern = parse(pattern);
+        if (likePattern == null) {
+            likePattern = new LikePattern(Pattern.compile(toRegex(pattern)), null, null);
+        }
+        return likePattern;
+    }
+
+    /**
+     * Checks if the String is matched using this pattern. The same as {@link Strings#like(String, String)}.
+     *
+     * @param str any String
+     * @return {@code true} if the String matches this pattern
+     */
+    public boolean matches(String str) {
+        if (str == null || str.isEmpty()) {
+            return this == EMPTY;
+        }
+        if (this == EMPTY) {
+            return false;
+        }
+        if (regex != null) {
+            return regex.matcher(str).matches();
+        }
+
+        final int size = classes.length;
+        boolean[] current = new boolean[size + 1];
+        boolean[] next = new boolean[size + 1];
+        current[0] = true;
+        skipRepeated(current);
+        int i = 0;
+        while (i < str.length()) {
+            final int ch = str.codePointAt(i);
+            i += Character.charCount(ch);
+            boolean matched = false;
+            for (int k = 0; k < size; k++) {
+                if (current[k] && classes[k].test(ch)) {
+                    next[repeated[k] ? k : k + 1] = true;
+                    matched = true;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+            skipRepeated(next);
+            boolean[] tmp = current;
+            current = next;
+            next = tmp;
+            Arrays.fill(next, false);
+        }
+        return current[size];
+    }
+
+    private void skipRepeated(boolean[] states) {
+        for (int k = 0; k < classes.length; k++) {
+            if (states[k] && repeated[k]) {
+                states[k + 1] = true;
+            }
+        }
+    }
+
+    /**
+     * Parses the pattern to the sequence of character classes.
+     *
+     * @return {@code null} if the pattern must be processed by a regular expression
+     */
+    private static LikePattern parse(String pattern) {
+        final int size = pattern.length();
+        List<IntPredicate> classes = new ArrayList<>(size);
+        List<Boolean> repeated = new ArrayList<>(size);
+
+        char prevCh = 0;
+        for (int i = 0; i < size; i++) {
+            final char ch = pattern.charAt(i);
+            if (Character.isSurrogate(ch)) {
+                return null;
+            }
+            switch (ch) {
+                case '?':
+                    classes.add(ANY);
+                    repeated.add(false);
+                    break;
+                case '*':
+                    classes.add(ANY);
+                    repeated.add(true);
+                    break;
+                case '#':
+                    classes.add(DIGIT);
+                    repeated.add(false);
+                    break;
+                case '@':
+                    classes.add(ALPHA);
+                    repeated.add(false);
+                    break;
+                case '[':
+                    int end = pattern.indexOf(']', i + 1);
+                    if (end < 0) {
+                        return null;
+                    }
+                    IntPredicate charList = parseCharList(pattern.substring(i + 1, end));
+                    if (charList == null) {
+                        return null;
+                    }
+                    classes.add(charList);
+                    repeated.add(false);
+                    i = end;
+                    break;
+                case ' ':
+                    if (prevCh != ' ') {
+                        classes.add(SPACE);
+                        repeated.add(false);
+                        classes.add(SPACE);
+                        repeated.add(true);
+                    }
+                    break;
+                case '+':
+                    if (prevCh == '?' || prevCh == '@' || prevCh == '#' || prevCh == ']') {
+                        classes.add(classes.get(classes.size() - 1));
+                        repeated.add(true);
+                    } else {
+                        classes.add(c -> c == '+');
+                        repeated.add(false);
+                    }
+                    break;
+                case '^':
+                    // It is the beginning of the line in the regular expression
+                    return null;
+                default:
+                    classes.add(c -> c == ch);
+                    repeated.add(false);
+                    break;
+            }
+            prevCh = pattern.charAt(i);
+        }
+
+        boolean[] repeatedArray = new boolean[repeated.size()];
+        for (int k = 0; k < repeatedArray.length; k++) {
+            repeatedArray[k] = repeated.get(k);
+        }
+        return new LikePattern(null, classes.toArray(new IntPredicate[0]), repeatedArray);
+    }
+
+    /**
+     * Parses the characters between '[' and ']'.
+     *
+     * @return {@code null} if the list must be processed by a regular expression
+     */
+    private static IntPredicate parseCharList(String charList) {
+        final boolean negated = charList.length() > 1 && charList.charAt(0) == '!';
+        final String chars = negated ? charList.substring(1) : charList;
+        final int size = chars.length();
+        if (size == 0) {
+            return null;
+        }
+        for (int i = 0; i < size; i++) {
+            char ch = chars.charAt(i);
+            if (ch == ' ' || ch == '^' || ch == '&' || ch == '\\' || Character.isSurrogate(ch)) {
+                return null;
+            }
+        }
+
+        // Pairs of the lowest and the highest characters of the ranges
+        final char[] ranges = new char[size * 2];
+        int count = 0;
+        int i = 0;
+        while (i < size) {
+            char lo = chars.charAt(i);
+            char hi = lo;
+            if (i + 2 < size && chars.charAt(i + 1) == '-') {
+                hi = chars.charAt(i + 2);
+                if (lo == '-' || hi == '-' || lo > hi) {
+                    return null;
+                }
+                i += 3;
+            } else {
+                if (lo == '-' && i != 0 && i != size - 1) {
+                    return null;
+                }
+                i++;
+            }
+            ranges[count++] = lo;
+            ranges[count++] = hi;
+        }
+
+        final int length = count;
+        return ch -> {
+            for (int k = 0; k < length; k += 2) {
+                if (ch >= ranges[k] && ch <= ranges[k + 1]) {
+                    return !negated;
+                }
+            }
+            return negated;
+        };
+    }
+
+    private static String toRegex(String pattern) {
+        final int size = pattern.length();
+        StringBuilder regex = new StringBuilder(size * 2);
+
+        int i = 0;
+        char prevCh = 0;
+        char nextCh = pattern.charAt(i);
+        boolean inSet = false;
+        while (i < size) {
+            final char ch = nextCh;
+            i++;
+            nextCh = i < size ? pattern.charAt(i) : 0;
+            switch (ch) {
+                case '?':
+                    if (!inSet) {
+                        regex.append('.');
+                    } else {
+                        regex.append(ch);
+                    }
+                    break;
+                case '*':
+                    if (!inSet) {
+                        regex.append(".*");
+                    } else {
+                        regex.append(ch);
+                    }
+                    break;
+                case '#':
+                    if (!inSet) {
+                        regex.append("\\d");
+                    } else {
+                        regex.append(ch);
+                    }
+                    break;
+                case '@':
+                    if (!inSet) {
+                        regex.append("\\p{Alpha}");
+                    } else {
+                        regex.append(ch);
+                    }
+                    break;
+                case '!':
+                    if (inSet && prevCh == '[' && nextCh != ']') {
+                        regex.append('^');
+                    } else {
+                        regex.append(ch);
+                    }
+                    break;
+                case '[':
+                    if (inSet) {
+                        regex.append('\\');
+                    }
+                    regex.append(ch);
+                    inSet = true;
+                    break;
+                case ']':
+                    regex.append(ch);
+                    inSet = false;
+                    break;
+                case ' ':
+                    if (prevCh != ' ') {
+                        regex.append("\\s+");
+                    }
+                    break;
+                case '+':
+                    if (prevCh != '?' && prevCh != '@' && prevCh != '#' && prevCh != ']') {
+                        regex.append('\\');
+                    }
+                    regex.append(ch);
+                    break;
+                case '\\':
+                    regex.append('\\');
+                    regex.append(ch);
+                    break;
+                case '{':
+                case '}':
+                case '(':
+                case ')':
+                case '.':
+                case '$':
+                case '|':
+                    if (!inSet) {
+                        regex.append('\\');
+                    }
+                    regex.append(ch);
+                    break;
+                default:
+                    regex.append(ch);
+                    break;
+            }
+            prevCh = ch;
+        }
+
+        return regex.toString();
+    }
+}
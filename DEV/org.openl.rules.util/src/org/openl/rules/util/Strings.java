@@ -4,6 +4,8 @@ import java.math.BigDecimal;
 import java.text.NumberFormat;
 import java.text.ParsePosition;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -21,6 +23,9 @@ public final class Strings {
 
     private static final Pattern TRAILING_ZERO = Pattern.compile("(\\.0+$)|(?<=\\.\\d{0,20})0+$");
 
+    private static final int LIKE_PATTERNS_CACHE_SIZE = 1000;
+    private static final Map<String, LikePattern> LIKE_PATTERNS = new ConcurrentHashMap<>();
+
     /**
      * <p>
      * Checks if String contains a search String, handling <code>null</code>. This method uses
@@ -653,104 +658,19 @@ public final class Strings {
             return false;
         }
 
-        String likePattern = parseLikePattern(pattern);
-        Pattern regex = Pattern.compile(likePattern);
-        return regex.matcher(str).matches();
+        return getLikePattern(pattern).matches(str);
     }
 
-    private static String parseLikePattern(String pattern) {
-        final int size = pattern.length();
-        StringBuilder regex = new StringBuilder(size * 2);
-
-        int i = 0;
-        char prevCh = 0;
-        char nextCh = pattern.charAt(i);
-        boolean inSet = false;
-        while (i < size) {
-            final char ch = nextCh;
-            i++;
-            nextCh = i < size ? pattern.charAt(i) : 0;
-            switch (ch) {
-                case '?':
-                    if (!inSet) {
-                        regex.append('.');
-                    } else {
-                        regex.append(ch);
-                    }
-                    break;
-                case '*':
-                    if (!inSet) {
-                        regex.append(".*");
-                    } else {
-                        regex.append(ch);
-                    }
-                    break;
-                case '#':
-                    if (!inSet) {
-                        regex.append("\\d");
-                    } else {
-                        regex.append(ch);
-                    }
-                    break;
-                case '@':
-                    if (!inSet) {
-                        regex.append("\\p{Alpha}");
-                    } else {
-                        regex.append(ch);
-                    }
-                    break;
-                case '!':
-                    if (inSet && prevCh == '[' && nextCh != ']') {
-                        regex.append('^');
-                    } else {
-                        regex.append(ch);
-                    }
-                    break;
-                case '[':
-                    if (inSet) {
-                        regex.append('\\');
-                    }
-                    regex.append(ch);
-                    inSet = true;
-                    break;
-                case ']':
-                    regex.append(ch);
-                    inSet = false;
-                    break;
-                case ' ':
-                    if (prevCh != ' ') {
-                        regex.append("\\s+");
-                    }
-                    break;
-                case '+':
-                    if (prevCh != '?' && prevCh != '@' && prevCh != '#' && prevCh != ']') {
-                        regex.append('\\');
-                    }
-                    regex.append(ch);
-                    break;
-                case '\\':
-                    regex.append('\\');
-                    regex.append(ch);
-                    break;
-                case '{':
-                case '}':
-                case '(':
-                case ')':
-                case '.':
-                case '$':
-                case '|':
-                    if (!inSet) {
-                        regex.append('\\');
-                    }
-                    regex.append(ch);
-                    break;
-                default:
-                    regex.append(ch);
-                    break;
+    private static LikePattern getLikePattern(String pattern) {
+        LikePattern likePattern = LIKE_PATTERNS.get(pattern);
+        if (likePattern == null) {
+            likePattern = LikePattern.compile(pattern);
+            if (LIKE_PATTERNS.size() >= LIKE_PATTERNS_CACHE_SIZE) {
+                // Patterns built at runtime must not fill the memory
+                LIKE_PATTERNS.clear();
             }
-            prevCh = ch;
+            LIKE_PATTERNS.put(pattern, likePattern);
         }
-
-        return regex.toString();
+        return likePattern;
     }
 }
@@ -0,0 +1,62 @@
+package org.openl.rules.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+public class LikePatternTest {
+
+    @Test
+    public void testEmpty() {
+        assertTrue(LikePattern.compile(null).matches(null));
+        assertTrue(LikePattern.compile("").matches(""));
+        assertFalse(LikePattern.compile("").matches("a"));
+        assertFalse(LikePattern.compile("*").matches(""));
+        assertFalse(LikePattern.compile("*").matches(null));
+    }
+
+    @Test
+    public void testLineTerminators() {
+        assertTrue(LikePattern.compile("a*b").matches("a\tb"));
+        assertFalse(LikePattern.compile("a*b").matches("a\nb"));
+        assertFalse(LikePattern.compile("a?b").matches("a b"));
+        assertTrue(LikePattern.compile("a[!c]b").matches("a\nb"));
+        assertTrue(LikePattern.compile("a b").matches("a\r\n b"));
+    }
+
+    @Test
+    public void testCodePoints() {
+        assertTrue(LikePattern.compile("a?b").matches("a😀b"));
+        assertTrue(LikePattern.compile("a😀b").matches("a😀b"));
+        assertFalse(LikePattern.compile("a??b").matches("a😀b"));
+    }
+
+    @Test
+    public void testRegexCharLists() {
+        assertTrue(LikePattern.compile("[a b]").matches(" "));
+        assertTrue(LikePattern.compile("[a b]").matches("+"));
+        assertTrue(LikePattern.compile("[^a]").matches("b"));
+        assertFalse(LikePattern.compile("[a-c-e]").matches("d"));
+        assertTrue(LikePattern.compile("[a-c-e]").matches("-"));
+        assertFalse(LikePattern.compile("a^b").matches("a^b"));
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void testInvalidPattern() {
+        LikePattern.compile("[abc");
+    }
+
+    @Test(timeout = 10000)
+    public void testNoBacktracking() {
+        StringBuilder str = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            str.append('a');
+        }
+        assertFalse(LikePattern.compile("*a*a*a*a*a*a*a*a*b").matches(str.toString()));
+        assertFalse(LikePattern.compile("?+?+?+?+?+?+?+b").matches(str.toString()));
+        assertTrue(LikePattern.compile("*a*a*a*a*a*a*a*a").matches(str.toString()));
+    }
+}
@@ -1,6 +1,7 @@
 package org.openl.excel.grid;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -31,6 +32,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class ParsedGrid extends AGrid {
+    private static final Object[] EMPTY_ROW = new Object[0];
+
     private final Logger log = LoggerFactory.getLogger(ParsedGrid.class);
 
     private final String workbookPath;
@@ -158,14 +161,42 @@ public class ParsedGrid extends AGrid {
         }
     }
 
+    /**
+     * Removes trailing empty cells of the rows. Sheets usually are sparse, so the most of the cells in a rectangular
+     * array are empty. Rows without values share the same empty array.
+     *
+     * @param cells parsed cells, the array is modified
+     * @return the same array with compacted rows
+     */
+    static Object[][] compactRows(Object[][] cells) {
+        for (int i = 0; i < cells.length; i++) {
+            Object[] row = cells[i];
+            int length = row.length;
+            while (length > 0 && row[length - 1] == null) {
+                length--;
+            }
+            if (length == 0) {
+                cells[i] = EMPTY_ROW;
+            } else if (length < row.length) {
+                cells[i] = Arrays.copyOf(row, length);
+            }
+        }
+        return cells;
+    }
+
+    private Object getInternalValue(int internalRow, int internalCol) {
+        Object[] row = cells[internalRow];
+        return internalCol < row.length ? row[internalCol] : null;
+    }
+
     private CellRowCol findTopLeft(int internalRow, int internalCol) {
-        while (cells[internalRow][internalCol] == MergedCell.MERGE_WITH_LEFT) {
+        while (getInternalValue(internalRow, internalCol) == MergedCell.MERGE_WITH_LEFT) {
             if (internalCol == 0) {
                 break;
             }
             internalCol--;
         }
-        while (cells[internalRow][internalCol] == MergedCell.MERGE_WITH_UP) {
+        while (getInternalValue(internalRow, internalCol) == MergedCell.MERGE_WITH_UP) {
             if (internalRow == 0) {
                 break;
             }
@@ -177,7 +208,7 @@ public class ParsedGrid extends AGrid {
     private CellRowCol findBottomRight(int internalRow, int internalCol) {
         int endRow = internalRow;
         int endCol = internalCol;
-        while (endRow < cells.length - 1 && cells[endRow + 1][endCol] == MergedCell.MERGE_WITH_UP) {
+        while (endRow < cells.length - 1 && getInternalValue(endRow + 1, endCol) == MergedCell.MERGE_WITH_UP) {
             endRow++;
         }
         while (endCol < cells[endRow].length - 1 && cells[endRow][endCol + 1] == MergedCell.MERGE_WITH_LEFT) {
@@ -200,7 +231,7 @@ public class ParsedGrid extends AGrid {
         Object value = cells[internalRow][internalCol];
         if (value instanceof MergedCell) {
             CellRowCol topLeft = findTopLeft(internalRow, internalCol);
-            value = cells[topLeft.row][topLeft.col];
+            value = getInternalValue(topLeft.row, topLeft.col);
         }
         if (value instanceof ExtendedValue) {
             value = ((ExtendedValue) value).getValue();
@@ -257,7 +288,12 @@ public class ParsedGrid extends AGrid {
 
             if (IGridRegion.Tool.contains(extendedRegion, column, row)) {
                 try (ExcelReader excelReader = ExcelReaderFactory.sequentialFactory().create(workbookPath)) {
-                    styles = excelReader.getTableStyles(sheetDescriptor, extendedRegion);
+                    SheetDescriptor sheet = sheetDescriptor;
+                    if (sheet instanceof ParsedWorkbookCache.CachedSheetDescriptor) {
+                        // Cells were loaded from the cache, the reader needs its own sheet descriptor
+                        sheet = excelReader.getSheets().get(sheet.getIndex());
+                    }
+                    styles = excelReader.getTableStyles(sheet, extendedRegion);
                 } catch (Exception e) {
                     // Fallback to empty style
                     log.error("Cannot read styles for sheet '{}'", sheetDescriptor.getName(), e);
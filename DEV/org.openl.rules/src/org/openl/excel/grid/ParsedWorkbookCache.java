@@ -0,0 +1,504 @@
+package org.openl.excel.grid;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.excel.parser.AlignedValue;
+import org.openl.excel.parser.MergedCell;
+import org.openl.excel.parser.SheetDescriptor;
+import org.openl.info.OpenLVersion;
+import org.openl.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache of the cells parsed from workbooks. Parsing of the Excel files takes the most part of the
+ * compilation time on a cold start, so the parsed cells are stored on the disk and are reused while the workbook is not
+ * changed.
+ * <p>
+ * An entry is identified by the SHA-256 hash of the workbook content, the cache format version and the OpenL version,
+ * so changed workbooks are never loaded from stale entries. The name of an entry starts with the hash of the workbook
+ * path: when a new entry is stored, the entries of the previous versions of the same workbook are deleted. Entries
+ * which have not been used for {@link OpenLSystemProperties#COMPILE_CACHE_MAX_AGE} days (30 by default), for example
+ * entries of deleted workbooks, are deleted when a new entry is stored. Entries are written to temporary files and
+ * moved in place atomically, so the cache directory can be shared between several processes. Entries are stored in a
+ * compact binary format: strings are written once per workbook and empty cells are written as runs. Entries are read
+ * via memory mapping.
+ * <p>
+ * The cache is enabled by the {@link OpenLSystemProperties#COMPILE_CACHE_DIR} property.
+ */
+final class ParsedWorkbookCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParsedWorkbookCache.class);
+
+    private static final int MAGIC = 0x4F504743;
+    private static final int FORMAT_VERSION = 1;
+    private static final String EXTENSION = ".cells";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final char SOURCE_SEPARATOR = '-';
+
+    private static final byte NULL = 0;
+    private static final byte NULLS = 1;
+    private static final byte STRING = 2;
+    private static final byte STRING_REF = 3;
+    private static final byte INTEGER = 4;
+    private static final byte LONG = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte TRUE = 7;
+    private static final byte FALSE = 8;
+    private static final byte DATE = 9;
+    private static final byte MERGE_WITH_LEFT = 10;
+    private static final byte MERGE_WITH_UP = 11;
+    private static final byte ALIGNED = 12;
+
+    private final Path directory;
+    private final long maxAge;
+
+    ParsedWorkbookCache(Path directory) {
+        this(directory, TimeUnit.DAYS.toMillis(OpenLSystemProperties.getCompileCacheMaxAge(null)));
+    }
+
+    ParsedWorkbookCache(Path directory, Map<String, Object> externalParameters) {
+        this(directory, TimeUnit.DAYS.toMillis(OpenLSystemProperties.getCompileCacheMaxAge(externalParameters)));
+    }
+
+    ParsedWorkbookCache(Path directory, long maxAge) {
+        this.directory = directory;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * @param externalParameters the properties of the compiled module, system properties are used if they are not set
+     * @return the cache in the configured directory or {@code null} if the cache is disabled
+     */
+    static ParsedWorkbookCache getInstance(Map<String, Object> externalParameters) {
+        String directory = OpenLSystemProperties.getCompileCacheDir(externalParameters);
+        return StringUtils.isBlank(directory) ? null
+                                              : new ParsedWorkbookCache(Paths.get(directory.trim()),
+                                                  externalParameters);
+    }
+
+    /**
+     * Calculates the key of the cache entry for the workbook.
+     *
+     * @param workbookPath path to the workbook file
+     * @return the key or {@code null} if the workbook cannot be read
+     */
+    String getKey(String workbookPath) {
+        try (InputStream is = new DigestInputStream(Files.newInputStream(Paths.get(workbookPath)),
+            MessageDigest.getInstance("SHA-256"))) {
+            byte[] buffer = new byte[8192];
+            while (is.read(buffer) >= 0) {
+                // Read the whole file to calculate the hash
+            }
+            MessageDigest digest = ((DigestInputStream) is).getMessageDigest();
+            digest.update(getVersion().getBytes(StandardCharsets.UTF_8));
+            byte[] contentHash = digest.digest();
+            String normalizedPath = Paths.get(workbookPath).toAbsolutePath().normalize().toString();
+            byte[] pathHash = MessageDigest.getInstance("SHA-256")
+                .digest(normalizedPath.getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder();
+            appendHex(key, pathHash, 8);
+            key.append(SOURCE_SEPARATOR);
+            appendHex(key, contentHash, contentHash.length);
+            return key.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOG.debug("Cannot calculate the cache key of the workbook '{}'.", workbookPath, e);
+            return null;
+        }
+    }
+
+    private static void appendHex(StringBuilder sb, byte[] bytes, int length) {
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[i];
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+    }
+
+    private static String getVersion() {
+        return FORMAT_VERSION + ":" + OpenLVersion.getVersion() + ":" + OpenLVersion.getBuildNumber();
+    }
+
+    /**
+     * @return the cached workbook or {@code null} if there is no valid entry for the key
+     */
+    ParsedWorkbook load(String key) {
+        Path file = directory.resolve(key + EXTENSION);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            ParsedWorkbook workbook = new Reader(buffer).read();
+            touch(file);
+            return workbook;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Cannot read the cache entry '{}'. The workbook will be parsed.", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the workbook in the cache. Failures are logged and don't break the compilation.
+     */
+    void store(String key, ParsedWorkbook workbook) {
+        Path file = directory.resolve(key + EXTENSION);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, key, TEMP_EXTENSION);
+            try (OutputStream os = Files.newOutputStream(tempFile)) {
+                new Writer(new DataOutputStream(new BufferedOutputStream(os))).write(workbook);
+            }
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+            tempFile = null;
+            evict(key);
+        } catch (UnsupportedValueException e) {
+            LOG.debug("The workbook cannot be cached: {}", e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Cannot write the cache entry '{}'.", file, e);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    LOG.debug("Cannot delete the temporary file '{}'.", tempFile, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the entry as used, so it is not deleted by the age limit.
+     */
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            LOG.debug("Cannot update the modification time of the cache entry '{}'.", file, e);
+        }
+    }
+
+    /**
+     * Deletes the entries of other versions of the same workbook and the entries which have not been used for the max
+     * age.
+     */
+    private void evict(String key) {
+        int separator = key.indexOf(SOURCE_SEPARATOR);
+        String sourcePrefix = separator > 0 ? key.substring(0, separator + 1) : null;
+        String entryName = key + EXTENSION;
+        long expired = System.currentTimeMillis() - maxAge;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.equals(entryName) || !name.endsWith(EXTENSION) && !name.endsWith(TEMP_EXTENSION)) {
+                    continue;
+                }
+                try {
+                    boolean otherVersion = sourcePrefix != null && name.startsWith(sourcePrefix) && name
+                        .endsWith(EXTENSION);
+                    if (otherVersion || Files.getLastModifiedTime(file).toMillis() < expired) {
+                        Files.deleteIfExists(file);
+                    }
+                } catch (IOException e) {
+                    LOG.debug("Cannot delete the cache entry '{}'.", file, e);
+                }
+            }
+        } catch (IOException e) {
+            LOG.debug("Cannot clean up the cache directory '{}'.", directory, e);
+        }
+    }
+
+    /**
+     * Cells of all sheets of a workbook.
+     */
+    static final class ParsedWorkbook {
+        private final boolean use1904Windowing;
+        private final List<SheetDescriptor> sheets;
+        private final List<Object[][]> cells;
+
+        ParsedWorkbook(boolean use1904Windowing, List<SheetDescriptor> sheets, List<Object[][]> cells) {
+            this.use1904Windowing = use1904Windowing;
+            this.sheets = sheets;
+            this.cells = cells;
+        }
+
+        boolean isUse1904Windowing() {
+            return use1904Windowing;
+        }
+
+        List<SheetDescriptor> getSheets() {
+            return sheets;
+        }
+
+        Object[][] getCells(int sheet) {
+            return cells.get(sheet);
+        }
+    }
+
+    /**
+     * Sheet restored from the cache. Sheets of the workbook file must be used instead of it to read the styles.
+     */
+    static final class CachedSheetDescriptor implements SheetDescriptor {
+        private final String name;
+        private final int index;
+        private final int firstRowNum;
+        private final int firstColNum;
+
+        CachedSheetDescriptor(String name, int index, int firstRowNum, int firstColNum) {
+            this.name = name;
+            this.index = index;
+            this.firstRowNum = firstRowNum;
+            this.firstColNum = firstColNum;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public int getFirstRowNum() {
+            return firstRowNum;
+        }
+
+        @Override
+        public int getFirstColNum() {
+            return firstColNum;
+        }
+    }
+
+    private static final class UnsupportedValueException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedValueException(Object value) {
+            super("Unsupported type of a cell value: " + value.getClass().getName());
+        }
+    }
+
+    private static final class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void write(ParsedWorkbook workbook) throws IOException {
+            out.writeInt(MAGIC);
+            writeString(getVersion());
+            out.writeBoolean(workbook.isUse1904Windowing());
+            List<SheetDescriptor> sheets = workbook.getSheets();
+            out.writeInt(sheets.size());
+            for (int i = 0; i < sheets.size(); i++) {
+                SheetDescriptor sheet = sheets.get(i);
+                writeString(sheet.getName());
+                out.writeInt(sheet.getIndex());
+                out.writeInt(sheet.getFirstRowNum());
+                out.writeInt(sheet.getFirstColNum());
+                writeCells(workbook.getCells(i));
+            }
+            out.flush();
+        }
+
+        private void writeCells(Object[][] cells) throws IOException {
+            out.writeInt(cells.length);
+            for (Object[] row : cells) {
+                out.writeInt(row.length);
+                int nulls = 0;
+                for (Object value : row) {
+                    if (value == null) {
+                        nulls++;
+                        continue;
+                    }
+                    writeNulls(nulls);
+                    nulls = 0;
+                    writeValue(value);
+                }
+                writeNulls(nulls);
+            }
+        }
+
+        private void writeNulls(int count) throws IOException {
+            if (count == 1) {
+                out.writeByte(NULL);
+            } else if (count > 1) {
+                out.writeByte(NULLS);
+                out.writeInt(count);
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(NULL);
+            } else if (value instanceof String) {
+                String string = (String) value;
+                Integer ref = strings.get(string);
+                if (ref == null) {
+                    strings.put(string, strings.size());
+                    out.writeByte(STRING);
+                    writeString(string);
+                } else {
+                    out.writeByte(STRING_REF);
+                    out.writeInt(ref);
+                }
+            } else if (value instanceof Integer) {
+                out.writeByte(INTEGER);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                out.writeByte(LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Double) {
+                out.writeByte(DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte((Boolean) value ? TRUE : FALSE);
+            } else if (value.getClass() == Date.class) {
+                out.writeByte(DATE);
+                out.writeLong(((Date) value).getTime());
+            } else if (value == MergedCell.MERGE_WITH_LEFT) {
+                out.writeByte(MERGE_WITH_LEFT);
+            } else if (value == MergedCell.MERGE_WITH_UP) {
+                out.writeByte(MERGE_WITH_UP);
+            } else if (value instanceof AlignedValue) {
+                AlignedValue alignedValue = (AlignedValue) value;
+                out.writeByte(ALIGNED);
+                out.writeShort(alignedValue.getIndent());
+                writeValue(alignedValue.getValue());
+            } else {
+                throw new UnsupportedValueException(value);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        ParsedWorkbook read() throws IOException {
+            try {
+                if (buffer.getInt() != MAGIC || !getVersion().equals(readString())) {
+                    throw new IOException("Incompatible format of the cache entry.");
+                }
+                boolean use1904Windowing = buffer.get() != 0;
+                int sheetCount = buffer.getInt();
+                List<SheetDescriptor> sheets = new ArrayList<>(sheetCount);
+                List<Object[][]> cells = new ArrayList<>(sheetCount);
+                for (int i = 0; i < sheetCount; i++) {
+                    String name = readString();
+                    int index = buffer.getInt();
+                    int firstRowNum = buffer.getInt();
+                    int firstColNum = buffer.getInt();
+                    sheets.add(new CachedSheetDescriptor(name, index, firstRowNum, firstColNum));
+                    cells.add(readCells());
+                }
+                if (buffer.hasRemaining()) {
+                    throw new IOException("Unexpected data at the end of the cache entry.");
+                }
+                return new ParsedWorkbook(use1904Windowing, sheets, cells);
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Unexpected end of the cache entry.", e);
+            }
+        }
+
+        private Object[][] readCells() throws IOException {
+            Object[][] cells = new Object[buffer.getInt()][];
+            for (int r = 0; r < cells.length; r++) {
+                Object[] row = new Object[buffer.getInt()];
+                int c = 0;
+                while (c < row.length) {
+                    byte tag = buffer.get();
+                    if (tag == NULLS) {
+                        c += buffer.getInt();
+                    } else {
+                        row[c++] = readValue(tag);
+                    }
+                }
+                if (c != row.length) {
+                    throw new IOException("Broken row in the cache entry.");
+                }
+                cells[r] = row;
+            }
+            return cells;
+        }
+
+        private Object readValue(byte tag) throws IOException {
+            switch (tag) {
+                case NULL:
+                    return null;
+                case STRING:
+                    String string = readString();
+                    strings.add(string);
+                    return string;
+                case STRING_REF:
+                    return strings.get(buffer.getInt());
+                case INTEGER:
+                    return buffer.getInt();
+                case LONG:
+                    return buffer.getLong();
+                case DOUBLE:
+                    return buffer.getDouble();
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case DATE:
+                    return new Date(buffer.getLong());
+                case MERGE_WITH_LEFT:
+                    return MergedCell.MERGE_WITH_LEFT;
+                case MERGE_WITH_UP:
+                    return MergedCell.MERGE_WITH_UP;
+                case ALIGNED:
+                    short indent = buffer.getShort();
+                    return new AlignedValue(readValue(buffer.get()), indent);
+                default:
+                    throw new IOException("Unknown tag " + tag + " in the cache entry.");
+            }
+        }
+
+        private String readString() {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package org.openl.excel.grid;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.excel.grid.ParsedWorkbookCache.ParsedWorkbook;
+import org.openl.excel.parser.ExcelParseException;
 import org.openl.excel.parser.ExcelReader;
 import org.openl.excel.parser.ExcelReaderFactory;
 import org.openl.excel.parser.SheetDescriptor;
@@ -39,23 +46,80 @@ public class SequentialXlsLoader extends XlsLoader {
             // Example of such case is AlgorithmTableSpecification.xls.
             path = null;
         }
-        try (ExcelReader excelReader = path == null ? factory.create(source.getByteStream()) : factory.create(path)) {
-            List<? extends SheetDescriptor> sheets = excelReader.getSheets();
-            boolean use1904Windowing = excelReader.isUse1904Windowing();
-
-            int nsheets = sheets.size();
-            WorksheetSyntaxNode[] sheetNodes = new WorksheetSyntaxNode[nsheets];
-
-            for (int i = 0; i < nsheets; i++) {
-                final SheetDescriptor sheet = sheets.get(i);
-                XlsSheetSourceCodeModule sheetSource = new SequentialXlsSheetSourceCodeModule(workbookSourceModule,
-                    sheet);
-                Object[][] cells = excelReader.getCells(sheet);
-                IGridTable[] tables = new ParsedGrid(path, sheetSource, sheet, cells, use1904Windowing).getTables();
-                sheetNodes[i] = createWorksheetSyntaxNode(tablePartProcessor, sheetSource, tables);
+
+        ParsedWorkbookCache cache = path == null ? null : ParsedWorkbookCache.getInstance(source.getParams());
+        String cacheKey = cache == null ? null : cache.getKey(path);
+        ParsedWorkbook workbook = cacheKey == null ? null : cache.load(cacheKey);
+        if (workbook == null) {
+            workbook = parseWorkbook(factory, path, source);
+            if (cacheKey != null) {
+                cache.store(cacheKey, workbook);
             }
+        }
+
+        List<SheetDescriptor> sheets = workbook.getSheets();
+        int nsheets = sheets.size();
+        WorksheetSyntaxNode[] sheetNodes = new WorksheetSyntaxNode[nsheets];
+
+        for (int i = 0; i < nsheets; i++) {
+            final SheetDescriptor sheet = sheets.get(i);
+            XlsSheetSourceCodeModule sheetSource = new SequentialXlsSheetSourceCodeModule(workbookSourceModule, sheet);
+            IGridTable[] tables = new ParsedGrid(path,
+                sheetSource,
+                sheet,
+                workbook.getCells(i),
+                workbook.isUse1904Windowing()).getTables();
+            sheetNodes[i] = createWorksheetSyntaxNode(tablePartProcessor, sheetSource, tables);
+        }
+
+        return sheetNodes;
+    }
 
-            return sheetNodes;
+    private static ParsedWorkbook parseWorkbook(ExcelReaderFactory factory,
+            String path,
+            IOpenSourceCodeModule source) {
+        try (ExcelReader excelReader = path == null ? factory.create(source.getByteStream()) : factory.create(path)) {
+            List<SheetDescriptor> sheets = new ArrayList<>(excelReader.getSheets());
+            List<Object[][]> cells = parseSheets(excelReader,
+                sheets,
+                OpenLSystemProperties.getCompileParseThreads(source.getParams()));
+            return new ParsedWorkbook(excelReader.isUse1904Windowing(), sheets, cells);
+        }
+    }
+
+    /**
+     * Parses the sheets using at most {@link OpenLSystemProperties#COMPILE_PARSE_THREADS} threads. Rows are compacted
+     * right after a sheet is parsed, so only the sheets being parsed are kept in full size.
+     */
+    private static List<Object[][]> parseSheets(ExcelReader excelReader,
+            List<SheetDescriptor> sheets,
+            int maxThreads) {
+        int threads = Math.min(maxThreads, sheets.size());
+        if (threads <= 1 || !excelReader.isConcurrentReadSupported()) {
+            return sheets.stream()
+                .map(sheet -> ParsedGrid.compactRows(excelReader.getCells(sheet)))
+                .collect(Collectors.toList());
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            // A parallel stream started in the pool does not use more threads than the pool has
+            return pool.submit(() -> sheets.parallelStream()
+                .map(sheet -> ParsedGrid.compactRows(excelReader.getCells(sheet)))
+                .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelParseException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ExcelParseException(cause);
+        } finally {
+            pool.shutdown();
         }
     }
 }
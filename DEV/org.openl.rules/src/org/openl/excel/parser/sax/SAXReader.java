@@ -14,6 +14,7 @@ import org.apache.poi.openxml4j.opc.*;
 import org.apache.poi.ss.util.CellAddress;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.apache.poi.xssf.model.CommentsTable;
+import org.apache.poi.xssf.model.SharedStringsTable;
 import org.apache.poi.xssf.usermodel.XSSFRelation;
 import org.openl.excel.parser.*;
 import org.openl.rules.table.IGridRegion;
@@ -33,6 +34,7 @@ public class SAXReader implements ExcelReader {
     private boolean use1904Windowing;
     private List<SAXSheetDescriptor> sheets;
     private MinimalStyleTable styleTable;
+    private SharedStringsTable sharedStringsTable;
 
     public SAXReader(String fileName) {
         this.fileName = fileName;
@@ -82,7 +84,7 @@ public class SAXReader implements ExcelReader {
             initializeNeededData(r, pkg);
 
             XMLReader parser = SAXHelper.newXMLReader();
-            SheetHandler handler = new SheetHandler(r.getSharedStringsTable(),
+            SheetHandler handler = new SheetHandler(getSharedStringsTable(r),
                 use1904Windowing,
                 styleTable,
                 parserDateUtil);
@@ -102,6 +104,11 @@ public class SAXReader implements ExcelReader {
         }
     }
 
+    @Override
+    public boolean isConcurrentReadSupported() {
+        return true;
+    }
+
     @Override
     public boolean isUse1904Windowing() {
         // Initialize use1904Windowing property if it's not initialized yet
@@ -142,6 +149,7 @@ public class SAXReader implements ExcelReader {
     @Override
     public void close() {
         styleTable = null;
+        sharedStringsTable = null;
         sheets = null;
         use1904Windowing = false;
 
@@ -150,7 +158,7 @@ public class SAXReader implements ExcelReader {
         parserDateUtil.reset();
     }
 
-    private void initializeNeededData(XSSFReader r, OPCPackage pkg) {
+    private synchronized void initializeNeededData(XSSFReader r, OPCPackage pkg) {
         // Ensure that needed settings were read from workbook and styles files
         if (sheets == null) {
             getSheets();
@@ -161,6 +169,18 @@ public class SAXReader implements ExcelReader {
         }
     }
 
+    /**
+     * Shared strings are read once and are used for all sheets. They are kept in memory, so they can be used after the
+     * package is closed.
+     */
+    private synchronized SharedStringsTable getSharedStringsTable(XSSFReader r) throws IOException,
+                                                                                InvalidFormatException {
+        if (sharedStringsTable == null) {
+            sharedStringsTable = r.getSharedStringsTable();
+        }
+        return sharedStringsTable;
+    }
+
     private void parseStyles(XSSFReader r, OPCPackage pkg) {
         List<PackagePart> parts = pkg.getPartsByContentType(XSSFRelation.STYLES.getContentType());
         if (parts.isEmpty()) {
@@ -1,5 +1,6 @@
 package org.openl.rules.binding;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -8,6 +9,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import org.openl.binding.IBindingContext;
@@ -63,6 +69,11 @@ public class RulesModuleBindingContext extends ModuleBindingContext {
 
     private boolean ignoreCustomSpreadsheetResultCompilation = false;
 
+    /**
+     * Tasks of the tables which are executed in parallel with binding. It is null if binding is sequential.
+     */
+    private List<Map.Entry<TableSyntaxNode, Future<?>>> parallelBindTasks;
+
     public RulesModuleBindingContext(IBindingContext delegate, XlsModuleOpenClass module) {
         super(delegate, module);
         internalMethods = new ArrayList<>();
@@ -587,4 +598,55 @@ public class RulesModuleBindingContext extends ModuleBindingContext {
     public void setIgnoreCustomSpreadsheetResultCompilation(boolean ignoreCustomSpreadsheetResultCompilation) {
         this.ignoreCustomSpreadsheetResultCompilation = ignoreCustomSpreadsheetResultCompilation;
     }
+
+    public boolean isParallelBinding() {
+        return parallelBindTasks != null;
+    }
+
+    /**
+     * Enables parallel binding. Tables can add the tasks which do not use the binding context until
+     * {@link #finishParallelBinding(BiConsumer)} is invoked.
+     */
+    public void startParallelBinding() {
+        parallelBindTasks = new ArrayList<>();
+    }
+
+    /**
+     * Executes the task of the table in parallel with binding of other tables.
+     */
+    public void addParallelBindTask(TableSyntaxNode tableSyntaxNode, Callable<?> task) {
+        if (parallelBindTasks == null) {
+            throw new IllegalStateException("Parallel binding is not started.");
+        }
+        parallelBindTasks.add(new AbstractMap.SimpleEntry<>(tableSyntaxNode, ForkJoinPool.commonPool().submit(task)));
+    }
+
+    /**
+     * Waits for all the tasks and disables parallel binding. Errors of the tasks are passed to the handler in the order
+     * the tasks have been added.
+     */
+    public void finishParallelBinding(BiConsumer<TableSyntaxNode, Throwable> errorHandler) {
+        List<Map.Entry<TableSyntaxNode, Future<?>>> tasks = parallelBindTasks;
+        parallelBindTasks = null;
+        if (tasks == null) {
+            return;
+        }
+        boolean interrupted = false;
+        for (Map.Entry<TableSyntaxNode, Future<?>> task : tasks) {
+            while (true) {
+                try {
+                    task.getValue().get();
+                    break;
+                } catch (ExecutionException e) {
+                    errorHandler.accept(task.getKey(), e.getCause());
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
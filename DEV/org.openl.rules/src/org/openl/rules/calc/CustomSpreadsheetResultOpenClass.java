@@ -27,6 +27,7 @@ import org.openl.types.impl.DynamicArrayAggregateInfo;
 import org.openl.types.java.JavaOpenClass;
 import org.openl.util.ClassUtils;
 import org.openl.vm.IRuntimeEnv;
+import org.slf4j.LoggerFactory;
 
 public class CustomSpreadsheetResultOpenClass extends ADynamicClass {
 
@@ -43,6 +44,7 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass {
     private XlsModuleOpenClass module;
     private volatile Class<?> beanClass;
     private volatile SpreadsheetResultSetter[] spreadsheetResultSetters;
+    private volatile SpreadsheetResultBeanMapper beanMapper;
     private boolean simpleRefBeanByRow;
     private boolean simpleRefBeanByColumn;
     private long columnsForResultModelCount;
@@ -347,6 +349,9 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass {
             throw new IllegalArgumentException("Invalid spreadsheet result.");
         }
         Class<?> clazz = getBeanClass();
+        if (beanMapper != null) {
+            return beanMapper.createBean(spreadsheetResult);
+        }
         Object target = clazz.newInstance();
         for (SpreadsheetResultSetter spreadsheetResultSetter : spreadsheetResultSetters) {
             spreadsheetResultSetter.set(spreadsheetResult, target);
@@ -358,6 +363,10 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass {
         return beanClass != null;
     }
 
+    SpreadsheetResultBeanMapper getBeanMapper() {
+        return beanMapper;
+    }
+
     public Class<?> getBeanClass() {
         if (beanClass == null) {
             synchronized (this) {
@@ -386,9 +395,13 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass {
                             this.beanClass = loadBeanClass(beanClassName, byteCode);
                             this.beanClassByteCode = byteCode;
                             List<SpreadsheetResultSetter> sprSetters = new ArrayList<>();
+                            List<Field> mapperFields = new ArrayList<>();
+                            List<Integer> mapperKinds = new ArrayList<>();
+                            List<IOpenField> mapperOpenFields = new ArrayList<>();
                             for (Field field : beanClass.getDeclaredFields()) {
                                 if (!field.isSynthetic()) {// SONAR adds synthetic fields
                                     List<IOpenField> openFields = beanFieldsMap.get(field.getName());
+                                    int kind = -1;
                                     if (openFields != null) {
                                         for (IOpenField openField : openFields) {
                                             SpreadsheetResultValueSetter spreadsheetResultValueSetter = new SpreadsheetResultValueSetter(
@@ -396,18 +409,30 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass {
                                                 field,
                                                 openField);
                                             sprSetters.add(spreadsheetResultValueSetter);
+                                            mapperFields.add(field);
+                                            mapperKinds.add(SpreadsheetResultBeanMapper.VALUE);
+                                            mapperOpenFields.add(openField);
                                         }
                                     } else if (field.getName().equals(sprStructureFieldNames[0])) {
                                         sprSetters.add(new SpreadsheetResultRowNamesSetter(field));
+                                        kind = SpreadsheetResultBeanMapper.ROW_NAMES;
                                     } else if (field.getName().equals(sprStructureFieldNames[1])) {
                                         sprSetters.add(new SpreadsheetResultColumnNamesSetter(field));
+                                        kind = SpreadsheetResultBeanMapper.COLUMN_NAMES;
                                     } else if (field.getName().equals(sprStructureFieldNames[2])) {
                                         sprSetters.add(new SpreadsheetResultFieldNamesSetter(field, beanFieldsMap));
+                                        kind = SpreadsheetResultBeanMapper.FIELD_NAMES;
+                                    }
+                                    if (kind >= 0) {
+                                        mapperFields.add(field);
+                                        mapperKinds.add(kind);
+                                        mapperOpenFields.add(null);
                                     }
                                 }
                             }
                             this.beanFieldsMap = beanFieldsMap;
                             this.spreadsheetResultSetters = sprSetters.toArray(new SpreadsheetResultSetter[] {});
+                            this.beanMapper = createBeanMapper(mapperFields, mapperKinds, mapperOpenFields);
                         } catch (Exception e) {
                             throw new IllegalStateException(e);
                         }
@@ -421,6 +446,26 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass {
 
     }
 
+    private SpreadsheetResultBeanMapper createBeanMapper(List<Field> fields,
+            List<Integer> kinds,
+            List<IOpenField> openFields) {
+        if (!SpreadsheetResultBeanMapperGenerator.isSupported(beanClass, module.getClassGenerationClassLoader())) {
+            return null;
+        }
+        try {
+            return SpreadsheetResultBeanMapperGenerator.generate(beanClass,
+                module,
+                fields.toArray(new Field[0]),
+                kinds.stream().mapToInt(Integer::intValue).toArray(),
+                openFields.toArray(new IOpenField[0]),
+                beanFieldsMap);
+        } catch (Exception | LinkageError e) {
+            LoggerFactory.getLogger(CustomSpreadsheetResultOpenClass.class)
+                .debug("Failed to generate a mapper for the bean class '{}'.", beanClass.getName(), e);
+            return null;
+        }
+    }
+
     private List<Triple<String, Point, IOpenField>> getSortedFields() {
         return getFields().entrySet()
             .stream()
@@ -698,21 +743,26 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass {
         public void set(SpreadsheetResult spreadsheetResult, Object target) throws IllegalAccessException,
                                                                             InstantiationException {
             if (spreadsheetResult.isDetailedPlainModel()) {
-                String[][] fieldNames = new String[spreadsheetResult.getRowNames().length][spreadsheetResult
-                    .getColumnNames().length];
-                for (Map.Entry<String, List<IOpenField>> e : beanFieldsMap.entrySet()) {
-                    List<IOpenField> openFields = e.getValue();
-                    for (IOpenField openField : openFields) {
-                        Point p = spreadsheetResult.fieldsCoordinates.get(openField.getName());
-                        if (p != null && spreadsheetResult.rowNamesForResultModel[p
-                            .getRow()] != null && spreadsheetResult.columnNamesForResultModel[p.getColumn()] != null) {
-                            fieldNames[p.getRow()][p.getColumn()] = e.getKey();
-                        }
-                    }
+                field.set(target, getFieldNames(spreadsheetResult, beanFieldsMap));
+            }
+        }
+    }
+
+    static String[][] getFieldNames(SpreadsheetResult spreadsheetResult,
+            Map<String, List<IOpenField>> beanFieldsMap) {
+        String[][] fieldNames = new String[spreadsheetResult.getRowNames().length][spreadsheetResult
+            .getColumnNames().length];
+        for (Map.Entry<String, List<IOpenField>> e : beanFieldsMap.entrySet()) {
+            List<IOpenField> openFields = e.getValue();
+            for (IOpenField openField : openFields) {
+                Point p = spreadsheetResult.fieldsCoordinates.get(openField.getName());
+                if (p != null && spreadsheetResult.rowNamesForResultModel[p
+                    .getRow()] != null && spreadsheetResult.columnNamesForResultModel[p.getColumn()] != null) {
+                    fieldNames[p.getRow()][p.getColumn()] = e.getKey();
                 }
-                field.set(target, fieldNames);
             }
         }
+        return fieldNames;
     }
 
     public boolean isIgnoreCompilation() {
@@ -66,6 +66,11 @@ public class Spreadsheet extends ExecutableRulesMethod {
      */
     private boolean customSpreadsheet;
 
+    /**
+     * Formula cells grouped by levels of independent cells, if the spreadsheet is evaluated in parallel.
+     */
+    private int[][] parallelEvaluationLevels;
+
     public Spreadsheet() {
         super(null, null);
     }
@@ -136,6 +141,14 @@ public class Spreadsheet extends ExecutableRulesMethod {
         this.columnNames = colNames;
     }
 
+    public int[][] getParallelEvaluationLevels() {
+        return parallelEvaluationLevels;
+    }
+
+    public void setParallelEvaluationLevels(int[][] parallelEvaluationLevels) {
+        this.parallelEvaluationLevels = parallelEvaluationLevels;
+    }
+
     public void setResultBuilder(IResultBuilder resultBuilder) {
         this.resultBuilder = resultBuilder;
     }
@@ -15,6 +15,7 @@ import org.openl.engine.OpenLSystemProperties;
 import org.openl.message.OpenLMessagesUtils;
 import org.openl.meta.TableMetaInfo;
 import org.openl.rules.calc.element.SpreadsheetCell;
+import org.openl.rules.calc.result.SpreadsheetResultBuilder;
 import org.openl.rules.lang.xls.IXlsTableNames;
 import org.openl.rules.lang.xls.binding.AMethodBasedNode;
 import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
@@ -251,6 +252,13 @@ public class SpreadsheetBoundNode extends AMethodBasedNode implements IMemberBou
             spreadsheet.setCells(cells);
 
             spreadsheet.setResultBuilder(componentsBuilder.buildResultBuilder(spreadsheet, bindingContext));
+
+            // Only the spreadsheet result requires all cells, other results are calculated from the used cells only
+            if (spreadsheet.getResultBuilder() instanceof SpreadsheetResultBuilder && OpenLSystemProperties
+                .isSpreadsheetParallel(bindingContext.getExternalParams())) {
+                spreadsheet.setParallelEvaluationLevels(structureBuilder.buildParallelEvaluationLevels(
+                    OpenLSystemProperties.getSpreadsheetParallelThreshold(bindingContext.getExternalParams())));
+            }
         }
     }
 
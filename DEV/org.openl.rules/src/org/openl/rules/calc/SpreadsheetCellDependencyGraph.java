@@ -0,0 +1,176 @@
+package org.openl.rules.calc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.openl.binding.BindingDependencies;
+import org.openl.rules.calc.element.SpreadsheetCell;
+import org.openl.rules.calc.element.SpreadsheetCellField;
+import org.openl.rules.calc.element.SpreadsheetRangeField;
+import org.openl.types.IOpenField;
+import org.openl.types.IOpenMethod;
+import org.openl.types.impl.CompositeMethod;
+
+/**
+ * Dependencies between the formula cells of a spreadsheet. A cell is identified by its index
+ * {@code row * width + column}. Only formula cells are tracked, because values of the other cells are known before
+ * the spreadsheet is invoked.
+ *
+ * @see SpreadsheetStructureBuilder#buildParallelEvaluationLevels(int)
+ */
+public final class SpreadsheetCellDependencyGraph {
+
+    private final int width;
+    private final int methodCellsCount;
+    /**
+     * Sorted indexes of the formula cells used by the cell, or {@code null} if the cell is not a formula.
+     */
+    private final int[][] dependencies;
+
+    private SpreadsheetCellDependencyGraph(int width, int methodCellsCount, int[][] dependencies) {
+        this.width = width;
+        this.methodCellsCount = methodCellsCount;
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * Collects the cells referenced by the bound formulas of the spreadsheet cells.
+     *
+     * @return the graph or {@code null} if the references of some cell cannot be resolved, for example when the cell
+     *         method has no bound body
+     */
+    public static SpreadsheetCellDependencyGraph build(SpreadsheetCell[][] cells) {
+        int height = cells.length;
+        int width = height == 0 ? 0 : cells[0].length;
+        int[][] dependencies = new int[height * width][];
+        int methodCellsCount = 0;
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                SpreadsheetCell cell = cells[row][column];
+                if (cell == null || !cell.isMethodCell()) {
+                    continue;
+                }
+                IOpenMethod method = cell.getMethod();
+                if (!(method instanceof CompositeMethod) || ((CompositeMethod) method)
+                    .getMethodBodyBoundNode() == null) {
+                    return null;
+                }
+                BindingDependencies bindingDependencies = new BindingDependencies();
+                ((CompositeMethod) method).updateDependency(bindingDependencies);
+                BitSet used = new BitSet();
+                for (IOpenField field : bindingDependencies.getFieldsMap().values()) {
+                    if (field instanceof SpreadsheetCellField.ConstSpreadsheetCellField) {
+                        continue;
+                    }
+                    if (field instanceof SpreadsheetCellField) {
+                        if (!addCell(cells, ((SpreadsheetCellField) field).getCell(), used)) {
+                            return null;
+                        }
+                    } else if (field instanceof SpreadsheetRangeField) {
+                        SpreadsheetRangeField range = (SpreadsheetRangeField) field;
+                        SpreadsheetCell start = range.getStart().getCell();
+                        SpreadsheetCell end = range.getEnd().getCell();
+                        if (!addCell(cells, start, used) || !addCell(cells, end, used)) {
+                            return null;
+                        }
+                        for (int y = start.getRowIndex(); y <= end.getRowIndex(); y++) {
+                            for (int x = start.getColumnIndex(); x <= end.getColumnIndex(); x++) {
+                                addCell(cells, cells[y][x], used);
+                            }
+                        }
+                    }
+                }
+                dependencies[row * width + column] = used.stream().toArray();
+                methodCellsCount++;
+            }
+        }
+        return new SpreadsheetCellDependencyGraph(width, methodCellsCount, dependencies);
+    }
+
+    private static boolean addCell(SpreadsheetCell[][] cells, SpreadsheetCell cell, BitSet used) {
+        int row = cell.getRowIndex();
+        int column = cell.getColumnIndex();
+        if (row >= cells.length || column >= cells[row].length || cells[row][column] != cell) {
+            // The cell belongs to another spreadsheet
+            return false;
+        }
+        if (cell.isMethodCell()) {
+            used.set(row * cells[row].length + column);
+        }
+        return true;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getMethodCellsCount() {
+        return methodCellsCount;
+    }
+
+    /**
+     * Returns sorted indexes of the formula cells used by the given cell.
+     */
+    public int[] getDependencies(int row, int column) {
+        int[] cellDependencies = dependencies[row * width + column];
+        return cellDependencies == null ? new int[0] : cellDependencies.clone();
+    }
+
+    /**
+     * Splits the formula cells into levels: a cell depends only on the cells of the previous levels, so the cells of
+     * one level can be evaluated independently of each other.
+     *
+     * @return indexes of the cells grouped by levels or {@code null} if the cells have circular references
+     */
+    public int[][] getLevels() {
+        int[] levels = new int[dependencies.length];
+        Arrays.fill(levels, -1);
+        int maxLevel = -1;
+        for (int i = 0; i < dependencies.length; i++) {
+            if (dependencies[i] != null) {
+                int level = computeLevel(i, levels, new BitSet());
+                if (level < 0) {
+                    return null;
+                }
+                maxLevel = Math.max(maxLevel, level);
+            }
+        }
+        List<List<Integer>> grouped = new ArrayList<>();
+        for (int i = 0; i <= maxLevel; i++) {
+            grouped.add(new ArrayList<>());
+        }
+        for (int i = 0; i < levels.length; i++) {
+            if (levels[i] >= 0) {
+                grouped.get(levels[i]).add(i);
+            }
+        }
+        int[][] result = new int[grouped.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = grouped.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+
+    private int computeLevel(int cell, int[] levels, BitSet inProgress) {
+        if (levels[cell] >= 0) {
+            return levels[cell];
+        }
+        if (inProgress.get(cell)) {
+            return -1;
+        }
+        inProgress.set(cell);
+        int level = 0;
+        for (int dependency : dependencies[cell]) {
+            int dependencyLevel = computeLevel(dependency, levels, inProgress);
+            if (dependencyLevel < 0) {
+                return -1;
+            }
+            level = Math.max(level, dependencyLevel + 1);
+        }
+        inProgress.clear(cell);
+        levels[cell] = level;
+        return level;
+    }
+}
@@ -2,8 +2,10 @@ package org.openl.rules.calc;
 
 import org.openl.rules.calc.element.SpreadsheetCell;
 import org.openl.rules.method.RulesMethodInvoker;
+import org.openl.rules.vm.SimpleRulesRuntimeEnv;
 import org.openl.types.IDynamicObject;
 import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.Tracer;
 
 /**
  * Invoker for {@link Spreadsheet}.
@@ -31,6 +33,12 @@ public class SpreadsheetInvoker extends RulesMethodInvoker<Spreadsheet> {
             params,
             env,
             preFetchedResult);
+        int[][] levels = getInvokableMethod().getParallelEvaluationLevels();
+        // Recalculation of variations relies on the order of the rules calls, so it is calculated sequentially
+        if (levels != null && env instanceof SimpleRulesRuntimeEnv && ((SimpleRulesRuntimeEnv) env)
+            .isIgnoreRecalculation() && !Tracer.isEnabled()) {
+            res.evaluateInParallel(levels);
+        }
         return getInvokableMethod().getResultBuilder().buildResult(res);
     }
 
@@ -4,7 +4,9 @@ import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -390,51 +392,10 @@ public class SpreadsheetResult implements Serializable {
     public Map<String, Object> toMap(XlsModuleOpenClass module) throws InstantiationException, IllegalAccessException {
         Map<String, Object> values = new HashMap<>();
         if (columnNames != null && rowNames != null) {
-            long nonNullsColumnsCount = Arrays.stream(columnNamesForResultModel).filter(Objects::nonNull).count();
-            long nonNullsRowsCount = Arrays.stream(rowNamesForResultModel).filter(Objects::nonNull).count();
-            final boolean isDetailedPlainModel = detailedPlainModel;
-            String[][] fieldNames = isDetailedPlainModel ? new String[rowNames.length][columnNames.length] : null;
-            if (customSpreadsheetResultOpenClass != null) {
-                CustomSpreadsheetResultOpenClass csrt;
-                if (module != null) {
-                    csrt = (CustomSpreadsheetResultOpenClass) module
-                        .findType(customSpreadsheetResultOpenClass.getName());
-                } else {
-                    csrt = customSpreadsheetResultOpenClass;
-                }
-                for (Map.Entry<String, List<IOpenField>> e : csrt.getBeanFieldsMap().entrySet()) {
-                    List<IOpenField> openFields = e.getValue();
-                    for (IOpenField openField : openFields) {
-                        Point p = fieldsCoordinates.get(openField.getName());
-                        if (p != null && columnNamesForResultModel[p.getColumn()] != null && rowNamesForResultModel[p
-                            .getRow()] != null) {
-                            values.put(e.getKey(),
-                                convertSpreadsheetResults(module, getValue(p.getRow(), p.getColumn())));
-                            if (isDetailedPlainModel) {
-                                fieldNames[p.getRow()][p.getColumn()] = e.getKey();
-                            }
-                        }
-                    }
-                }
-            } else {
-                for (int i = 0; i < rowNamesForResultModel.length; i++) {
-                    for (int j = 0; j < columnNamesForResultModel.length; j++) {
-                        if (columnNamesForResultModel[j] != null && rowNamesForResultModel[i] != null) {
-                            String fName;
-                            if (nonNullsColumnsCount == 1) {
-                                fName = rowNamesForResultModel[i];
-                            } else if (nonNullsRowsCount == 1) {
-                                fName = columnNamesForResultModel[j];
-                            } else {
-                                fName = columnNamesForResultModel[j] + "_" + rowNamesForResultModel[i];
-                            }
-                            values.put(fName, convertSpreadsheetResults(module, getValue(i, j)));
-                            if (isDetailedPlainModel) {
-                                fieldNames[i][j] = fName;
-                            }
-                        }
-                    }
-                }
+            String[][] fieldNames = detailedPlainModel ? new String[rowNames.length][columnNames.length] : null;
+            for (Map.Entry<String, Point> e : getPlainModelFields(module, fieldNames).entrySet()) {
+                Point p = e.getValue();
+                values.put(e.getKey(), convertSpreadsheetResults(module, getValue(p.getRow(), p.getColumn())));
             }
             if (detailedPlainModel) {
                 values.put(values.containsKey("fieldNames") ? "$fieldNames" : "fieldNames", fieldNames);
@@ -445,6 +406,70 @@ public class SpreadsheetResult implements Serializable {
         return values;
     }
 
+    /**
+     * Returns the cells of the fields of the plain model of this result. The names of the fields are the same as in
+     * {@link #toMap(XlsModuleOpenClass)}, the fields are ordered by the cells.
+     *
+     * @param module module to find the custom spreadsheet result type, if null the type of this result is used
+     * @param fieldNames if not null, the names of the fields are set to the cells of this array
+     * @return the cells by the names of the fields
+     */
+    public Map<String, Point> getPlainModelFields(XlsModuleOpenClass module, String[][] fieldNames) {
+        Map<String, Point> fields = new HashMap<>();
+        if (columnNames == null || rowNames == null) {
+            return fields;
+        }
+        if (customSpreadsheetResultOpenClass != null) {
+            CustomSpreadsheetResultOpenClass csrt;
+            if (module != null) {
+                csrt = (CustomSpreadsheetResultOpenClass) module.findType(customSpreadsheetResultOpenClass.getName());
+            } else {
+                csrt = customSpreadsheetResultOpenClass;
+            }
+            for (Map.Entry<String, List<IOpenField>> e : csrt.getBeanFieldsMap().entrySet()) {
+                List<IOpenField> openFields = e.getValue();
+                for (IOpenField openField : openFields) {
+                    Point p = fieldsCoordinates.get(openField.getName());
+                    if (p != null && columnNamesForResultModel[p.getColumn()] != null && rowNamesForResultModel[p
+                        .getRow()] != null) {
+                        fields.put(e.getKey(), p);
+                        if (fieldNames != null) {
+                            fieldNames[p.getRow()][p.getColumn()] = e.getKey();
+                        }
+                    }
+                }
+            }
+        } else {
+            long nonNullsColumnsCount = Arrays.stream(columnNamesForResultModel).filter(Objects::nonNull).count();
+            long nonNullsRowsCount = Arrays.stream(rowNamesForResultModel).filter(Objects::nonNull).count();
+            for (int i = 0; i < rowNamesForResultModel.length; i++) {
+                for (int j = 0; j < columnNamesForResultModel.length; j++) {
+                    if (columnNamesForResultModel[j] != null && rowNamesForResultModel[i] != null) {
+                        String fName;
+                        if (nonNullsColumnsCount == 1) {
+                            fName = rowNamesForResultModel[i];
+                        } else if (nonNullsRowsCount == 1) {
+                            fName = columnNamesForResultModel[j];
+                        } else {
+                            fName = columnNamesForResultModel[j] + "_" + rowNamesForResultModel[i];
+                        }
+                        fields.put(fName, new Point(j, i));
+                        if (fieldNames != null) {
+                            fieldNames[i][j] = fName;
+                        }
+                    }
+                }
+            }
+        }
+        Map<String, Point> orderedFields = new LinkedHashMap<>();
+        fields.entrySet()
+            .stream()
+            .sorted(Comparator.comparingInt((Map.Entry<String, Point> e) -> e.getValue().getRow())
+                .thenComparingInt(e -> e.getValue().getColumn()))
+            .forEach(e -> orderedFields.put(e.getKey(), e.getValue()));
+        return orderedFields;
+    }
+
     public static Object convertSpreadsheetResults(XlsModuleOpenClass module, Object v) throws InstantiationException,
                                                                                         IllegalAccessException {
         return convertSpreadsheetResults(module, v, null);
@@ -0,0 +1,158 @@
+package org.openl.rules.calc;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
+import org.openl.rules.table.Point;
+import org.openl.types.IOpenField;
+
+/**
+ * Creates beans of a custom spreadsheet result type. The implementations are generated for every bean class by
+ * {@link SpreadsheetResultBeanMapperGenerator} and store the values directly to the fields of the bean instead of
+ * using reflection.
+ * <p>
+ * The cells of the bean fields are found once for the structure of the spreadsheet result and are reused while the
+ * spreadsheet results have the same structure.
+ */
+public abstract class SpreadsheetResultBeanMapper {
+
+    static final int VALUE = 0;
+    static final int ROW_NAMES = 1;
+    static final int COLUMN_NAMES = 2;
+    static final int FIELD_NAMES = 3;
+
+    /**
+     * Returned by {@link #getValue(SpreadsheetResult, int)} if the field of the bean must not be set.
+     */
+    protected static final Object SKIP = new Object();
+
+    private XlsModuleOpenClass module;
+    private Field[] fields;
+    private int[] kinds;
+    private IOpenField[] openFields;
+    private boolean[] processedDirectly;
+    private Map<String, List<IOpenField>> beanFieldsMap;
+    private volatile CellPlan cellPlan;
+
+    protected SpreadsheetResultBeanMapper() {
+    }
+
+    void init(XlsModuleOpenClass module,
+            Field[] fields,
+            int[] kinds,
+            IOpenField[] openFields,
+            Map<String, List<IOpenField>> beanFieldsMap) {
+        this.module = module;
+        this.fields = fields;
+        this.kinds = kinds;
+        this.openFields = openFields;
+        this.beanFieldsMap = beanFieldsMap;
+        this.processedDirectly = new boolean[openFields.length];
+        for (int i = 0; i < openFields.length; i++) {
+            // Subclasses can change how the value is read, so only these classes read the cells directly
+            Class<?> fieldClass = openFields[i] == null ? null : openFields[i].getClass();
+            processedDirectly[i] = fieldClass == CustomSpreadsheetResultField.class
+                    || fieldClass == CastingCustomSpreadsheetResultField.class;
+        }
+        for (Field field : fields) {
+            field.setAccessible(true);
+        }
+    }
+
+    public abstract Object createBean(SpreadsheetResult spreadsheetResult) throws IllegalAccessException,
+                                                                           InstantiationException;
+
+    /**
+     * Returns the converted value of the i-th field of the bean or {@link #SKIP} if the field is not used in the
+     * model of the spreadsheet result.
+     */
+    protected final Object getValue(SpreadsheetResult spreadsheetResult, int i) throws IllegalAccessException,
+                                                                                InstantiationException {
+        switch (kinds[i]) {
+            case ROW_NAMES:
+                return spreadsheetResult.isDetailedPlainModel() ? spreadsheetResult.rowNames : SKIP;
+            case COLUMN_NAMES:
+                return spreadsheetResult.isDetailedPlainModel() ? spreadsheetResult.columnNames : SKIP;
+            case FIELD_NAMES:
+                return spreadsheetResult.isDetailedPlainModel() ? CustomSpreadsheetResultOpenClass
+                    .getFieldNames(spreadsheetResult, beanFieldsMap) : SKIP;
+            default:
+                break;
+        }
+        IOpenField openField = openFields[i];
+        Object v;
+        if (spreadsheetResult.fieldsCoordinates != null) {
+            CellPlan plan = getCellPlan(spreadsheetResult);
+            int row = plan.rows[i];
+            if (row < 0) {
+                return SKIP;
+            }
+            if (processedDirectly[i]) {
+                v = ((CustomSpreadsheetResultField) openField)
+                    .processResult(spreadsheetResult.getValue(row, plan.columns[i]));
+            } else {
+                v = openField.get(spreadsheetResult, null);
+            }
+        } else {
+            if (!spreadsheetResult.isFieldUsedInModel(openField.getName())) {
+                return SKIP;
+            }
+            v = openField.get(spreadsheetResult, null);
+        }
+        return v == null ? null : SpreadsheetResult.convertSpreadsheetResults(module, v, fields[i].getType());
+    }
+
+    /**
+     * Sets the value which cannot be stored to the field directly, for example if it needs a widening conversion.
+     */
+    protected final void setValue(Object target, int i, Object value) throws IllegalAccessException {
+        fields[i].set(target, value);
+    }
+
+    private CellPlan getCellPlan(SpreadsheetResult spreadsheetResult) {
+        CellPlan plan = cellPlan;
+        if (plan == null || !plan.isFor(spreadsheetResult)) {
+            plan = new CellPlan(spreadsheetResult, openFields);
+            cellPlan = plan;
+        }
+        return plan;
+    }
+
+    /**
+     * Cells of the bean fields for one structure of spreadsheet results.
+     */
+    private static final class CellPlan {
+        private final Map<String, Point> fieldsCoordinates;
+        private final String[] rowNamesForResultModel;
+        private final String[] columnNamesForResultModel;
+        /**
+         * Rows of the cells, -1 if the field is not used in the model.
+         */
+        private final int[] rows;
+        private final int[] columns;
+
+        CellPlan(SpreadsheetResult spreadsheetResult, IOpenField[] openFields) {
+            this.fieldsCoordinates = spreadsheetResult.fieldsCoordinates;
+            this.rowNamesForResultModel = spreadsheetResult.rowNamesForResultModel;
+            this.columnNamesForResultModel = spreadsheetResult.columnNamesForResultModel;
+            this.rows = new int[openFields.length];
+            this.columns = new int[openFields.length];
+            for (int i = 0; i < openFields.length; i++) {
+                rows[i] = -1;
+                if (openFields[i] != null && spreadsheetResult.isFieldUsedInModel(openFields[i].getName())) {
+                    Point point = fieldsCoordinates.get(openFields[i].getName());
+                    rows[i] = point.getRow();
+                    columns[i] = point.getColumn();
+                }
+            }
+        }
+
+        boolean isFor(SpreadsheetResult spreadsheetResult) {
+            return fieldsCoordinates == spreadsheetResult.fieldsCoordinates
+                    && rowNamesForResultModel == spreadsheetResult.rowNamesForResultModel
+                    && columnNamesForResultModel == spreadsheetResult.columnNamesForResultModel;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package org.openl.rules.calc;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
+import org.openl.types.IOpenField;
+import org.openl.util.ClassUtils;
+
+/**
+ * Generates {@link SpreadsheetResultBeanMapper} implementations for the bean classes of custom spreadsheet result
+ * types. The generated mapper creates the bean with its constructor and stores the values to the fields with direct
+ * field instructions. A value which has not exactly the type of the field is set via reflection, so the conversions and
+ * the errors are the same as before.
+ * <p>
+ * The mapper is defined in the class loader and the package of the bean, because the fields of the bean are protected.
+ */
+final class SpreadsheetResultBeanMapperGenerator {
+
+    private static final String MAPPER_INTERNAL_NAME = Type.getInternalName(SpreadsheetResultBeanMapper.class);
+    private static final String OBJECT_INTERNAL_NAME = Type.getInternalName(Object.class);
+    private static final String GET_VALUE_DESCRIPTOR = "(" + Type
+        .getDescriptor(SpreadsheetResult.class) + "I)Ljava/lang/Object;";
+    private static final String SET_VALUE_DESCRIPTOR = "(Ljava/lang/Object;ILjava/lang/Object;)V";
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private SpreadsheetResultBeanMapperGenerator() {
+    }
+
+    /**
+     * Checks if the mapper can be defined next to the bean class.
+     */
+    static boolean isSupported(Class<?> beanClass, ClassLoader classLoader) {
+        if (beanClass.getClassLoader() != classLoader) {
+            // The bean class is loaded from another place, for example, from a jar with the generated classes
+            return false;
+        }
+        try {
+            return Class.forName(SpreadsheetResultBeanMapper.class.getName(),
+                false,
+                classLoader) == SpreadsheetResultBeanMapper.class;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    static SpreadsheetResultBeanMapper generate(Class<?> beanClass,
+            XlsModuleOpenClass module,
+            Field[] fields,
+            int[] kinds,
+            IOpenField[] openFields,
+            Map<String, List<IOpenField>> beanFieldsMap) throws Exception {
+        String className = Type.getInternalName(beanClass) + "$Mapper$" + COUNTER.incrementAndGet();
+        byte[] byteCode = byteCode(className, beanClass, fields);
+        Class<?> mapperClass = ClassUtils
+            .defineClass(className.replace('/', '.'), byteCode, beanClass.getClassLoader());
+        SpreadsheetResultBeanMapper mapper = (SpreadsheetResultBeanMapper) mapperClass.newInstance();
+        mapper.init(module, fields, kinds, openFields, beanFieldsMap);
+        return mapper;
+    }
+
+    static byte[] byteCode(String className, Class<?> beanClass, Field[] fields) {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cw.visit(Opcodes.V1_8,
+            Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER,
+            className,
+            null,
+            MAPPER_INTERNAL_NAME,
+            null);
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, MAPPER_INTERNAL_NAME, "<init>", "()V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC,
+            "createBean",
+            "(" + Type.getDescriptor(SpreadsheetResult.class) + ")Ljava/lang/Object;",
+            null,
+            new String[] { Type.getInternalName(IllegalAccessException.class),
+                    Type.getInternalName(InstantiationException.class) });
+        mv.visitCode();
+        String beanInternalName = Type.getInternalName(beanClass);
+        mv.visitTypeInsn(Opcodes.NEW, beanInternalName);
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, beanInternalName, "<init>", "()V", false);
+        mv.visitVarInsn(Opcodes.ASTORE, 2);
+
+        for (int i = 0; i < fields.length; i++) {
+            Field field = fields[i];
+            Class<?> fieldType = field.getType();
+            Label next = new Label();
+            Label fallback = new Label();
+
+            // Object value = getValue(spreadsheetResult, i)
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            pushInt(mv, i);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, MAPPER_INTERNAL_NAME, "getValue", GET_VALUE_DESCRIPTOR, false);
+            mv.visitVarInsn(Opcodes.ASTORE, 3);
+            mv.visitVarInsn(Opcodes.ALOAD, 3);
+            mv.visitFieldInsn(Opcodes.GETSTATIC, MAPPER_INTERNAL_NAME, "SKIP", "Ljava/lang/Object;");
+            mv.visitJumpInsn(Opcodes.IF_ACMPEQ, next);
+
+            // Check the type of the value
+            if (fieldType.isPrimitive()) {
+                mv.visitVarInsn(Opcodes.ALOAD, 3);
+                mv.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(ClassUtils.primitiveToWrapper(fieldType)));
+                mv.visitJumpInsn(Opcodes.IFEQ, fallback);
+            } else if (fieldType != Object.class) {
+                Label store = new Label();
+                mv.visitVarInsn(Opcodes.ALOAD, 3);
+                mv.visitJumpInsn(Opcodes.IFNULL, store);
+                mv.visitVarInsn(Opcodes.ALOAD, 3);
+                mv.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(fieldType));
+                mv.visitJumpInsn(Opcodes.IFEQ, fallback);
+                mv.visitLabel(store);
+            }
+
+            // bean.field = value
+            mv.visitVarInsn(Opcodes.ALOAD, 2);
+            mv.visitVarInsn(Opcodes.ALOAD, 3);
+            unbox(mv, fieldType);
+            mv.visitFieldInsn(Opcodes.PUTFIELD,
+                Type.getInternalName(field.getDeclaringClass()),
+                field.getName(),
+                Type.getDescriptor(fieldType));
+            mv.visitJumpInsn(Opcodes.GOTO, next);
+
+            // setValue(bean, i, value)
+            mv.visitLabel(fallback);
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitVarInsn(Opcodes.ALOAD, 2);
+            pushInt(mv, i);
+            mv.visitVarInsn(Opcodes.ALOAD, 3);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, MAPPER_INTERNAL_NAME, "setValue", SET_VALUE_DESCRIPTOR, false);
+
+            mv.visitLabel(next);
+        }
+
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static void pushInt(MethodVisitor mv, int value) {
+        if (value <= 5) {
+            mv.visitInsn(Opcodes.ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.BIPUSH, value);
+        } else if (value <= Short.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.SIPUSH, value);
+        } else {
+            mv.visitLdcInsn(value);
+        }
+    }
+
+    private static void unbox(MethodVisitor mv, Class<?> type) {
+        if (type == Object.class) {
+            return;
+        }
+        if (!type.isPrimitive()) {
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+            return;
+        }
+        String wrapper = Type.getInternalName(ClassUtils.primitiveToWrapper(type));
+        mv.visitTypeInsn(Opcodes.CHECKCAST, wrapper);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
+            wrapper,
+            type.getName() + "Value",
+            "()" + Type.getDescriptor(type),
+            false);
+    }
+}
@@ -1,10 +1,14 @@
 package org.openl.rules.calc;
 
 import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import org.openl.rules.calc.element.SpreadsheetCell;
 import org.openl.rules.calc.element.SpreadsheetCellField;
 import org.openl.rules.calc.element.SpreadsheetCellType;
+import org.openl.rules.core.ce.ServiceMT;
+import org.openl.rules.vm.SimpleRulesRuntimeEnv;
 import org.openl.types.IDynamicObject;
 import org.openl.types.IOpenClass;
 import org.openl.types.IOpenField;
@@ -94,6 +98,13 @@ public class SpreadsheetResultCalculator implements IDynamicObject {
     }
 
     public Object getValue(int row, int column) {
+        return getValue(row, column, env);
+    }
+
+    /**
+     * Returns the value of the cell, evaluating it in the given runtime environment if it has not been calculated yet.
+     */
+    public Object getValue(int row, int column, IRuntimeEnv env) {
         Object result = results[row][column];
         if (result == EMPTY_CELL) {
             return null;
@@ -112,6 +123,85 @@ public class SpreadsheetResultCalculator implements IDynamicObject {
         return result;
     }
 
+    /**
+     * Evaluates the formula cells level by level. Cells of the same level do not depend on each other, so all of them
+     * except one are submitted to {@link ServiceMT} and calculated in the copies of the runtime environment, which
+     * share the method arguments cache with it. The next level is started when all cells of the previous one are
+     * calculated. If several cells fail, the error of the first one in the level is thrown.
+     *
+     * @param levels indexes of the cells ({@code row * width + column}) grouped by levels, see
+     *            {@link SpreadsheetCellDependencyGraph#getLevels()}
+     */
+    public void evaluateInParallel(int[][] levels) {
+        int width = width();
+        SimpleRulesRuntimeEnv simpleRulesRuntimeEnv = (SimpleRulesRuntimeEnv) env;
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (int[] level : levels) {
+            CellEvaluation[] evaluations = new CellEvaluation[level.length - 1];
+            for (int i = 1; i < level.length; i++) {
+                CellEvaluation evaluation = new CellEvaluation(level[i] / width,
+                    level[i] % width,
+                    simpleRulesRuntimeEnv.cloneForParallelEvaluation(),
+                    classLoader);
+                if (ForkJoinTask.inForkJoinPool()) {
+                    evaluation.fork();
+                } else {
+                    ServiceMT.getInstance().execute(evaluation);
+                }
+                evaluations[i - 1] = evaluation;
+            }
+            Throwable error = null;
+            try {
+                getValue(level[0] / width, level[0] % width, env);
+            } catch (RuntimeException | Error e) {
+                error = e;
+            }
+            for (CellEvaluation evaluation : evaluations) {
+                if (error == null) {
+                    evaluation.join();
+                    error = evaluation.error;
+                } else {
+                    evaluation.cancel(false);
+                }
+            }
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            } else if (error != null) {
+                throw (Error) error;
+            }
+        }
+    }
+
+    private final class CellEvaluation extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int row;
+        private final int column;
+        private final IRuntimeEnv env;
+        private final ClassLoader classLoader;
+        private Throwable error;
+
+        private CellEvaluation(int row, int column, IRuntimeEnv env, ClassLoader classLoader) {
+            this.row = row;
+            this.column = column;
+            this.env = env;
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected void compute() {
+            ClassLoader oldClassLoader = Thread.currentThread().getContextClassLoader();
+            try {
+                Thread.currentThread().setContextClassLoader(classLoader);
+                getValue(row, column, env);
+            } catch (RuntimeException | Error e) {
+                error = e;
+            } finally {
+                Thread.currentThread().setContextClassLoader(oldClassLoader);
+            }
+        }
+    }
+
     public void setValue(int row, int column, Object res) {
         results[row][column] = res;
     }
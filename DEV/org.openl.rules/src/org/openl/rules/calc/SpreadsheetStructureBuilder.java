@@ -99,6 +99,25 @@ public class SpreadsheetStructureBuilder {
         return cells;
     }
 
+    /**
+     * Builds the dependency graph of the formula cells and groups the cells into levels of independent cells.
+     *
+     * @param threshold minimal number of formula cells
+     * @return the levels or {@code null} if the spreadsheet has fewer formula cells than the threshold, has no
+     *         independent cells or the dependencies of its cells cannot be resolved
+     */
+    public int[][] buildParallelEvaluationLevels(int threshold) {
+        SpreadsheetCellDependencyGraph graph = SpreadsheetCellDependencyGraph.build(getCells());
+        if (graph == null || graph.getMethodCellsCount() < threshold) {
+            return null;
+        }
+        int[][] levels = graph.getLevels();
+        if (levels == null || levels.length == graph.getMethodCellsCount()) {
+            return null;
+        }
+        return levels;
+    }
+
     /**
      * Add to {@link SpreadsheetOpenClass} fields that are represented by spreadsheet cells.
      *
@@ -42,7 +42,7 @@ public class SpreadsheetCellField extends ASpreadsheetField implements NodeDescr
             return getType().nullObject();
         }
 
-        return result.getValue(cell.getRowIndex(), cell.getColumnIndex());
+        return result.getValue(cell.getRowIndex(), cell.getColumnIndex(), env);
     }
 
     public SpreadsheetCell getCell() {
@@ -45,7 +45,7 @@ public class SpreadsheetRangeField extends ASpreadsheetField implements NodeDesc
         int i = 0;
         for (int x = sx; x <= ex; ++x) {
             for (int y = sy; y <= ey; ++y) {
-                Object v = calc.getValue(y, x);
+                Object v = calc.getValue(y, x, env);
                 IOpenCast openCast = casts[x - sx][y - sy];
                 if (openCast != null && openCast.isImplicit()) {
                     v = openCast.convert(v);
@@ -58,6 +58,14 @@ public class SpreadsheetRangeField extends ASpreadsheetField implements NodeDesc
         return array;
     }
 
+    public SpreadsheetCellField getStart() {
+        return fstart;
+    }
+
+    public SpreadsheetCellField getEnd() {
+        return fend;
+    }
+
     @Override
     public String getDescription() {
         return getType().getDisplayName(SHORT) + " " + fstart.getName() + ":" + fend.getName();
@@ -20,6 +20,8 @@ public class ColumnMatch extends ExecutableRulesMethod {
     private MatchNode checkTree;
 
     private IMatchAlgorithmExecutor algorithmExecutor;
+    /** Count of the distinct arguments which values are extracted once per call */
+    private int argumentsCount;
 
     // WEIGHT algorithm
     private MatchNode totalScore;
@@ -42,6 +44,10 @@ public class ColumnMatch extends ExecutableRulesMethod {
         return checkTree;
     }
 
+    public int getArgumentsCount() {
+        return argumentsCount;
+    }
+
     public List<TableColumn> getColumns() {
         return columns;
     }
@@ -90,6 +96,10 @@ public class ColumnMatch extends ExecutableRulesMethod {
         this.algorithmExecutor = algorithmExecutor;
     }
 
+    public void setArgumentsCount(int argumentsCount) {
+        this.argumentsCount = argumentsCount;
+    }
+
     public void setCheckTree(MatchNode checkTree) {
         this.checkTree = checkTree;
     }
@@ -5,6 +5,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.openl.rules.cmatch.algorithm.Argument;
+import org.openl.rules.cmatch.algorithm.MatchIndex;
 import org.openl.rules.cmatch.matcher.IMatcher;
 
 public class MatchNode {
@@ -22,6 +23,9 @@ public class MatchNode {
     /** Actual values in a row */
     private Object[] checkValues;
 
+    /** Index of the check values */
+    private MatchIndex index;
+
     public MatchNode(int rowIndex) {
         children = new LinkedList<>();
         this.rowIndex = rowIndex;
@@ -48,6 +52,10 @@ public class MatchNode {
         return Collections.unmodifiableList(children);
     }
 
+    public MatchIndex getIndex() {
+        return index;
+    }
+
     public IMatcher getMatcher() {
         return matcher;
     }
@@ -76,6 +84,10 @@ public class MatchNode {
         this.checkValues = checkValues;
     }
 
+    public void setIndex(MatchIndex index) {
+        this.index = index;
+    }
+
     public void setMatcher(IMatcher matcher) {
         this.matcher = matcher;
     }
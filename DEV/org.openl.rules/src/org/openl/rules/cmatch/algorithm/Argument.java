@@ -11,6 +11,10 @@ public class Argument {
      */
     private IOpenClass type;
     private IOpenField field;
+    /**
+     * Position of the extracted value in {@link ArgumentValues}, -1 if the value is not memoized
+     */
+    private int slot = -1;
 
     public Argument(int index, IOpenClass type) {
         this.index = index;
@@ -34,4 +38,12 @@ public class Argument {
     public IOpenClass getType() {
         return type;
     }
+
+    int getSlot() {
+        return slot;
+    }
+
+    void setSlot(int slot) {
+        this.slot = slot;
+    }
 }
@@ -0,0 +1,39 @@
+package org.openl.rules.cmatch.algorithm;
+
+import java.util.Arrays;
+
+import org.openl.rules.cmatch.ColumnMatch;
+import org.openl.vm.IRuntimeEnv;
+
+/**
+ * Values of the arguments of a ColumnMatch call. Each value is extracted on the first request only.
+ */
+final class ArgumentValues {
+    private static final Object NOT_EXTRACTED = new Object();
+
+    private final ColumnMatch target;
+    private final Object[] params;
+    private final IRuntimeEnv env;
+    private final Object[] values;
+
+    ArgumentValues(ColumnMatch target, Object[] params, IRuntimeEnv env) {
+        this.target = target;
+        this.params = params;
+        this.env = env;
+        values = new Object[target.getArgumentsCount()];
+        Arrays.fill(values, NOT_EXTRACTED);
+    }
+
+    Object get(Argument argument) {
+        int slot = argument.getSlot();
+        if (slot < 0 || slot >= values.length) {
+            return argument.extractValue(target, params, env);
+        }
+        Object value = values[slot];
+        if (value == NOT_EXTRACTED) {
+            value = argument.extractValue(target, params, env);
+            values[slot] = value;
+        }
+        return value;
+    }
+}
@@ -188,10 +188,37 @@ public class MatchAlgorithmCompiler implements IMatchAlgorithmCompiler {
         MatchNode rootNode = buildTree(rows, nodes);
         validateTree(rootNode, rows, nodes);
         columnMatch.setCheckTree(rootNode);
+        prepareIndexes(columnMatch);
 
         assignExecutor(columnMatch);
     }
 
+    /**
+     * Builds indexes of check values and assigns a slot to each distinct argument, so the executors extract the value
+     * of an argument once per call.
+     */
+    private void prepareIndexes(ColumnMatch columnMatch) {
+        int argumentsCount = prepareIndexes(columnMatch.getCheckTree(), 0);
+        if (columnMatch.getTotalScore() != null) {
+            argumentsCount = prepareIndexes(columnMatch.getTotalScore(), argumentsCount);
+        }
+        columnMatch.setArgumentsCount(argumentsCount);
+    }
+
+    private int prepareIndexes(MatchNode node, int argumentsCount) {
+        if (node.getMatcher() != null && node.getCheckValues() != null) {
+            node.setIndex(MatchIndex.build(node.getMatcher(), node.getCheckValues()));
+        }
+        Argument argument = node.getArgument();
+        if (argument != null && argument.getSlot() < 0) {
+            argument.setSlot(argumentsCount++);
+        }
+        for (MatchNode child : node.getChildren()) {
+            argumentsCount = prepareIndexes(child, argumentsCount);
+        }
+        return argumentsCount;
+    }
+
     protected List<ColumnDefinition> getColumnDefinition() {
         return MATCH_COLUMN_DEFINITION;
     }
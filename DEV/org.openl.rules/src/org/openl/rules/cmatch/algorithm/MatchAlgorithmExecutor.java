@@ -1,5 +1,6 @@
 package org.openl.rules.cmatch.algorithm;
 
+import java.util.BitSet;
 import java.util.List;
 
 import org.openl.rules.cmatch.ColumnMatch;
@@ -15,6 +16,7 @@ public class MatchAlgorithmExecutor implements IMatchAlgorithmExecutor {
     public Object invoke(ColumnMatch target, Object[] params, IRuntimeEnv env) {
         MatchNode checkTree = target.getCheckTree();
         Object returnValues[] = target.getReturnValues();
+        ArgumentValues argumentValues = new ArgumentValues(target, params, env);
 
         // iterate over linearized nodes
         for (MatchNode line : checkTree.getChildren()) {
@@ -22,32 +24,51 @@ public class MatchAlgorithmExecutor implements IMatchAlgorithmExecutor {
                 throw new IllegalArgumentException("Linearized MatchNode tree expected.");
             }
 
-            // find matching result value from left to right
-            for (int resultIndex = 0; resultIndex < returnValues.length; resultIndex++) {
-                boolean success = true;
-                // check that all children are MATCH at resultIndex element
-                List<MatchNode> children = line.getChildren();
-                for (MatchNode node : children) {
-                    Argument arg = node.getArgument();
-                    Object var = arg.extractValue(target, params, env);
-                    IMatcher matcher = node.getMatcher();
-                    Object checkValue = node.getCheckValues()[resultIndex];
-                    if (!matcher.match(var, checkValue)) {
-                        success = false;
-                        break;
-                    }
+            // check that all children are MATCH, columns which are not matched are removed
+            BitSet candidates = new BitSet(returnValues.length);
+            candidates.set(0, returnValues.length);
+            List<MatchNode> children = line.getChildren();
+            for (MatchNode node : children) {
+                Object var = argumentValues.get(node.getArgument());
+                retainMatched(node, var, candidates);
+                if (candidates.isEmpty()) {
+                    break;
                 }
+            }
 
-                if (success) {
-                    Object result = returnValues[resultIndex];
-                    for (MatchNode node : line.getChildren()) {
-                        Tracer.put(this, "match", target, node, resultIndex, null);
-                    }
-                    Tracer.put(this, "result", target, resultIndex, result);
-                    return result;
+            // matching result value from left to right
+            int resultIndex = candidates.nextSetBit(0);
+            if (resultIndex >= 0) {
+                Object result = returnValues[resultIndex];
+                for (MatchNode node : line.getChildren()) {
+                    Tracer.put(this, "match", target, node, resultIndex, null);
                 }
+                Tracer.put(this, "result", target, resultIndex, result);
+                return result;
             }
         }
         return NO_MATCH;
     }
+
+    static void retainMatched(MatchNode node, Object var, BitSet candidates) {
+        MatchIndex index = node.getIndex();
+        if (index != null) {
+            index.retainMatched(var, candidates);
+        } else {
+            IMatcher matcher = node.getMatcher();
+            Object[] checkValues = node.getCheckValues();
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                if (!matcher.match(var, checkValues[i])) {
+                    candidates.clear(i);
+                }
+            }
+        }
+    }
+
+    static int findFirstMatched(MatchNode node, Object var, int count) {
+        BitSet candidates = new BitSet(count);
+        candidates.set(0, count);
+        retainMatched(node, var, candidates);
+        return candidates.nextSetBit(0);
+    }
 }
@@ -0,0 +1,353 @@
+package org.openl.rules.cmatch.algorithm;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.openl.rules.cmatch.matcher.BooleanPrimitiveMatch;
+import org.openl.rules.cmatch.matcher.ClassMatchMatcher;
+import org.openl.rules.cmatch.matcher.ClassMinMaxMatcher;
+import org.openl.rules.cmatch.matcher.EnumMatchMatcher;
+import org.openl.rules.cmatch.matcher.IMatcher;
+import org.openl.rules.cmatch.matcher.NumberMatchMatcher;
+import org.openl.rules.helpers.IntRange;
+
+/**
+ * Index of the check values of a row of a ColumnMatch table. It finds the result columns matched by a value without
+ * checking the columns one by one:
+ * <ul>
+ * <li>"match" operation: the columns with exact values are found in a hash table and the columns with integer ranges
+ * are found by the sorted bounds of the ranges;</li>
+ * <li>"min" and "max" operations: the columns are found by the sorted check values.</li>
+ * </ul>
+ * Other check values are checked by the matcher. The result is always the same as checking every column with
+ * {@link IMatcher#match(Object, Object)}.
+ */
+public final class MatchIndex {
+
+    private static final Set<Class<?>> HASHABLE_TYPES = new HashSet<>(Arrays.asList(String.class,
+        Boolean.class,
+        Character.class,
+        Byte.class,
+        Short.class,
+        Integer.class,
+        Long.class,
+        Float.class,
+        Double.class,
+        BigInteger.class,
+        BigDecimal.class));
+
+    private final IMatcher matcher;
+    private final Object[] checkValues;
+
+    /**
+     * Columns of the exact values, for "match" operation.
+     */
+    private final Map<Object, BitSet> valueColumns;
+    /**
+     * Columns of the integer ranges, for "match" operation.
+     */
+    private final RangeIndex rangeIndex;
+    /**
+     * Columns of the check values of "min" and "max" operations.
+     */
+    private final OrderedIndex orderedIndex;
+    /**
+     * Columns which are checked by the matcher.
+     */
+    private final int[] scannedColumns;
+
+    private MatchIndex(IMatcher matcher,
+            Object[] checkValues,
+            Map<Object, BitSet> valueColumns,
+            RangeIndex rangeIndex,
+            OrderedIndex orderedIndex,
+            int[] scannedColumns) {
+        this.matcher = matcher;
+        this.checkValues = checkValues;
+        this.valueColumns = valueColumns;
+        this.rangeIndex = rangeIndex;
+        this.orderedIndex = orderedIndex;
+        this.scannedColumns = scannedColumns;
+    }
+
+    static MatchIndex build(IMatcher matcher, Object[] checkValues) {
+        if (matcher != null && matcher.getClass() == ClassMinMaxMatcher.class) {
+            OrderedIndex orderedIndex = OrderedIndex.build((ClassMinMaxMatcher) matcher, checkValues);
+            if (orderedIndex != null) {
+                return new MatchIndex(matcher, checkValues, null, null, orderedIndex, new int[0]);
+            }
+        } else if (isEqualityMatcher(matcher)) {
+            Map<Object, BitSet> valueColumns = new HashMap<>();
+            List<IntRange> ranges = new ArrayList<>();
+            List<Integer> rangeColumns = new ArrayList<>();
+            List<Integer> scannedColumns = new ArrayList<>();
+            // Only NumberMatchMatcher checks that a value is in a range, others compare ranges with equals
+            boolean indexRanges = matcher.getClass() == NumberMatchMatcher.class;
+            for (int i = 0; i < checkValues.length; i++) {
+                Object checkValue = checkValues[i];
+                if (checkValue == null) {
+                    // Never matches
+                    continue;
+                }
+                if (isHashable(checkValue)) {
+                    valueColumns.computeIfAbsent(checkValue, e -> new BitSet(checkValues.length)).set(i);
+                } else if (indexRanges && checkValue.getClass() == IntRange.class) {
+                    ranges.add((IntRange) checkValue);
+                    rangeColumns.add(i);
+                } else {
+                    scannedColumns.add(i);
+                }
+            }
+            return new MatchIndex(matcher,
+                checkValues,
+                valueColumns,
+                ranges.isEmpty() ? null : RangeIndex.build(ranges, rangeColumns, checkValues.length),
+                null,
+                toArray(scannedColumns));
+        }
+        List<Integer> allColumns = new ArrayList<>();
+        for (int i = 0; i < checkValues.length; i++) {
+            allColumns.add(i);
+        }
+        return new MatchIndex(matcher, checkValues, null, null, null, toArray(allColumns));
+    }
+
+    private static boolean isEqualityMatcher(IMatcher matcher) {
+        // Subclasses can change the matching, so only these classes are indexed
+        Class<?> matcherClass = matcher == null ? null : matcher.getClass();
+        return matcherClass == ClassMatchMatcher.class || matcherClass == EnumMatchMatcher.class
+                || matcherClass == BooleanPrimitiveMatch.class || matcherClass == NumberMatchMatcher.class;
+    }
+
+    /**
+     * Values of these types are equal only to values of the same type and have consistent hash codes.
+     */
+    private static boolean isHashable(Object value) {
+        return HASHABLE_TYPES.contains(value.getClass()) || value instanceof Enum;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Removes the columns which are not matched by the value from the candidates.
+     *
+     * @param var actual value
+     * @param candidates columns to check
+     */
+    public void retainMatched(Object var, BitSet candidates) {
+        if (var == null || valueColumns != null && !isHashable(var)) {
+            // Matchers define how to handle such values
+            scan(var, candidates);
+            return;
+        }
+        BitSet matched = new BitSet(checkValues.length);
+        if (valueColumns != null) {
+            BitSet columns = valueColumns.get(var);
+            if (columns != null) {
+                matched.or(columns);
+            }
+        }
+        if (rangeIndex != null) {
+            if (var instanceof Number) {
+                matched.or(rangeIndex.find(((Number) var).longValue()));
+            } else {
+                rangeIndex.scan(this, var, candidates, matched);
+            }
+        }
+        if (orderedIndex != null) {
+            matched.or(orderedIndex.find(var));
+        }
+        for (int column : scannedColumns) {
+            if (candidates.get(column) && matcher.match(var, checkValues[column])) {
+                matched.set(column);
+            }
+        }
+        candidates.and(matched);
+    }
+
+    private void scan(Object var, BitSet candidates) {
+        for (int i = candidates.nextSetBit(0); i >= 0 && i < checkValues.length; i = candidates.nextSetBit(i + 1)) {
+            if (!matcher.match(var, checkValues[i])) {
+                candidates.clear(i);
+            }
+        }
+    }
+
+    /**
+     * Columns of integer ranges by the elementary intervals between the bounds of the ranges.
+     */
+    private static final class RangeIndex {
+        private final int[] columns;
+        /**
+         * Sorted starts of the elementary intervals. The first interval starts at {@link Long#MIN_VALUE}.
+         */
+        private final long[] starts;
+        private final BitSet[] intervalColumns;
+
+        private RangeIndex(int[] columns, long[] starts, BitSet[] intervalColumns) {
+            this.columns = columns;
+            this.starts = starts;
+            this.intervalColumns = intervalColumns;
+        }
+
+        static RangeIndex build(List<IntRange> ranges, List<Integer> columns, int size) {
+            TreeSet<Long> bounds = new TreeSet<>();
+            bounds.add(Long.MIN_VALUE);
+            for (IntRange range : ranges) {
+                bounds.add(range.getMin());
+                if (range.getMax() < Long.MAX_VALUE) {
+                    bounds.add(range.getMax() + 1);
+                }
+            }
+            long[] starts = new long[bounds.size()];
+            int n = 0;
+            for (Long bound : bounds) {
+                starts[n++] = bound;
+            }
+            BitSet[] intervalColumns = new BitSet[starts.length];
+            for (int i = 0; i < starts.length; i++) {
+                intervalColumns[i] = new BitSet(size);
+            }
+            for (int r = 0; r < ranges.size(); r++) {
+                IntRange range = ranges.get(r);
+                if (range.getMin() > range.getMax()) {
+                    continue;
+                }
+                int from = Arrays.binarySearch(starts, range.getMin());
+                for (int i = from; i < starts.length && starts[i] <= range.getMax(); i++) {
+                    intervalColumns[i].set(columns.get(r));
+                }
+            }
+            return new RangeIndex(toArray(columns), starts, intervalColumns);
+        }
+
+        BitSet find(long value) {
+            int i = Arrays.binarySearch(starts, value);
+            return intervalColumns[i >= 0 ? i : -i - 2];
+        }
+
+        void scan(MatchIndex index, Object var, BitSet candidates, BitSet matched) {
+            for (int column : columns) {
+                if (candidates.get(column) && index.matcher.match(var, index.checkValues[column])) {
+                    matched.set(column);
+                }
+            }
+        }
+    }
+
+    /**
+     * Columns of "min" and "max" operations by the sorted check values.
+     */
+    private static final class OrderedIndex {
+        private final boolean maxMode;
+        private final Comparable<Object>[] values;
+        /**
+         * For "max" operation, the columns with check values greater or equal to the value. For "min" operation, the
+         * columns with check values less or equal to the value.
+         */
+        private final BitSet[] valueColumns;
+
+        private OrderedIndex(boolean maxMode, Comparable<Object>[] values, BitSet[] valueColumns) {
+            this.maxMode = maxMode;
+            this.values = values;
+            this.valueColumns = valueColumns;
+        }
+
+        @SuppressWarnings("unchecked")
+        static OrderedIndex build(ClassMinMaxMatcher matcher, Object[] checkValues) {
+            if (checkValues.length == 0) {
+                return null;
+            }
+            Integer[] columns = new Integer[checkValues.length];
+            for (int i = 0; i < checkValues.length; i++) {
+                if (!(checkValues[i] instanceof Comparable)) {
+                    // The matcher fails on such values, they are not indexed to keep the behavior
+                    return null;
+                }
+                columns[i] = i;
+            }
+            Comparator<Integer> comparator = (c1, c2) -> ((Comparable<Object>) checkValues[c1])
+                .compareTo(checkValues[c2]);
+            try {
+                Arrays.sort(columns, comparator);
+            } catch (ClassCastException e) {
+                return null;
+            }
+            List<Comparable<Object>> values = new ArrayList<>();
+            List<BitSet> valueColumns = new ArrayList<>();
+            BitSet current = new BitSet(checkValues.length);
+            for (int i = 0; i < columns.length; i++) {
+                current.set(columns[i]);
+                if (i == columns.length - 1 || comparator.compare(columns[i], columns[i + 1]) != 0) {
+                    values.add((Comparable<Object>) checkValues[columns[i]]);
+                    valueColumns.add((BitSet) current.clone());
+                }
+            }
+            boolean maxMode = matcher.isMaxMode();
+            return new OrderedIndex(maxMode,
+                values.toArray(new Comparable[0]),
+                maxMode ? toSuffixes(valueColumns) : valueColumns.toArray(new BitSet[0]));
+        }
+
+        private static BitSet[] toSuffixes(List<BitSet> prefixes) {
+            BitSet[] suffixes = new BitSet[prefixes.size()];
+            BitSet all = prefixes.get(prefixes.size() - 1);
+            for (int i = 0; i < suffixes.length; i++) {
+                suffixes[i] = (BitSet) all.clone();
+                if (i > 0) {
+                    suffixes[i].andNot(prefixes.get(i - 1));
+                }
+            }
+            return suffixes;
+        }
+
+        @SuppressWarnings("unchecked")
+        BitSet find(Object var) {
+            int low = 0;
+            int high = values.length - 1;
+            if (maxMode) {
+                // the first value which is greater or equal to var
+                int found = values.length;
+                while (low <= high) {
+                    int mid = (low + high) >>> 1;
+                    if (((Comparable<Object>) var).compareTo(values[mid]) <= 0) {
+                        found = mid;
+                        high = mid - 1;
+                    } else {
+                        low = mid + 1;
+                    }
+                }
+                return found < values.length ? valueColumns[found] : new BitSet();
+            } else {
+                // the last value which is less or equal to var
+                int found = -1;
+                while (low <= high) {
+                    int mid = (low + high) >>> 1;
+                    if (((Comparable<Object>) var).compareTo(values[mid]) >= 0) {
+                        found = mid;
+                        low = mid + 1;
+                    } else {
+                        high = mid - 1;
+                    }
+                }
+                return found >= 0 ? valueColumns[found] : new BitSet();
+            }
+        }
+    }
+}
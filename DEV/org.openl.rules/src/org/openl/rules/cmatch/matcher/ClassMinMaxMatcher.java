@@ -34,4 +34,11 @@ public class ClassMinMaxMatcher implements IMatcher {
 
         return isMaxMode ? result <= 0 : result >= 0;
     }
+
+    /**
+     * @return true if the variable must be less or equal to a check value, false if it must be greater or equal
+     */
+    public boolean isMaxMode() {
+        return isMaxMode;
+    }
 }
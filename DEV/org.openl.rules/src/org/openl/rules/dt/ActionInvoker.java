@@ -22,7 +22,7 @@ public class ActionInvoker implements Invokable {
         this.actions = actions;
     }
 
-    private Object addReturnValues(Collection<Object> returnValue, Object returnValues, boolean[] f) {
+    private static Object addReturnValues(Collection<Object> returnValue, Object returnValues, boolean[] f) {
         int returnValuesLength = Array.getLength(returnValues);
         for (int i = 0; i < returnValuesLength; i++) {
             if (f[i] && Array.get(returnValues, i) != null) {
@@ -32,7 +32,7 @@ public class ActionInvoker implements Invokable {
         return returnValue;
     }
 
-    private Object addReturnValues(Map<Object, Object> returnValue,
+    private static Object addReturnValues(Map<Object, Object> returnValue,
             Object returnValues,
             Object keyValues,
             boolean[] f) {
@@ -46,7 +46,7 @@ public class ActionInvoker implements Invokable {
     }
 
     @SuppressWarnings("unchecked")
-    private Object processReturnValue(Object returnValues, Object keyValues, boolean[] f, IOpenClass type) {
+    private static Object processReturnValue(Object returnValues, Object keyValues, boolean[] f, IOpenClass type) {
         if (type.isArray()) {
             int c = 0;
             for (int i = 0; i < f.length; i++) {
@@ -115,6 +115,19 @@ public class ActionInvoker implements Invokable {
 
     @Override
     public Object invoke(Object target, Object[] params, IRuntimeEnv env) {
+        return invoke(rules, rules.length, actions, target, params, env);
+    }
+
+    /**
+     * Executes actions for the first {@code rulesCount} rules from the given array. It allows to execute actions
+     * directly from the reusable buffer of {@link DecisionTableRuntimePool} without copying of fired rules.
+     */
+    static Object invoke(int[] rules,
+            int rulesCount,
+            IBaseAction[] actions,
+            Object target,
+            Object[] params,
+            IRuntimeEnv env) {
         Object retVal = null;
         Object keyValues = null;
         Object returnValues = null;
@@ -127,16 +140,16 @@ public class ActionInvoker implements Invokable {
                 if (returnValues == null) {
                     type = action.getType();
                     if (type.isArray()) {
-                        returnValues = Array.newInstance(type.getComponentClass().getInstanceClass(), rules.length);
+                        returnValues = Array.newInstance(type.getComponentClass().getInstanceClass(), rulesCount);
                     } else {
-                        returnValues = new Object[rules.length];
+                        returnValues = new Object[rulesCount];
                     }
                     if (f == null) {
-                        f = new boolean[rules.length];
+                        f = new boolean[rulesCount];
                         Arrays.fill(f, false);
                     }
                 }
-                for (int i = 0; i < rules.length; i++) {
+                for (int i = 0; i < rulesCount; i++) {
                     Object actionResult = action.executeAction(rules[i], target, params, env);
                     if (actionResult != null && Array.get(returnValues, i) == null) {
                         Array.set(returnValues, i, actionResult);
@@ -148,13 +161,13 @@ public class ActionInvoker implements Invokable {
             } else {
                 if (action.isCollectReturnKeyAction()) {
                     if (keyValues == null) {
-                        keyValues = new Object[rules.length];
+                        keyValues = new Object[rulesCount];
                         if (f == null) {
-                            f = new boolean[rules.length];
+                            f = new boolean[rulesCount];
                             Arrays.fill(f, false);
                         }
                     }
-                    for (int i = 0; i < rules.length; i++) {
+                    for (int i = 0; i < rulesCount; i++) {
                         Object actionResult = action.executeAction(rules[i], target, params, env);
                         if (actionResult != null && Array.get(keyValues, i) == null) {
                             Array.set(keyValues, i, actionResult);
@@ -164,7 +177,7 @@ public class ActionInvoker implements Invokable {
                 } else {
                     int i = 0;
                     Object actionResult = null;
-                    for (i = 0; i < rules.length; i++) {
+                    for (i = 0; i < rulesCount; i++) {
                         if (action.isReturnAction()) {
                             actionResult = action.executeAction(rules[i], target, params, env);
                             if (actionResult != null) {
@@ -174,7 +187,7 @@ public class ActionInvoker implements Invokable {
                             action.executeAction(rules[i], target, params, env);
                         }
                     }
-                    if (retVal == null && (actionResult != null || i < rules.length)) {
+                    if (retVal == null && (actionResult != null || i < rulesCount)) {
                         retVal = actionResult;
                         isCollectReturn = false;
                     }
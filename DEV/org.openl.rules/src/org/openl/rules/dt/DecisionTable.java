@@ -5,11 +5,13 @@ import org.openl.binding.BindingDependencies;
 import org.openl.binding.IBindingContext;
 import org.openl.binding.impl.component.ComponentOpenClass;
 import org.openl.rules.annotations.Executable;
+import org.openl.rules.binding.RulesModuleBindingContext;
 import org.openl.rules.binding.RulesBindingDependencies;
 import org.openl.rules.dt.algorithm.DecisionTableAlgorithmBuilder;
 import org.openl.rules.dt.algorithm.IAlgorithmBuilder;
 import org.openl.rules.dt.algorithm.IDecisionTableAlgorithm;
 import org.openl.rules.dt.element.ArrayHolder;
+import org.openl.rules.dt.element.Condition;
 import org.openl.rules.dt.element.FunctionalRow;
 import org.openl.rules.dt.element.IAction;
 import org.openl.rules.dt.element.ICondition;
@@ -42,6 +44,11 @@ public class DecisionTable extends ExecutableRulesMethod implements IDecisionTab
 
     private IDecisionTableAlgorithm algorithm;
 
+    /**
+     * Prepared builder of the algorithm which is built in parallel with binding of other tables.
+     */
+    private IAlgorithmBuilder preparedAlgorithmBuilder;
+
     /**
      * Object to invoke current method.
      */
@@ -158,6 +165,12 @@ public class DecisionTable extends ExecutableRulesMethod implements IDecisionTab
         this.ruleRow = ruleRow;
         this.columns = columns;
 
+        for (int i = 0; i < conditionRows.length; i++) {
+            if (conditionRows[i] instanceof Condition) {
+                ((Condition) conditionRows[i]).setConditionIndex(i);
+            }
+        }
+
         prepare(getHeader(), openl, bindingContext);
     }
 
@@ -191,7 +204,28 @@ public class DecisionTable extends ExecutableRulesMethod implements IDecisionTab
 
     private void prepare(IOpenMethodHeader header, OpenL openl, IBindingContext bindingContext) throws Exception {
         IAlgorithmBuilder algorithmBuilder = new DecisionTableAlgorithmBuilder(this, header, openl);
-        algorithm = algorithmBuilder.prepareAndBuildAlgorithm(bindingContext);
+        algorithmBuilder.prepare(bindingContext);
+        if (bindingContext instanceof RulesModuleBindingContext && ((RulesModuleBindingContext) bindingContext)
+            .isParallelBinding()) {
+            preparedAlgorithmBuilder = algorithmBuilder;
+        } else {
+            algorithm = algorithmBuilder.build();
+        }
+    }
+
+    /**
+     * Starts building of the prepared algorithm in parallel with binding of other tables. The table must not be bound
+     * again until the parallel binding is finished.
+     */
+    void buildPreparedAlgorithm(IBindingContext bindingContext) {
+        IAlgorithmBuilder algorithmBuilder = preparedAlgorithmBuilder;
+        if (algorithmBuilder != null) {
+            preparedAlgorithmBuilder = null;
+            ((RulesModuleBindingContext) bindingContext).addParallelBindTask(getSyntaxNode(), () -> {
+                algorithm = algorithmBuilder.build();
+                return null;
+            });
+        }
     }
 
     @Override
@@ -37,8 +37,12 @@ public class DecisionTableBoundNode extends AMethodBasedNode {
         }
 
         super.finalizeBind(bindingContext);
-        new DecisionTableLoader()
-            .loadAndBind(getTableSyntaxNode(), getDecisionTable(), getOpenl(), getModule(), bindingContext);
+        try {
+            new DecisionTableLoader()
+                .loadAndBind(getTableSyntaxNode(), getDecisionTable(), getOpenl(), getModule(), bindingContext);
+        } finally {
+            getDecisionTable().buildPreparedAlgorithm(bindingContext);
+        }
     }
 
     public final DecisionTable getDecisionTable() {
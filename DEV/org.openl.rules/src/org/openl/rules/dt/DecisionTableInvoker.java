@@ -1,13 +1,13 @@
 package org.openl.rules.dt;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import org.openl.binding.MethodUtil;
 import org.openl.domain.IIntIterator;
 import org.openl.rules.dt.algorithm.FailOnMissException;
 import org.openl.rules.dt.algorithm.IDecisionTableAlgorithm;
 import org.openl.rules.method.RulesMethodInvoker;
+import org.openl.rules.vm.SimpleRulesRuntimeEnv;
 import org.openl.vm.IRuntimeEnv;
 import org.openl.vm.Tracer;
 
@@ -29,33 +29,48 @@ public class DecisionTableInvoker extends RulesMethodInvoker<DecisionTable> {
 
     @Override
     public Object invokeSimple(Object target, Object[] params, IRuntimeEnv env) {
+        int conditionsCount = getInvokableMethod().getNumberOfConditions();
+        if (env instanceof SimpleRulesRuntimeEnv) {
+            SimpleRulesRuntimeEnv simpleRulesRuntimeEnv = (SimpleRulesRuntimeEnv) env;
+            DecisionTableRuntimePool pool = simpleRulesRuntimeEnv.acquireDecisionTableRuntimePool(conditionsCount);
+            try {
+                return invokeWithPool(pool, target, params, env);
+            } finally {
+                simpleRulesRuntimeEnv.releaseDecisionTableRuntimePool();
+            }
+        }
+        return invokeWithPool(new DecisionTableRuntimePool(conditionsCount), target, params, env);
+    }
+
+    private Object invokeWithPool(DecisionTableRuntimePool pool, Object target, Object[] params, IRuntimeEnv env) {
         try {
-            env.pushLocalFrame(new Object[] { new DecisionTableRuntimePool() });
-            return doInvoke(target, params, env);
+            env.pushLocalFrame(pool.getFrame());
+            return doInvoke(pool, target, params, env);
         } finally {
             env.popLocalFrame();
         }
     }
 
-    private Object doInvoke(Object target, Object[] params, IRuntimeEnv env) {
+    private Object doInvoke(DecisionTableRuntimePool pool, Object target, Object[] params, IRuntimeEnv env) {
         IDecisionTableAlgorithm algorithm = getInvokableMethod().getAlgorithm();
         IIntIterator rulesIntIterator = algorithm.checkedRules(target, params, env);
 
-        boolean atLeastOneRuleFired = false;
-        List<Integer> r = new ArrayList<>();
         while (rulesIntIterator.hasNext()) {
-            atLeastOneRuleFired = true;
-            r.add(rulesIntIterator.nextInt());
-        }
-        int[] rules = new int[r.size()];
-        int i = 0;
-        for (Integer v : r) {
-            rules[i++] = v;
+            pool.addRule(rulesIntIterator.nextInt());
         }
+        int rulesCount = pool.getRulesCount();
+        boolean atLeastOneRuleFired = rulesCount > 0;
 
         IBaseAction[] actions = getInvokableMethod().getActionRows();
 
-        Object returnValue = Tracer.invoke(new ActionInvoker(rules, actions), target, params, env, this);
+        Object returnValue;
+        if (Tracer.isEnabled()) {
+            // Traced invoker keeps the fired rules, so the reusable buffer must not be shared with it.
+            int[] rules = Arrays.copyOf(pool.getRules(), rulesCount);
+            returnValue = Tracer.invoke(new ActionInvoker(rules, actions), target, params, env, this);
+        } else {
+            returnValue = ActionInvoker.invoke(pool.getRules(), rulesCount, actions, target, params, env);
+        }
         if (returnValue != null) {
             return returnValue;
         }
@@ -1,24 +1,97 @@
 package org.openl.rules.dt;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
+/**
+ * Per invocation state of a decision table: fired rules and cached results of the conditions which do not depend on
+ * the rule parameters.
+ * <p>
+ * Instances are reused between invocations of decision tables within the same runtime environment (see
+ * {@link org.openl.rules.vm.SimpleRulesRuntimeEnv#acquireDecisionTableRuntimePool(int)}), so after warm up the pool
+ * does not allocate anything: rule ids are kept in a primitive buffer and condition results are stored in a slot array
+ * indexed by the condition number.
+ */
 public class DecisionTableRuntimePool {
 
-    private Map<String, Object> conditionExecutionPool;
+    private static final int DEFAULT_RULES_CAPACITY = 16;
 
-    public void pushConditionExecutionResultToPool(String conditionName, Object result) {
-        if (conditionExecutionPool == null) {
-            conditionExecutionPool = new HashMap<>();
+    private final Object[] frame = new Object[] { this };
+    private Object[] conditionExecutionResults = new Object[0];
+    private int conditionsCount;
+    private int[] rules = new int[DEFAULT_RULES_CAPACITY];
+    private int rulesCount;
+
+    public DecisionTableRuntimePool() {
+    }
+
+    public DecisionTableRuntimePool(int conditionsCount) {
+        reset(conditionsCount);
+    }
+
+    /**
+     * Prepares the pool for the next decision table invocation.
+     *
+     * @param conditionsCount the number of conditions in the invoked decision table
+     */
+    public void reset(int conditionsCount) {
+        if (conditionExecutionResults.length < conditionsCount) {
+            conditionExecutionResults = new Object[conditionsCount];
+        } else {
+            Arrays.fill(conditionExecutionResults, 0, this.conditionsCount, null);
+        }
+        this.conditionsCount = conditionsCount;
+        rulesCount = 0;
+    }
+
+    /**
+     * Releases references to the condition results, so they can be garbage collected while the pool is idle.
+     */
+    public void clear() {
+        Arrays.fill(conditionExecutionResults, 0, conditionsCount, null);
+        conditionsCount = 0;
+        rulesCount = 0;
+    }
+
+    public void pushConditionExecutionResultToPool(int conditionIndex, Object result) {
+        if (conditionIndex >= conditionExecutionResults.length) {
+            conditionExecutionResults = Arrays.copyOf(conditionExecutionResults, conditionIndex + 1);
         }
-        conditionExecutionPool.put(conditionName, result);
+        if (conditionIndex >= conditionsCount) {
+            conditionsCount = conditionIndex + 1;
+        }
+        conditionExecutionResults[conditionIndex] = result;
     }
 
-    public Object getConditionExecutionResult(String conditionName) {
-        if (conditionExecutionPool == null) {
+    public Object getConditionExecutionResult(int conditionIndex) {
+        if (conditionIndex >= conditionsCount) {
             return null;
         }
-        return conditionExecutionPool.get(conditionName);
+        return conditionExecutionResults[conditionIndex];
+    }
+
+    public void addRule(int rule) {
+        if (rulesCount == rules.length) {
+            rules = Arrays.copyOf(rules, rules.length << 1);
+        }
+        rules[rulesCount++] = rule;
+    }
+
+    /**
+     * Returns the internal buffer of the fired rules. Only first {@link #getRulesCount()} elements are meaningful.
+     */
+    public int[] getRules() {
+        return rules;
+    }
+
+    public int getRulesCount() {
+        return rulesCount;
+    }
+
+    /**
+     * Returns the local frame which holds this pool, so it can be pushed to the runtime environment without allocation.
+     */
+    public Object[] getFrame() {
+        return frame;
     }
 
 }
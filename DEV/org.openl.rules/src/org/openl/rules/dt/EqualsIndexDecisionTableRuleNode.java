@@ -1,26 +1,59 @@
 package org.openl.rules.dt;
 
-import org.openl.rules.dt.index.IRuleIndex;
-
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.openl.domain.BitSetIterator;
+import org.openl.domain.IIntIterator;
+import org.openl.rules.dt.index.IRuleIndex;
+
 public class EqualsIndexDecisionTableRuleNode extends DecisionTableRuleNode implements IDecisionTableRuleNodeV2 {
 
-    private final int[] rules;
+    private int[] rules;
+    private final BitSet ruleBits;
     private final IRuleIndex nextIndex;
 
     public EqualsIndexDecisionTableRuleNode(int[] rules, IRuleIndex nextIndex) {
         super(null);
         this.rules = rules;
+        this.ruleBits = null;
+        this.nextIndex = nextIndex;
+    }
+
+    /**
+     * Creates a node which rules are represented as a bit set. The bit set must not be modified after the node
+     * creation.
+     */
+    public EqualsIndexDecisionTableRuleNode(BitSet ruleBits, IRuleIndex nextIndex) {
+        super(null);
+        this.ruleBits = ruleBits;
         this.nextIndex = nextIndex;
     }
 
     @Override
     public int[] getRules() {
+        if (rules == null) {
+            rules = ruleBits.stream().toArray();
+        }
         return rules;
     }
 
+    /**
+     * @return rules as a bit set or {@code null} if the rules are represented as a sorted array
+     */
+    public BitSet getRuleBits() {
+        return ruleBits;
+    }
+
+    @Override
+    public IIntIterator getRulesIterator() {
+        if (rules == null) {
+            return new BitSetIterator(ruleBits);
+        }
+        return super.getRulesIterator();
+    }
+
     @Override
     public IRuleIndex getNextIndex() {
         return nextIndex;
@@ -34,7 +67,7 @@ public class EqualsIndexDecisionTableRuleNode extends DecisionTableRuleNode impl
     @Override
     public Set<Integer> getRuleSet() {
         Set<Integer> result = new HashSet<>();
-        for (int ruleN : rules) {
+        for (int ruleN : getRules()) {
             result.add(ruleN);
         }
         return result;
@@ -10,6 +10,7 @@ import org.openl.binding.IBoundMethodNode;
 import org.openl.binding.IBoundNode;
 import org.openl.binding.impl.TypeBoundNode;
 import org.openl.binding.impl.component.ComponentBindingContext;
+import org.openl.engine.OpenLSystemProperties;
 import org.openl.rules.dt.DecisionTable;
 import org.openl.rules.dt.DecisionTableUtils;
 import org.openl.rules.dt.algorithm.evaluator.DefaultConditionEvaluator;
@@ -118,11 +119,16 @@ public class DecisionTableAlgorithmBuilder implements IAlgorithmBuilder {
     }
 
     @Override
-    public IDecisionTableAlgorithm prepareAndBuildAlgorithm(IBindingContext bindingContext) throws Exception {
+    public void prepare(IBindingContext bindingContext) throws Exception {
         evaluators = prepareConditions(bindingContext);
         prepareActions(bindingContext);
 
-        baseInfo = new IndexInfo().withTable(table);
+        baseInfo = new IndexInfo().withTable(table)
+            .withIndexSharing(OpenLSystemProperties.isDTIndexSharing(bindingContext.getExternalParams()));
+    }
+
+    @Override
+    public IDecisionTableAlgorithm build() {
         return buildAlgorithm();
     }
 
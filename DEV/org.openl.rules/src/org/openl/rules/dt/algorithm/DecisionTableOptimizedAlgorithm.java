@@ -4,9 +4,12 @@
 package org.openl.rules.dt.algorithm;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.openl.binding.BindingDependencies;
@@ -24,6 +27,7 @@ import org.openl.rules.dt.algorithm.evaluator.DefaultConditionEvaluator;
 import org.openl.rules.dt.algorithm.evaluator.EqualsIndexedEvaluator;
 import org.openl.rules.dt.algorithm.evaluator.EqualsIndexedEvaluatorV2;
 import org.openl.rules.dt.algorithm.evaluator.IConditionEvaluator;
+import org.openl.rules.dt.algorithm.evaluator.IntervalRangeIndexEvaluator;
 import org.openl.rules.dt.data.ConditionOrActionParameterField;
 import org.openl.rules.dt.element.ConditionCasts;
 import org.openl.rules.dt.element.ConditionHelper;
@@ -51,6 +55,8 @@ import org.openl.types.java.JavaOpenClass;
 import org.openl.util.ClassUtils;
 import org.openl.vm.IRuntimeEnv;
 import org.openl.vm.Tracer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The basic algorithm for decision table (DT) evaluation is straightforward (let's consider table with conditions and
@@ -203,6 +209,8 @@ import org.openl.vm.Tracer;
  */
 public class DecisionTableOptimizedAlgorithm implements IDecisionTableAlgorithm {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DecisionTableOptimizedAlgorithm.class);
+
     /**
      * There is one evaluator per condition in DT
      */
@@ -210,11 +218,19 @@ public class DecisionTableOptimizedAlgorithm implements IDecisionTableAlgorithm
     private final IRuleIndex indexRoot;
     private final IndexInfo info;
     private BindingDependencies dependencies;
+    private List<Map<RulesKey, IRuleIndex>> sharedIndexes;
 
     DecisionTableOptimizedAlgorithm(IConditionEvaluator[] evaluators, DecisionTable table, IndexInfo info) {
         this.evaluators = initEvaluators(evaluators, table, info);
         this.info = info;
+        if (info.isIndexSharing()) {
+            sharedIndexes = new ArrayList<>();
+        }
         this.indexRoot = buildIndex(info);
+        this.sharedIndexes = null;
+        if (LOG.isDebugEnabled() && indexRoot != null) {
+            LOG.debug("Decision table '{}' index: {}", table.getName(), getIndexStatistics());
+        }
         this.dependencies = new RulesBindingDependencies();
         table.updateDependency(dependencies);
     }
@@ -306,6 +322,13 @@ public class DecisionTableOptimizedAlgorithm implements IDecisionTableAlgorithm
             IRangeAdaptor<? extends Object, ? extends Comparable<?>> rangeAdaptor = getRangeAdaptor(inputParamType,
                 conditionParamType);
 
+            if (rangeAdaptor instanceof IntRangeAdaptor || rangeAdaptor instanceof DoubleRangeAdaptor ||
+                rangeAdaptor instanceof DateRangeAdaptor) {
+                return new IntervalRangeIndexEvaluator(
+                    (IRangeAdaptor<Object, ? extends Comparable<Object>>) rangeAdaptor,
+                    ConditionHelper.getConditionCastsWithNoCasts());
+            }
+
             if (rangeAdaptor != null) {
                 return new CombinedRangeIndexEvaluator(
                     (IRangeAdaptor<Object, ? extends Comparable<Object>>) rangeAdaptor,
@@ -427,12 +450,38 @@ public class DecisionTableOptimizedAlgorithm implements IDecisionTableAlgorithm
 
     private void indexNode(DecisionTableRuleNode node, int condN, IndexInfo info) {
         ConditionToEvaluatorHolder pair = evaluators[condN];
+        if (sharedIndexes == null) {
+            IRuleIndex nodeIndex = pair.makeIndex(node.getRulesIterator());
+            node.setNextIndex(nodeIndex);
+            indexNodes(nodeIndex, condN + 1, info);
+            return;
+        }
+
+        // The subtree depends only on the rules of the node and on the condition level, so it can be shared
+        while (sharedIndexes.size() <= condN) {
+            sharedIndexes.add(new HashMap<>());
+        }
+        Map<RulesKey, IRuleIndex> levelIndexes = sharedIndexes.get(condN);
+        RulesKey key = new RulesKey(node.getRules());
+        if (levelIndexes.containsKey(key)) {
+            node.setNextIndex(levelIndexes.get(key));
+            return;
+        }
         IRuleIndex nodeIndex = pair.makeIndex(node.getRulesIterator());
+        levelIndexes.put(key, nodeIndex);
         node.setNextIndex(nodeIndex);
-
         indexNodes(nodeIndex, condN + 1, info);
     }
 
+    /**
+     * Collects the memory footprint report of the index tree.
+     *
+     * @return index statistics or null if the table is not indexed
+     */
+    public IndexStatistics getIndexStatistics() {
+        return indexRoot == null ? null : IndexStatistics.collect(indexRoot);
+    }
+
     private Object evaluateTestValue(ICondition condition, Object target, Object[] dtparams, IRuntimeEnv env) {
         return condition.getEvaluator().invoke(target, dtparams, env);
     }
@@ -527,6 +576,27 @@ public class DecisionTableOptimizedAlgorithm implements IDecisionTableAlgorithm
         return iterator;
     }
 
+    private static final class RulesKey {
+
+        private final int[] rules;
+        private final int hash;
+
+        RulesKey(int[] rules) {
+            this.rules = rules;
+            this.hash = Arrays.hashCode(rules);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof RulesKey && hash == ((RulesKey) o).hash && Arrays.equals(rules, ((RulesKey) o).rules);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     private static class ConditionToEvaluatorHolder implements Comparable<ConditionToEvaluatorHolder> {
 
         private final IndexInfo localInfo;
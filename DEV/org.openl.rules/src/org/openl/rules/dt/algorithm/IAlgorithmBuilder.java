@@ -4,6 +4,19 @@ import org.openl.binding.IBindingContext;
 
 public interface IAlgorithmBuilder {
 
-    IDecisionTableAlgorithm prepareAndBuildAlgorithm(IBindingContext bindingContext) throws Exception;
+    /**
+     * Binds conditions and actions of the table.
+     */
+    void prepare(IBindingContext bindingContext) throws Exception;
+
+    /**
+     * Builds the algorithm of the prepared table. Does not use the binding context.
+     */
+    IDecisionTableAlgorithm build();
+
+    default IDecisionTableAlgorithm prepareAndBuildAlgorithm(IBindingContext bindingContext) throws Exception {
+        prepare(bindingContext);
+        return build();
+    }
 
 }
@@ -14,6 +14,7 @@ public class IndexInfo {
     private int toRule;
 
     private int step = 1;
+    private boolean indexSharing;
 
     IndexInfo withTable(DecisionTable t) {
         table = t;
@@ -26,9 +27,22 @@ public class IndexInfo {
         return table;
     }
 
+    IndexInfo withIndexSharing(boolean indexSharing) {
+        this.indexSharing = indexSharing;
+        return this;
+    }
+
+    /**
+     * If true, nodes of the same condition level with the same set of rules share one index subtree.
+     */
+    boolean isIndexSharing() {
+        return indexSharing;
+    }
+
     IndexInfo makeVerticalInfo() {
         DTInfo dti = table.getDtInfo();
         return new IndexInfo().withTable(table)
+            .withIndexSharing(indexSharing)
             .withToCondition(dti.getNumberVConditions() - 1)
             .withToRule(dti.getScale().getHScale().getMultiplier() - 1);
     }
@@ -41,6 +55,7 @@ public class IndexInfo {
         int hSize = dts.getHScale().getMultiplier();
 
         return new IndexInfo().withTable(table)
+            .withIndexSharing(indexSharing)
             .withFromCondition(dti.getNumberVConditions())
             .withToCondition(toCondition)
             .withToRule((vSize - 1) * hSize)
@@ -0,0 +1,115 @@
+package org.openl.rules.dt.algorithm;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.openl.rules.dt.DecisionTableRuleNode;
+import org.openl.rules.dt.index.IRuleIndex;
+
+/**
+ * Memory footprint report of the decision table index tree. Shared index subtrees are counted once.
+ * <p>
+ * The estimated size covers rule nodes and rule arrays of leaf nodes only, lookup structures of the indexes are not
+ * included. It is intended to compare the layouts of the same table, not to measure the retained heap precisely.
+ */
+public final class IndexStatistics {
+
+    private static final int OBJECT_SIZE = 16;
+    private static final int REFERENCE_SIZE = 8;
+    private static final int NODE_SIZE = OBJECT_SIZE + 2 * REFERENCE_SIZE;
+    private static final int ARRAY_SIZE = 16;
+
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int indexes;
+    private int sharedIndexReferences;
+    private int nodes;
+    private int leafNodes;
+    private long ruleReferences;
+
+    private IndexStatistics() {
+    }
+
+    static IndexStatistics collect(IRuleIndex root) {
+        IndexStatistics statistics = new IndexStatistics();
+        statistics.visitIndex(root);
+        statistics.visited.clear();
+        return statistics;
+    }
+
+    private void visitIndex(IRuleIndex index) {
+        if (index == null) {
+            return;
+        }
+        if (!visited.add(index)) {
+            sharedIndexReferences++;
+            return;
+        }
+        indexes++;
+        for (DecisionTableRuleNode node : index.nodes()) {
+            visitNode(node);
+        }
+        visitNode(index.getEmptyOrFormulaNodes());
+    }
+
+    private void visitNode(DecisionTableRuleNode node) {
+        if (node == null || !visited.add(node)) {
+            return;
+        }
+        nodes++;
+        if (node.hasIndex()) {
+            visitIndex(node.getNextIndex());
+        } else {
+            leafNodes++;
+            ruleReferences += node.getRules().length;
+        }
+    }
+
+    /**
+     * @return the number of distinct indexes in the tree
+     */
+    public int getIndexes() {
+        return indexes;
+    }
+
+    /**
+     * @return the number of references to the indexes which have been already counted
+     */
+    public int getSharedIndexReferences() {
+        return sharedIndexReferences;
+    }
+
+    public int getNodes() {
+        return nodes;
+    }
+
+    public int getLeafNodes() {
+        return leafNodes;
+    }
+
+    /**
+     * @return the total length of the rule arrays of leaf nodes
+     */
+    public long getRuleReferences() {
+        return ruleReferences;
+    }
+
+    /**
+     * @return the estimated size of rule nodes and leaf rule arrays in bytes
+     */
+    public long getEstimatedSize() {
+        return (long) nodes * NODE_SIZE + (long) leafNodes * ARRAY_SIZE + ruleReferences * Integer.BYTES;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "indexes=%d, sharedIndexReferences=%d, nodes=%d, leafNodes=%d, ruleReferences=%d, estimatedSize=%d",
+            indexes,
+            sharedIndexReferences,
+            nodes,
+            leafNodes,
+            ruleReferences,
+            getEstimatedSize());
+    }
+}
@@ -0,0 +1,57 @@
+package org.openl.rules.dt.algorithm.evaluator;
+
+import java.util.Arrays;
+
+import org.openl.domain.IIntIterator;
+import org.openl.rules.dt.DecisionTableRuleNodeBuilder;
+import org.openl.rules.dt.element.ConditionCasts;
+import org.openl.rules.dt.element.ICondition;
+import org.openl.rules.dt.index.IRuleIndex;
+import org.openl.rules.dt.index.IntervalRangeIndex;
+import org.openl.rules.dt.type.IRangeAdaptor;
+
+/**
+ * Evaluator for range conditions which bounds can be represented as primitive keys (integer, double and date ranges).
+ * It builds {@link IntervalRangeIndex} which handles overlapping ranges without scanning all of them.
+ */
+public class IntervalRangeIndexEvaluator extends ARangeIndexEvaluator {
+
+    public IntervalRangeIndexEvaluator(IRangeAdaptor<Object, ? extends Comparable<Object>> rangeAdaptor,
+            ConditionCasts conditionCasts) {
+        super(rangeAdaptor, 1, conditionCasts);
+    }
+
+    @Override
+    public IRuleIndex makeIndex(ICondition condition, IIntIterator it) {
+        if (it.size() < 1) {
+            return null;
+        }
+        DecisionTableRuleNodeBuilder nextNodeBuilder = new DecisionTableRuleNodeBuilder();
+        DecisionTableRuleNodeBuilder emptyRulesBuilder = new DecisionTableRuleNodeBuilder();
+        long[] mins = new long[it.size()];
+        long[] maxs = new long[it.size()];
+        int[] rules = new int[it.size()];
+        int count = 0;
+        while (it.hasNext()) {
+            int ruleN = it.nextInt();
+            nextNodeBuilder.addRule(ruleN);
+            Object range = conditionCasts.castToInputType(condition.getParamValue(0, ruleN));
+            if (range == null) {
+                emptyRulesBuilder.addRule(ruleN);
+                continue;
+            }
+            Comparable<Object> vFrom = rangeAdaptor.getMin(range);
+            Comparable<Object> vTo = rangeAdaptor.getMax(range);
+            mins[count] = vFrom == null ? Long.MIN_VALUE : IntervalRangeIndex.toKey(vFrom);
+            maxs[count] = vTo == null ? Long.MAX_VALUE : IntervalRangeIndex.toKey(vTo);
+            rules[count] = ruleN;
+            count++;
+        }
+        return new IntervalRangeIndex(nextNodeBuilder.makeNode(),
+            rangeAdaptor,
+            Arrays.copyOf(mins, count),
+            Arrays.copyOf(maxs, count),
+            Arrays.copyOf(rules, count),
+            emptyRulesBuilder.makeRulesAry());
+    }
+}
@@ -44,6 +44,7 @@ public class Condition extends FunctionalRow implements ICondition {
     private IOpenSourceCodeModule userDefinedOpenSourceCodeModule;
     private boolean conditionParametersUsed;
     private boolean ruleIdOrRuleNameUsed;
+    private int conditionIndex;
 
     public Condition(String name, int row, ILogicalTable table, DTScale.RowScale scale) {
         super(name, row, table, scale);
@@ -59,6 +60,18 @@ public class Condition extends FunctionalRow implements ICondition {
         this.conditionEvaluator = conditionEvaluator;
     }
 
+    /**
+     * Returns the number of this condition in the decision table. It is used as a slot index of the condition result in
+     * {@link DecisionTableRuntimePool}.
+     */
+    public int getConditionIndex() {
+        return conditionIndex;
+    }
+
+    public void setConditionIndex(int conditionIndex) {
+        this.conditionIndex = conditionIndex;
+    }
+
     @Override
     public boolean isAction() {
         return false;
@@ -97,10 +110,10 @@ public class Condition extends FunctionalRow implements ICondition {
              * to execute expression per each ruleNumber cause the result will be always the same.
              */
             DecisionTableRuntimePool runtimePool = (DecisionTableRuntimePool) env.getLocalFrame()[0];
-            DecisionValue decisionValue = (DecisionValue) runtimePool.getConditionExecutionResult(getName());
+            DecisionValue decisionValue = (DecisionValue) runtimePool.getConditionExecutionResult(conditionIndex);
             if (decisionValue == null) {
                 decisionValue = makeDecision(ruleN, target, dtParams, env);
-                runtimePool.pushConditionExecutionResultToPool(getName(), decisionValue);
+                runtimePool.pushConditionExecutionResultToPool(conditionIndex, decisionValue);
             }
             return decisionValue;
         }
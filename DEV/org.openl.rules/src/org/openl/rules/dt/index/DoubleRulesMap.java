@@ -0,0 +1,61 @@
+package org.openl.rules.dt.index;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.openl.rules.dt.algorithm.evaluator.FloatTypeComparator;
+import org.openl.rules.helpers.NumberUtils;
+
+/**
+ * {@link RulesMap} for floating point values. Keys are kept in a sorted primitive array and are looked up with binary
+ * search. Two values are treated as equal with the same tolerance as {@link FloatTypeComparator} does.
+ */
+final class DoubleRulesMap implements RulesMap {
+
+    private final double[] keys;
+
+    /**
+     * @param map a map sorted by {@link FloatTypeComparator}
+     */
+    DoubleRulesMap(Map<Object, ?> map) {
+        this.keys = new double[map.size()];
+        int i = 0;
+        for (Object key : map.keySet()) {
+            keys[i++] = NumberUtils.convertToDouble(key);
+        }
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        Double d = NumberUtils.convertToDouble(value);
+        if (d == null) {
+            return -1;
+        }
+        return indexOf(d.doubleValue());
+    }
+
+    int indexOf(double key) {
+        int i = Arrays.binarySearch(keys, key);
+        if (i >= 0) {
+            return i;
+        }
+        // Check the nearest neighbours of the insertion point
+        int insertionPoint = -(i + 1);
+        double ulp = Math.ulp(key);
+        int found = -1;
+        double delta = Double.POSITIVE_INFINITY;
+        if (insertionPoint < keys.length && Math.abs(key - keys[insertionPoint]) <= ulp) {
+            found = insertionPoint;
+            delta = Math.abs(key - keys[insertionPoint]);
+        }
+        if (insertionPoint > 0 && Math.abs(key - keys[insertionPoint - 1]) <= Math.min(ulp, delta)) {
+            found = insertionPoint - 1;
+        }
+        return found;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+}
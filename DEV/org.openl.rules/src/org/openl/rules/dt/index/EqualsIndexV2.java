@@ -20,9 +20,18 @@ public class EqualsIndexV2 implements IRuleIndex {
 
     private static final int[] EMPTY_ARRAY = new int[0];
 
+    /**
+     * Sorted arrays are intersected with binary search instead of linear merge when one of the arrays is smaller than
+     * the other one by this factor.
+     */
+    private static final int BINARY_SEARCH_INTERSECTION_RATIO = 8;
+
     private final DecisionTableRuleNode emptyNodeStub = new DecisionTableRuleNodeBuilder().makeNode();
 
-    private Map<Object, int[]> index;
+    private RulesMap index;
+    private int[][] rules;
+    private BitSet[] ruleBits;
+    private BitSet emptyRuleBits;
     private int[] emptyRules;
     private DecisionTableRuleNode nextNode;
     private int rulesTotalSize;
@@ -32,44 +41,123 @@ public class EqualsIndexV2 implements IRuleIndex {
             Map<Object, int[]> index,
             int[] emptyRules,
             ConditionCasts conditionCasts) {
-        this.index = Collections.unmodifiableMap(index);
+        this.index = RulesMaps.create(index);
+        this.rules = index.values().toArray(new int[0][]);
         this.emptyRules = emptyRules;
         this.nextNode = nextNode;
         this.rulesTotalSize = nextNode.getRules().length;
         this.conditionCasts = Objects.requireNonNull(conditionCasts, "conditionCasts cannot be null");
+        if (isDense(nextNode.getRules(), rules, emptyRules)) {
+            initRuleBits();
+        }
     }
 
-    private int[] findIndex(Object value) {
-        int[] result = null;
+    /**
+     * Checks if rule sets of the index are dense enough to be stored as bit sets. A bit set of the index takes one bit
+     * per each rule of the table, while a sorted array takes 32 bits per each matched rule. Bit sets include empty
+     * rules, so they are intersected without merging with empty rules.
+     */
+    private static boolean isDense(int[] allRules, int[][] rules, int[] emptyRules) {
+        if (rules.length == 0 || allRules.length == 0) {
+            return false;
+        }
+        int maxRule = 0;
+        for (int ruleN : allRules) {
+            maxRule = Math.max(maxRule, ruleN);
+        }
+        long bitSetsSize = (long) rules.length * (maxRule + 1);
+        long arraysSize = (long) rules.length * emptyRules.length;
+        for (int[] valueRules : rules) {
+            arraysSize += valueRules.length;
+        }
+        return bitSetsSize <= arraysSize * Integer.SIZE;
+    }
+
+    private void initRuleBits() {
+        emptyRuleBits = toBitSet(emptyRules);
+        ruleBits = new BitSet[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            BitSet bits = toBitSet(rules[i]);
+            bits.or(emptyRuleBits);
+            ruleBits[i] = bits;
+        }
+        // rules arrays are not needed for lookup
+        rules = null;
+    }
+
+    private static BitSet toBitSet(int[] rules) {
+        BitSet bits = new BitSet();
+        for (int ruleN : rules) {
+            bits.set(ruleN);
+        }
+        return bits;
+    }
+
+    private int findIndex(Object value) {
         if (value != null) {
             value = conditionCasts.castToConditionType(value);
-            result = index.get(value);
+            return index.indexOf(value);
         }
-        return result == null ? EMPTY_ARRAY : result;
+        return -1;
     }
 
     @Override
     public DecisionTableRuleNode findNode(Object value, DecisionTableRuleNode prevResult) {
-        return new EqualsIndexDecisionTableRuleNode(findRules(value, prevResult), nextNode.getNextIndex());
+        int i = findIndex(value);
+        if (ruleBits != null) {
+            BitSet bits = i < 0 ? emptyRuleBits : ruleBits[i];
+            if (prevResult instanceof IDecisionTableRuleNodeV2) {
+                return intersect(bits, (IDecisionTableRuleNodeV2) prevResult);
+            }
+            // index bit sets are never modified, so they can be shared with a result node
+            return new EqualsIndexDecisionTableRuleNode(bits, nextNode.getNextIndex());
+        }
+        int[] valueRules = i < 0 ? EMPTY_ARRAY : rules[i];
+        return new EqualsIndexDecisionTableRuleNode(findRules(valueRules, prevResult), nextNode.getNextIndex());
+    }
+
+    private DecisionTableRuleNode intersect(BitSet bits, IDecisionTableRuleNodeV2 prevResult) {
+        BitSet prevBits = getRuleBits(prevResult);
+        if (prevBits != null) {
+            BitSet result = (BitSet) prevBits.clone();
+            result.and(bits);
+            return new EqualsIndexDecisionTableRuleNode(result, nextNode.getNextIndex());
+        }
+        int[] prevRes = prevResult.getRules();
+        int[] result = new int[prevRes.length];
+        int k = 0;
+        for (int ruleN : prevRes) {
+            if (bits.get(ruleN)) {
+                result[k++] = ruleN;
+            }
+        }
+        return new EqualsIndexDecisionTableRuleNode(trim(result, k), nextNode.getNextIndex());
     }
 
-    private int[] findRules(Object value, DecisionTableRuleNode prevResult) {
+    private int[] findRules(int[] valueRules, DecisionTableRuleNode prevResult) {
         if (!(prevResult instanceof IDecisionTableRuleNodeV2)) {
-            int[] rules = findIndex(value);
-            rules = combineSortedArrays(rules, emptyRules);
-            return rules;
+            return combineSortedArrays(valueRules, emptyRules);
+        }
+        BitSet prevBits = getRuleBits((IDecisionTableRuleNodeV2) prevResult);
+        if (prevBits != null) {
+            return filterSortedArrays(valueRules, emptyRules, prevBits);
+        }
+        return getResultAndIntersect(valueRules, (IDecisionTableRuleNodeV2) prevResult);
+    }
+
+    private static BitSet getRuleBits(IDecisionTableRuleNodeV2 node) {
+        if (node instanceof EqualsIndexDecisionTableRuleNode) {
+            return ((EqualsIndexDecisionTableRuleNode) node).getRuleBits();
         }
-        return getResultAndIntersect(value, (IDecisionTableRuleNodeV2) prevResult);
+        return null;
     }
 
-    private int[] getResultAndIntersect(Object value, IDecisionTableRuleNodeV2 prevResult) {
+    private int[] getResultAndIntersect(int[] valueRules, IDecisionTableRuleNodeV2 prevResult) {
         int[] prevRes = prevResult.getRules();
         if (prevRes.length == 0) {
             return EMPTY_ARRAY;
         }
-        int[] rules = findIndex(value);
-        rules = combineSortedArrays(rules, emptyRules);
-        return intersectionSortedArrays(rules, prevRes);
+        return intersectionSortedArrays(prevRes, valueRules, emptyRules);
     }
 
     @Override
@@ -81,7 +169,18 @@ public class EqualsIndexV2 implements IRuleIndex {
     public int[] collectRules() {
         int[] result = new int[rulesTotalSize];
         int k = 0;
-        for (int[] arr : index.values()) {
+        if (ruleBits != null) {
+            BitSet all = new BitSet();
+            for (BitSet bits : ruleBits) {
+                all.or(bits);
+            }
+            all.or(emptyRuleBits);
+            for (int ruleN = all.nextSetBit(0); ruleN >= 0; ruleN = all.nextSetBit(ruleN + 1)) {
+                result[k++] = ruleN;
+            }
+            return trim(result, k);
+        }
+        for (int[] arr : rules) {
             for (int ruleN : arr) {
                 result[k++] = ruleN;
             }
@@ -127,29 +226,70 @@ public class EqualsIndexV2 implements IRuleIndex {
     }
 
     /**
-     * Find an intersection between two sorted arrays. Time Complexity: O(a.length + b.length)
+     * Finds an intersection between the first sorted array and a union of two other sorted arrays without building
+     * the union. When the first array is much smaller than the union, its elements are looked up with binary search:
+     * O(a.length * log(b.length + c.length)). Otherwise the arrays are merged: O(a.length + b.length + c.length).
      *
      * @param a first array
      * @param b second array
+     * @param c third array
      * @return a new array which contains common elements
      */
-    private static int[] intersectionSortedArrays(int[] a, int[] b) {
-        int[] result = new int[Math.min(a.length, b.length)];
-        int i = 0, j = 0, k = 0;
-        while (i < a.length && j < b.length) {
-            if (a[i] < b[j]) {
+    private static int[] intersectionSortedArrays(int[] a, int[] b, int[] c) {
+        int[] result = new int[Math.min(a.length, b.length + c.length)];
+        int k = 0;
+        if ((long) a.length * BINARY_SEARCH_INTERSECTION_RATIO < b.length + c.length) {
+            for (int ruleN : a) {
+                if (Arrays.binarySearch(b, ruleN) >= 0 || Arrays.binarySearch(c, ruleN) >= 0) {
+                    result[k++] = ruleN;
+                }
+            }
+        } else {
+            int i = 0, j = 0, l = 0;
+            while (i < a.length && (j < b.length || l < c.length)) {
+                int ruleN = a[i];
+                while (j < b.length && b[j] < ruleN) {
+                    j++;
+                }
+                while (l < c.length && c[l] < ruleN) {
+                    l++;
+                }
+                if (j < b.length && b[j] == ruleN || l < c.length && c[l] == ruleN) {
+                    result[k++] = ruleN;
+                }
                 i++;
-            } else if (b[j] < a[i]) {
-                j++;
+            }
+        }
+        return trim(result, k);
+    }
+
+    /**
+     * Merges two sorted arrays leaving only the elements which are present in the given bit set. Time Complexity:
+     * O(a.length + b.length)
+     */
+    private static int[] filterSortedArrays(int[] a, int[] b, BitSet bits) {
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length || j < b.length) {
+            int ruleN;
+            if (j >= b.length || i < a.length && a[i] < b[j]) {
+                ruleN = a[i++];
             } else {
-                result[k++] = b[j++];
-                i++;
+                ruleN = b[j++];
+            }
+            if (bits.get(ruleN)) {
+                result[k++] = ruleN;
             }
         }
-        if (result.length != k) {
-            int[] res = new int[k];
-            System.arraycopy(result, 0, res, 0, k);
-            return res;
+        return trim(result, k);
+    }
+
+    private static int[] trim(int[] result, int length) {
+        if (length == 0) {
+            return EMPTY_ARRAY;
+        }
+        if (result.length != length) {
+            return Arrays.copyOf(result, length);
         }
         return result;
     }
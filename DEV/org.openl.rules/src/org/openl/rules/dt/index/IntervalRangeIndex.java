@@ -0,0 +1,244 @@
+package org.openl.rules.dt.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+import org.openl.rules.dt.DecisionTableRuleNode;
+import org.openl.rules.dt.DecisionTableRuleNodeBuilder;
+import org.openl.rules.dt.EqualsIndexDecisionTableRuleNode;
+import org.openl.rules.dt.IDecisionTableRuleNodeV2;
+import org.openl.rules.dt.type.IRangeAdaptor;
+
+/**
+ * Range index for decision tables which is backed by a static centered interval tree. Each rule is the half-open
+ * interval {@code [min, max)} of primitive keys, a lookup is a stabbing query which takes O(log n + k) time for k
+ * matched rules regardless of how much the ranges overlap.
+ * <p>
+ * The tree is stored in flat primitive arrays. Every node keeps the intervals which contain its center twice: sorted
+ * by the lower bound ascending and by the upper bound descending, so only the matched intervals are visited.
+ *
+ * @see #toKey(Object)
+ */
+public class IntervalRangeIndex implements IRuleIndex {
+
+    private static final int[] EMPTY_ARRAY = new int[0];
+    private static final int INITIAL_RESULT_CAPACITY = 16;
+
+    private final DecisionTableRuleNode emptyNodeStub = new DecisionTableRuleNodeBuilder().makeNode();
+    private final DecisionTableRuleNode nextNode;
+    private final IRangeAdaptor<?, ?> adaptor;
+    private final int[] emptyRules;
+    private final int[] allRules;
+
+    private final int root;
+    private final long[] centers;
+    private final int[] leftNodes;
+    private final int[] rightNodes;
+    private final int[] nodeFrom;
+    private final int[] nodeTo;
+
+    private final long[] starts;
+    private final int[] startRules;
+    private final long[] ends;
+    private final int[] endRules;
+
+    private int nodesCount;
+    private int intervalsCount;
+
+    /**
+     * @param nextNode the node with all rules of the index
+     * @param adaptor range adaptor to convert looked up values
+     * @param mins lower bounds (inclusive) of the rule intervals, converted with {@link #toKey(Object)}
+     * @param maxs upper bounds (exclusive) of the rule intervals, converted with {@link #toKey(Object)}
+     * @param rules rule numbers of the intervals
+     * @param emptyRules rules without a range, they are matched by any value
+     */
+    public IntervalRangeIndex(DecisionTableRuleNode nextNode,
+            IRangeAdaptor<?, ?> adaptor,
+            long[] mins,
+            long[] maxs,
+            int[] rules,
+            int[] emptyRules) {
+        this.nextNode = nextNode;
+        this.adaptor = adaptor;
+        this.emptyRules = emptyRules;
+
+        int n = rules.length;
+        this.centers = new long[n];
+        this.leftNodes = new int[n];
+        this.rightNodes = new int[n];
+        this.nodeFrom = new int[n];
+        this.nodeTo = new int[n];
+        this.starts = new long[n];
+        this.startRules = new int[n];
+        this.ends = new long[n];
+        this.endRules = new int[n];
+
+        // Intervals with min >= max are never matched
+        Integer[] intervals = new Integer[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (mins[i] < maxs[i]) {
+                intervals[count++] = i;
+            }
+        }
+        this.root = build(Arrays.copyOf(intervals, count), mins, maxs, rules);
+
+        int[] all = Arrays.copyOf(rules, rules.length + emptyRules.length);
+        System.arraycopy(emptyRules, 0, all, rules.length, emptyRules.length);
+        Arrays.sort(all);
+        this.allRules = all;
+    }
+
+    /**
+     * Converts a range bound or a looked up value to a primitive key. Long values are used as is, double values are
+     * mapped to long keys with the same order as {@link Double#compareTo(Double)} has.
+     */
+    public static long toKey(Object value) {
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        if (value instanceof Double) {
+            long bits = Double.doubleToLongBits((Double) value);
+            return bits ^ (bits >> 63 & Long.MAX_VALUE);
+        }
+        throw new IllegalArgumentException(String.format("Unsupported range index value type '%s'.",
+            value == null ? null : value.getClass().getTypeName()));
+    }
+
+    private int build(Integer[] intervals, long[] mins, long[] maxs, int[] rules) {
+        if (intervals.length == 0) {
+            return -1;
+        }
+        // The median of lower bounds is contained at least by one interval, so each node takes at least one interval
+        long[] sortedMins = new long[intervals.length];
+        for (int i = 0; i < intervals.length; i++) {
+            sortedMins[i] = mins[intervals[i]];
+        }
+        Arrays.sort(sortedMins);
+        long center = sortedMins[sortedMins.length / 2];
+
+        Integer[] left = new Integer[intervals.length];
+        Integer[] right = new Integer[intervals.length];
+        Integer[] overlapping = new Integer[intervals.length];
+        int leftCount = 0, rightCount = 0, overlappingCount = 0;
+        for (Integer i : intervals) {
+            if (maxs[i] <= center) {
+                left[leftCount++] = i;
+            } else if (mins[i] > center) {
+                right[rightCount++] = i;
+            } else {
+                overlapping[overlappingCount++] = i;
+            }
+        }
+
+        int node = nodesCount++;
+        centers[node] = center;
+        nodeFrom[node] = intervalsCount;
+        nodeTo[node] = intervalsCount + overlappingCount;
+
+        Integer[] byStart = Arrays.copyOf(overlapping, overlappingCount);
+        Arrays.sort(byStart, (a, b) -> Long.compare(mins[a], mins[b]));
+        Integer[] byEnd = Arrays.copyOf(overlapping, overlappingCount);
+        Arrays.sort(byEnd, (a, b) -> Long.compare(maxs[b], maxs[a]));
+        for (int i = 0; i < overlappingCount; i++) {
+            starts[intervalsCount + i] = mins[byStart[i]];
+            startRules[intervalsCount + i] = rules[byStart[i]];
+            ends[intervalsCount + i] = maxs[byEnd[i]];
+            endRules[intervalsCount + i] = rules[byEnd[i]];
+        }
+        intervalsCount += overlappingCount;
+
+        leftNodes[node] = build(Arrays.copyOf(left, leftCount), mins, maxs, rules);
+        rightNodes[node] = build(Arrays.copyOf(right, rightCount), mins, maxs, rules);
+        return node;
+    }
+
+    @Override
+    public DecisionTableRuleNode findNode(Object value, DecisionTableRuleNode prevResult) {
+        return new EqualsIndexDecisionTableRuleNode(findRules(value, prevResult), nextNode.getNextIndex());
+    }
+
+    private int[] findRules(Object value, DecisionTableRuleNode prevResult) {
+        BitSet prevBits = null;
+        int[] prevRules = null;
+        if (prevResult instanceof IDecisionTableRuleNodeV2) {
+            if (prevResult instanceof EqualsIndexDecisionTableRuleNode) {
+                prevBits = ((EqualsIndexDecisionTableRuleNode) prevResult).getRuleBits();
+            }
+            if (prevBits == null) {
+                prevRules = prevResult.getRules();
+                if (prevRules.length == 0) {
+                    return EMPTY_ARRAY;
+                }
+            }
+        }
+
+        int[] result = new int[Math.min(INITIAL_RESULT_CAPACITY, allRules.length)];
+        int k = 0;
+        for (int ruleN : emptyRules) {
+            if (contains(prevBits, prevRules, ruleN)) {
+                result = add(result, k++, ruleN);
+            }
+        }
+        if (value != null && root >= 0) {
+            long key = toKey(adaptor.adaptValueType(value));
+            int node = root;
+            while (node >= 0) {
+                long center = centers[node];
+                int to = nodeTo[node];
+                if (key < center) {
+                    for (int i = nodeFrom[node]; i < to && starts[i] <= key; i++) {
+                        if (contains(prevBits, prevRules, startRules[i])) {
+                            result = add(result, k++, startRules[i]);
+                        }
+                    }
+                    node = leftNodes[node];
+                } else {
+                    for (int i = nodeFrom[node]; i < to && ends[i] > key; i++) {
+                        if (contains(prevBits, prevRules, endRules[i])) {
+                            result = add(result, k++, endRules[i]);
+                        }
+                    }
+                    node = key == center ? -1 : rightNodes[node];
+                }
+            }
+        }
+        if (k == 0) {
+            return EMPTY_ARRAY;
+        }
+        Arrays.sort(result, 0, k);
+        return k == result.length ? result : Arrays.copyOf(result, k);
+    }
+
+    private static boolean contains(BitSet prevBits, int[] prevRules, int ruleN) {
+        if (prevBits != null) {
+            return prevBits.get(ruleN);
+        }
+        return prevRules == null || Arrays.binarySearch(prevRules, ruleN) >= 0;
+    }
+
+    private static int[] add(int[] result, int k, int ruleN) {
+        if (k == result.length) {
+            result = Arrays.copyOf(result, Math.max(INITIAL_RESULT_CAPACITY, result.length << 1));
+        }
+        result[k] = ruleN;
+        return result;
+    }
+
+    @Override
+    public Iterable<? extends DecisionTableRuleNode> nodes() {
+        return Collections.singletonList(nextNode);
+    }
+
+    @Override
+    public DecisionTableRuleNode getEmptyOrFormulaNodes() {
+        return emptyNodeStub;
+    }
+
+    @Override
+    public int[] collectRules() {
+        return allRules.clone();
+    }
+}
@@ -0,0 +1,58 @@
+package org.openl.rules.dt.index;
+
+import java.util.Map;
+
+/**
+ * {@link RulesMap} for {@link Long} values. It is an open addressing hash table with linear probing over primitive
+ * keys, so a lookup does not call {@code hashCode()}/{@code equals()} of the boxed value.
+ */
+final class LongRulesMap implements RulesMap {
+
+    private final long[] keys;
+    private final int[] positions;
+    private final int mask;
+    private final int size;
+
+    LongRulesMap(Map<Object, ?> map) {
+        int capacity = RulesMaps.tableSize(map.size());
+        this.keys = new long[capacity];
+        this.positions = new int[capacity];
+        this.mask = capacity - 1;
+        this.size = map.size();
+        int i = 0;
+        for (Object k : map.keySet()) {
+            long key = (Long) k;
+            int slot = RulesMaps.mix(key) & mask;
+            while (positions[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            positions[slot] = ++i;
+        }
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        if (value instanceof Long) {
+            return indexOf(((Long) value).longValue());
+        }
+        return -1;
+    }
+
+    int indexOf(long key) {
+        int slot = RulesMaps.mix(key) & mask;
+        int position;
+        while ((position = positions[slot]) != 0) {
+            if (keys[slot] == key) {
+                return position - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
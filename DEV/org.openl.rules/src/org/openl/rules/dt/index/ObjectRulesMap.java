@@ -0,0 +1,38 @@
+package org.openl.rules.dt.index;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Generic {@link RulesMap} which is backed by a {@link Map}. It is used for the values which do not have a specialized
+ * implementation.
+ */
+final class ObjectRulesMap implements RulesMap {
+
+    private final Map<Object, Integer> map;
+
+    ObjectRulesMap(Map<Object, ?> keys) {
+        if (keys instanceof SortedMap) {
+            map = new TreeMap<>(((SortedMap<Object, ?>) keys).comparator());
+        } else {
+            map = new HashMap<>();
+        }
+        int i = 0;
+        for (Object key : keys.keySet()) {
+            map.put(key, i++);
+        }
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        Integer i = map.get(value);
+        return i == null ? -1 : i;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+}
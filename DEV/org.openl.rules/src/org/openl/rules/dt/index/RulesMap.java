@@ -0,0 +1,23 @@
+package org.openl.rules.dt.index;
+
+import java.util.Map;
+
+/**
+ * Read-only map from condition values to their positions in {@link EqualsIndexV2}. Positions are assigned in the
+ * iteration order of the keys the map is created from (see {@link RulesMaps#create(Map)}).
+ *
+ * @see EqualsIndexV2.Builder
+ */
+interface RulesMap {
+
+    /**
+     * Finds the position of the rules for the given value.
+     *
+     * @param value a value casted to the condition type, not null
+     * @return position of the value rules or {@code -1} if the value is not indexed
+     */
+    int indexOf(Object value);
+
+    int size();
+
+}
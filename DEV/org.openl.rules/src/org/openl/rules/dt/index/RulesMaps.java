@@ -0,0 +1,68 @@
+package org.openl.rules.dt.index;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+import org.openl.rules.dt.algorithm.evaluator.FloatTypeComparator;
+
+/**
+ * Factory and helper methods for {@link RulesMap} implementations.
+ */
+final class RulesMaps {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private RulesMaps() {
+    }
+
+    /**
+     * Selects the most specific {@link RulesMap} implementation for the keys of the given map. Positions of the keys are
+     * assigned in the iteration order of the map.
+     *
+     * @param map the map built by {@link EqualsIndexV2.Builder}
+     */
+    static RulesMap create(Map<Object, ?> map) {
+        if (map.isEmpty()) {
+            return new ObjectRulesMap(map);
+        }
+        if (map instanceof SortedMap) {
+            if (((SortedMap<Object, ?>) map).comparator() == FloatTypeComparator
+                .getInstance() && allKeysOf(map, Double.class, Float.class)) {
+                return new DoubleRulesMap(map);
+            }
+        } else if (allKeysOf(map, Integer.class, Integer.class)) {
+            return new IntRulesMap(map);
+        } else if (allKeysOf(map, Long.class, Long.class)) {
+            return new LongRulesMap(map);
+        } else if (allKeysOf(map, String.class, String.class)) {
+            return new StringRulesMap(map);
+        }
+        return new ObjectRulesMap(map);
+    }
+
+    private static boolean allKeysOf(Map<Object, ?> map, Class<?> type1, Class<?> type2) {
+        for (Object key : map.keySet()) {
+            if (key == null || key.getClass() != type1 && key.getClass() != type2) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calculates the capacity of an open addressing table with the load factor not greater than 0.5.
+     */
+    static int tableSize(int size) {
+        int capacity = Integer.highestOneBit(Math.max(size, 1)) << 2;
+        return Math.min(capacity, MAX_CAPACITY);
+    }
+
+    static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int mix(long h) {
+        return mix((int) (h ^ (h >>> 32)));
+    }
+}
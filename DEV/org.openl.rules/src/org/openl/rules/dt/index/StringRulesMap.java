@@ -0,0 +1,63 @@
+package org.openl.rules.dt.index;
+
+import java.util.Map;
+
+/**
+ * {@link RulesMap} for {@link String} values. It is an open addressing hash table with linear probing. Hash codes of
+ * the keys are kept in a primitive array, so most of the probes are resolved without calling {@code equals()}.
+ */
+final class StringRulesMap implements RulesMap {
+
+    private final String[] keys;
+    private final int[] hashes;
+    private final int[] positions;
+    private final int mask;
+    private final int size;
+
+    StringRulesMap(Map<Object, ?> map) {
+        int capacity = RulesMaps.tableSize(map.size());
+        this.keys = new String[capacity];
+        this.hashes = new int[capacity];
+        this.positions = new int[capacity];
+        this.mask = capacity - 1;
+        this.size = map.size();
+        int i = 0;
+        for (Object k : map.keySet()) {
+            String key = (String) k;
+            int hash = key.hashCode();
+            int slot = RulesMaps.mix(hash) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            hashes[slot] = hash;
+            positions[slot] = i++;
+        }
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        if (value instanceof String) {
+            return indexOf((String) value);
+        }
+        return -1;
+    }
+
+    int indexOf(String key) {
+        int hash = key.hashCode();
+        int slot = RulesMaps.mix(hash) & mask;
+        String k;
+        while ((k = keys[slot]) != null) {
+            if (hashes[slot] == hash && key.equals(k)) {
+                return positions[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
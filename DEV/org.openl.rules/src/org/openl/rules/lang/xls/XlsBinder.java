@@ -635,10 +635,18 @@ public class XlsBinder implements IOpenBinder {
             }
         }
 
-        for (int i = 0; i < children.length; i++) {
-            if (children[i] != null) {
-                finilizeBind(children[i], tableSyntaxNodes[i], rulesModuleBindingContext);
+        if (OpenLSystemProperties.isBindingParallel(rulesModuleBindingContext.getExternalParams())) {
+            rulesModuleBindingContext.startParallelBinding();
+        }
+        try {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] != null) {
+                    finilizeBind(children[i], tableSyntaxNodes[i], rulesModuleBindingContext);
+                }
             }
+        } finally {
+            rulesModuleBindingContext.finishParallelBinding(
+                (tableSyntaxNode, error) -> processParallelBindError(error, tableSyntaxNode, rulesModuleBindingContext));
         }
 
         syntaxNodeExceptionHolder.processBindingContextErrors(rulesModuleBindingContext);
@@ -702,6 +710,21 @@ public class XlsBinder implements IOpenBinder {
         }
     }
 
+    private void processParallelBindError(Throwable t,
+            TableSyntaxNode tableSyntaxNode,
+            RulesModuleBindingContext rulesModuleBindingContext) {
+        if (t instanceof SyntaxNodeException) {
+            processError((SyntaxNodeException) t, tableSyntaxNode, rulesModuleBindingContext);
+        } else if (t instanceof CompositeSyntaxNodeException) {
+            for (SyntaxNodeException error : ((CompositeSyntaxNodeException) t).getErrors()) {
+                processError(error, tableSyntaxNode, rulesModuleBindingContext);
+            }
+        } else {
+            SyntaxNodeException error = SyntaxNodeExceptionUtils.createError(t, tableSyntaxNode);
+            processError(error, tableSyntaxNode, rulesModuleBindingContext);
+        }
+    }
+
     protected void removeDebugInformation(IMemberBoundNode[] boundNodes,
             TableSyntaxNode[] tableSyntaxNodes,
             RulesModuleBindingContext ruleModuleBindingContext) {
@@ -114,6 +114,16 @@ public class SpreadsheetWrapper extends Spreadsheet implements IOpenMethodWrappe
         return delegate.getResultBuilder();
     }
 
+    @Override
+    public int[][] getParallelEvaluationLevels() {
+        return delegate.getParallelEvaluationLevels();
+    }
+
+    @Override
+    public void setParallelEvaluationLevels(int[][] parallelEvaluationLevels) {
+        delegate.setParallelEvaluationLevels(parallelEvaluationLevels);
+    }
+
     @Override
     public String getSourceUrl() {
         return delegate.getSourceUrl();
@@ -1,7 +1,11 @@
 package org.openl.rules.testmethod;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.openl.base.INamedThing;
 import org.openl.rules.table.OpenLArgumentsCloner;
@@ -55,19 +59,61 @@ public class TestSuite implements INamedThing {
     public TestUnitsResults invokeParallel(TestSuiteExecutor testSuiteExecutor,
             final IOpenClass openClass,
             final int ntimes) {
-        final int THREAD_COUNT = testSuiteExecutor.getThreadCount();
-        Executor threadPoolExecutor = testSuiteExecutor.getExecutor();
+        return invokeParallel(testSuiteExecutor, openClass, ntimes, Collections.singletonList(this)).get(0);
+    }
+
+    /**
+     * Runs the tests of the given test suites in one queue. Every thread takes the next test from the queue, so the
+     * threads are not idle while heavy tests are running in other threads. A runtime environment and a module
+     * instance are created once per thread and are reused for the next tests. They are recreated after a test that
+     * failed with an exception.
+     *
+     * @return test results in the order of the given test suites
+     */
+    public static List<TestUnitsResults> invokeParallel(TestSuiteExecutor testSuiteExecutor,
+            final IOpenClass openClass,
+            final int ntimes,
+            List<TestSuite> testSuites) {
+        int numberOfTests = 0;
+        for (TestSuite testSuite : testSuites) {
+            numberOfTests += testSuite.getNumberOfTests();
+        }
+        final int[] suiteIndexes = new int[numberOfTests];
+        final int[] testIndexes = new int[numberOfTests];
+        final ITestUnit[][] testUnitResultsArrays = new ITestUnit[testSuites.size()][];
+        int n = 0;
+        for (int i = 0; i < testSuites.size(); i++) {
+            TestSuite testSuite = testSuites.get(i);
+            testUnitResultsArrays[i] = new ITestUnit[testSuite.getNumberOfTests()];
+            for (int j = 0; j < testSuite.getNumberOfTests(); j++) {
+                suiteIndexes[n] = i;
+                testIndexes[n] = j;
+                n++;
+            }
+        }
 
-        final TestUnitsResults testUnitResults = new TestUnitsResults(this);
-        final CountDownLatch countDownLatch = new CountDownLatch(THREAD_COUNT);
-        final ITestUnit[] testUnitResultsArray = new ITestUnit[getNumberOfTests()];
-        for (int i = 0; i < THREAD_COUNT; i++) {
-            final int numThread = i;
+        final int totalTests = numberOfTests;
+        final int threadCount = Math.max(1, Math.min(testSuiteExecutor.getThreadCount(), totalTests));
+        Executor threadPoolExecutor = testSuiteExecutor.getExecutor();
+        final AtomicInteger nextTest = new AtomicInteger();
+        final CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
             Runnable runnable = () -> {
                 try {
-                    for (int j = 0; j < getNumberOfTests(); j++) {
-                        if (j % THREAD_COUNT == numThread) {
-                            testUnitResultsArray[j] = executeTest(openClass, j, ntimes);
+                    IRuntimeEnv env = null;
+                    Object target = null;
+                    int task;
+                    while ((task = nextTest.getAndIncrement()) < totalTests) {
+                        if (env == null) {
+                            env = new SimpleRulesVM().getRuntimeEnv();
+                            target = openClass.newInstance(env);
+                        }
+                        TestSuite testSuite = testSuites.get(suiteIndexes[task]);
+                        ITestUnit testUnit = testSuite.testRunner
+                            .runTest(testSuite.getTest(testIndexes[task]), target, env, testSuite.cloner, ntimes);
+                        testUnitResultsArrays[suiteIndexes[task]][testIndexes[task]] = testUnit;
+                        if (testUnit.getResultStatus() == TestStatus.TR_EXCEPTION) {
+                            env = null;
                         }
                     }
                 } catch (Exception e) {
@@ -82,10 +128,15 @@ public class TestSuite implements INamedThing {
             countDownLatch.await();
         } catch (InterruptedException ignored) {
         }
-        for (int i = 0; i < getNumberOfTests(); i++) {
-            testUnitResults.addTestUnit(testUnitResultsArray[i]);
+        List<TestUnitsResults> results = new ArrayList<>(testSuites.size());
+        for (int i = 0; i < testSuites.size(); i++) {
+            TestUnitsResults testUnitResults = new TestUnitsResults(testSuites.get(i));
+            for (ITestUnit testUnit : testUnitResultsArrays[i]) {
+                testUnitResults.addTestUnit(testUnit);
+            }
+            results.add(testUnitResults);
         }
-        return testUnitResults;
+        return results;
     }
 
     public TestUnitsResults invokeSequentially(final IOpenClass openClass, int ntimes) {
@@ -1,6 +1,7 @@
 package org.openl.rules.testmethod;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.openl.base.INamedThing;
@@ -66,6 +67,29 @@ public class TestUnitsResults implements INamedThing {
         return executionTime;
     }
 
+    /**
+     * Returns the execution time of a test unit which is not exceeded by the given percentage of the test units, for
+     * example 50 is a median and 100 is the longest execution time.
+     *
+     * @param percentile percentage of the test units, from 0 to 100
+     * @return execution time in nanoseconds or 0 if there are no test units
+     */
+    public long getExecutionTimePercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        long[] executionTimes = new long[testUnits.size()];
+        if (executionTimes.length == 0) {
+            return 0;
+        }
+        for (int i = 0; i < executionTimes.length; i++) {
+            executionTimes[i] = testUnits.get(i).getExecutionTime();
+        }
+        Arrays.sort(executionTimes);
+        int rank = (int) Math.ceil(percentile / 100 * executionTimes.length);
+        return executionTimes[Math.max(rank, 1) - 1];
+    }
+
     void addTestUnit(ITestUnit testUnit) {
         testUnits.add(testUnit);
     }
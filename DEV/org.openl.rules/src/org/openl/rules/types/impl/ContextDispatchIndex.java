@@ -0,0 +1,215 @@
+package org.openl.rules.types.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.table.properties.ITableProperties;
+import org.openl.rules.table.properties.PropertiesHelper;
+import org.openl.types.IOpenMethod;
+
+/**
+ * Index of the candidates of {@link MatchingOpenMethodDispatcher} by the dimension properties.
+ * <p>
+ * For every property the context values are split into classes by the distinct values of this property in the
+ * candidates: each of the values is a class and each range before, between and after them is a class. Matching
+ * operations of the properties ({@code EQ}, {@code LE}, {@code GE}, {@code CONTAINS}) give the same result for all the
+ * context values of one class, so the candidates matched by a class are computed only once. The classes of all the
+ * properties are a canonical key of the context which is used to cache the dispatching results.
+ */
+final class ContextDispatchIndex {
+
+    static final int MAX_CACHED_RESULTS = 1024;
+
+    private static final int NULL_CLASS = -1;
+
+    private final List<IOpenMethod> candidates;
+    private final ITableProperties[] properties;
+    private final String[] propertyNames;
+    private final PropertyIndex[] propertyIndexes;
+    private final IPropertiesContextMatcher matcher;
+    private final Map<Key, IOpenMethod> results = new ConcurrentHashMap<>();
+
+    ContextDispatchIndex(List<IOpenMethod> candidates, String[] propertyNames, IPropertiesContextMatcher matcher) {
+        this.candidates = new ArrayList<>(candidates);
+        this.propertyNames = propertyNames;
+        this.matcher = matcher;
+        this.properties = new ITableProperties[this.candidates.size()];
+        for (int i = 0; i < properties.length; i++) {
+            properties[i] = PropertiesHelper.getTableProperties(this.candidates.get(i));
+        }
+        PropertyIndex[] indexes = new PropertyIndex[propertyNames.length];
+        for (int i = 0; i < propertyNames.length; i++) {
+            indexes[i] = PropertyIndex.build(propertyNames[i], properties);
+            if (indexes[i] == null) {
+                // Values of the property cannot be ordered, the index cannot be used
+                indexes = null;
+                break;
+            }
+        }
+        this.propertyIndexes = indexes;
+    }
+
+    /**
+     * Returns the classes of the context values or {@code null} if the context cannot be resolved via the index.
+     *
+     * @param contextValues values of the context in the order of the property names
+     */
+    Key getKey(Object[] contextValues) {
+        if (propertyIndexes == null) {
+            return null;
+        }
+        int[] classes = new int[propertyIndexes.length];
+        for (int i = 0; i < classes.length; i++) {
+            if (contextValues[i] == null) {
+                classes[i] = NULL_CLASS;
+            } else {
+                classes[i] = propertyIndexes[i].classOf(contextValues[i]);
+                if (classes[i] < 0) {
+                    return null;
+                }
+            }
+        }
+        return new Key(classes);
+    }
+
+    IOpenMethod getCachedResult(Key key) {
+        return results.get(key);
+    }
+
+    void putCachedResult(Key key, IOpenMethod method) {
+        if (results.size() >= MAX_CACHED_RESULTS) {
+            results.clear();
+        }
+        results.put(key, method);
+    }
+
+    /**
+     * Returns the candidates which are not rejected by the context. The result is the same as filtering all the
+     * candidates with {@link IPropertiesContextMatcher}, including the iteration order of the returned set.
+     */
+    Set<IOpenMethod> select(Key key, IRulesRuntimeContext context) {
+        BitSet selected = new BitSet(candidates.size());
+        selected.set(0, candidates.size());
+        for (int i = 0; i < propertyIndexes.length && !selected.isEmpty(); i++) {
+            int contextClass = key.classes[i];
+            if (contextClass != NULL_CLASS) {
+                selected.and(getMatched(i, contextClass, context));
+            }
+        }
+        // The same capacity as new HashSet<>(candidates) has
+        Set<IOpenMethod> result = new HashSet<>(Math.max((int) (candidates.size() / .75f) + 1, 16));
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            result.add(candidates.get(i));
+        }
+        return result;
+    }
+
+    private BitSet getMatched(int propertyIndex, int contextClass, IRulesRuntimeContext context) {
+        AtomicReferenceArray<BitSet> matched = propertyIndexes[propertyIndex].matched;
+        BitSet bitSet = matched.get(contextClass);
+        if (bitSet == null) {
+            String propertyName = propertyNames[propertyIndex];
+            bitSet = new BitSet(properties.length);
+            for (int i = 0; i < properties.length; i++) {
+                if (!MatchingResult.NO_MATCH.equals(matcher.match(propertyName, properties[i], context))) {
+                    bitSet.set(i);
+                }
+            }
+            matched.set(contextClass, bitSet);
+        }
+        return bitSet;
+    }
+
+    private static final class PropertyIndex {
+        /**
+         * Sorted distinct values of the property in all candidates.
+         */
+        private final Object[] values;
+        /**
+         * Candidates matched by each class of the context values. Even indexes are the ranges between the values, odd
+         * indexes are the values.
+         */
+        private final AtomicReferenceArray<BitSet> matched;
+
+        private PropertyIndex(Object[] values) {
+            this.values = values;
+            this.matched = new AtomicReferenceArray<>(values.length * 2 + 1);
+        }
+
+        static PropertyIndex build(String propertyName, ITableProperties[] properties) {
+            List<Object> values = new ArrayList<>();
+            for (ITableProperties tableProperties : properties) {
+                Object value = tableProperties.getPropertyValue(propertyName);
+                if (value instanceof Object[]) {
+                    for (Object element : (Object[]) value) {
+                        if (element != null) {
+                            values.add(element);
+                        }
+                    }
+                } else if (value != null) {
+                    values.add(value);
+                }
+            }
+            Object[] sorted = values.toArray();
+            try {
+                Arrays.sort(sorted);
+            } catch (ClassCastException e) {
+                return null;
+            }
+            int size = 0;
+            for (Object value : sorted) {
+                if (size == 0 || compare(sorted[size - 1], value) != 0) {
+                    sorted[size++] = value;
+                }
+            }
+            return new PropertyIndex(Arrays.copyOf(sorted, size));
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private static int compare(Object value1, Object value2) {
+            return ((Comparable) value1).compareTo(value2);
+        }
+
+        /**
+         * @return the class of the context value or a negative number if the value cannot be compared with the values
+         *         of the property
+         */
+        int classOf(Object contextValue) {
+            int index;
+            try {
+                index = Arrays.binarySearch(values, contextValue);
+            } catch (ClassCastException e) {
+                return -1;
+            }
+            return index >= 0 ? index * 2 + 1 : -(index + 1) * 2;
+        }
+    }
+
+    static final class Key {
+        private final int[] classes;
+        private final int hashCode;
+
+        private Key(int[] classes) {
+            this.classes = classes;
+            this.hashCode = Arrays.hashCode(classes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key && Arrays.equals(classes, ((Key) obj).classes);
+        }
+    }
+}
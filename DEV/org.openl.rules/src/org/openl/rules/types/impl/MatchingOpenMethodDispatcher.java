@@ -35,6 +35,8 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
 
     private List<IOpenMethod> candidatesSorted;
 
+    private volatile ContextDispatchIndex dispatchIndex;
+
     private IOpenMethod decisionTableOpenMethod;
 
     public IOpenMethod getDecisionTableOpenMethod() {
@@ -63,14 +65,35 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
     public void addMethod(IOpenMethod candidate) {
         super.addMethod(candidate);
         candidatesSorted = null;
+        dispatchIndex = null;
+    }
+
+    private ContextDispatchIndex getDispatchIndex(List<IOpenMethod> candidates) {
+        ContextDispatchIndex index = dispatchIndex;
+        if (index == null) {
+            index = new ContextDispatchIndex(candidates, DIMENSION_PROPERTY_NAMES, matcher);
+            dispatchIndex = index;
+        }
+        return index;
     }
 
     @Override
     protected IOpenMethod findMatchingMethod(List<IOpenMethod> candidates, IRuntimeContext context) {
-        Set<IOpenMethod> selected = new HashSet<>(candidates);
-
-        selectCandidates(selected, (IRulesRuntimeContext) context);
-        maxMinSelectCandidates(selected, (IRulesRuntimeContext) context);
+        IRulesRuntimeContext rulesRuntimeContext = (IRulesRuntimeContext) context;
+        ContextDispatchIndex index = getDispatchIndex(candidates);
+        ContextDispatchIndex.Key key = index.getKey(getContextValues(rulesRuntimeContext));
+        Set<IOpenMethod> selected;
+        if (key != null) {
+            IOpenMethod cachedMethod = index.getCachedResult(key);
+            if (cachedMethod != null) {
+                return cachedMethod;
+            }
+            selected = index.select(key, rulesRuntimeContext);
+        } else {
+            selected = new HashSet<>(candidates);
+            selectCandidates(selected, rulesRuntimeContext);
+        }
+        maxMinSelectCandidates(selected, rulesRuntimeContext);
 
         switch (selected.size()) {
             case 0:
@@ -82,6 +105,9 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
                     candidateMethod.getName()));
             case 1:
                 IOpenMethod matchingMethod = selected.iterator().next();
+                if (key != null) {
+                    index.putCachedResult(key, matchingMethod);
+                }
                 return matchingMethod;
             default:
                 IOpenMethod method = selected.iterator().next();
@@ -315,6 +341,38 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
     }
 
     // <<< INSERT MatchingProperties >>>
+    private static final String[] DIMENSION_PROPERTY_NAMES = new String[] { "effectiveDate",
+            "expirationDate",
+            "startRequestDate",
+            "endRequestDate",
+            "caRegions",
+            "caProvinces",
+            "country",
+            "region",
+            "currency",
+            "lang",
+            "lob",
+            "usregion",
+            "state",
+            "nature" };
+
+    private static Object[] getContextValues(IRulesRuntimeContext context) {
+        return new Object[] { context.getCurrentDate(),
+                context.getCurrentDate(),
+                context.getRequestDate(),
+                context.getRequestDate(),
+                context.getCaRegion(),
+                context.getCaProvince(),
+                context.getCountry(),
+                context.getRegion(),
+                context.getCurrency(),
+                context.getLang(),
+                context.getLob(),
+                context.getUsRegion(),
+                context.getUsState(),
+                context.getNature() };
+    }
+
     private List<String> getNotNullPropertyNames(IRulesRuntimeContext context) {
         List<String> propNames = new ArrayList<>();
 
@@ -1,17 +1,57 @@
 package org.openl.rules.vm;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.*;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.openl.engine.OpenLSystemProperties;
 import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
 
 public class ArgumentCachingStorage {
 
+    /**
+     * The default number of cached results per method, can be changed with the
+     * {@link OpenLSystemProperties#METHOD_CACHE_SIZE} system property.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = OpenLSystemProperties.getMethodCacheSize(null);
+
+    private static final Object NULL_RESULT = new Object();
+    private static final ResultNotFoundException RESULT_NOT_FOUND = new ResultNotFoundException(
+        "Result is not found in the cache.",
+        null,
+        false);
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class,
+        Boolean.class,
+        Character.class,
+        Byte.class,
+        Short.class,
+        Integer.class,
+        Long.class,
+        Float.class,
+        Double.class,
+        BigInteger.class,
+        BigDecimal.class,
+        LocalDate.class,
+        LocalTime.class,
+        LocalDateTime.class,
+        ZonedDateTime.class,
+        OffsetDateTime.class,
+        Instant.class,
+        UUID.class));
+
     private List<CalculationStep> originalCalculationSteps;
     private Iterator<CalculationStep> step;
     private SimpleRulesRuntimeEnv simpleRulesRuntimeEnv;
+    private final Map<Object, MethodCache> storage;
+    private volatile int maximumSize = DEFAULT_MAXIMUM_SIZE;
+    private volatile boolean skipCloningImmutableArguments;
 
     public void resetMethodArgumentsCache() {
         storage.clear();
@@ -20,36 +60,110 @@ public class ArgumentCachingStorage {
     public ArgumentCachingStorage(SimpleRulesRuntimeEnv simpleRulesRuntimeEnv) {
         this.simpleRulesRuntimeEnv = Objects.requireNonNull(simpleRulesRuntimeEnv,
             "simpleRulesRuntimeEnv cannot be null");
+        // The results are released with the methods of the unloaded modules
+        this.storage = Collections.synchronizedMap(new WeakHashMap<>());
+    }
+
+    private ArgumentCachingStorage(ArgumentCachingStorage parent, SimpleRulesRuntimeEnv simpleRulesRuntimeEnv) {
+        this.simpleRulesRuntimeEnv = Objects.requireNonNull(simpleRulesRuntimeEnv,
+            "simpleRulesRuntimeEnv cannot be null");
+        this.storage = parent.storage;
+        this.originalCalculationSteps = parent.originalCalculationSteps;
+        this.maximumSize = parent.maximumSize;
+        this.skipCloningImmutableArguments = parent.skipCloningImmutableArguments;
+        initCurrentStep();
+    }
+
+    /**
+     * Creates a storage for the calculation of a variation. It shares the cached results and the steps of the original
+     * calculation with this storage but has its own current step, so several variations can be calculated
+     * concurrently.
+     */
+    public ArgumentCachingStorage forkForVariation(SimpleRulesRuntimeEnv simpleRulesRuntimeEnv) {
+        return new ArgumentCachingStorage(this, simpleRulesRuntimeEnv);
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the number of cached results per method. The least recently used results are evicted when the limit is
+     * reached. It is applied to the methods which are cached after the change.
+     */
+    public void setMaximumSize(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive.");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    public boolean isSkipCloningImmutableArguments() {
+        return skipCloningImmutableArguments;
     }
 
-    private Storage storage = new Storage();
+    /**
+     * If true, arguments of well known immutable types (strings, numbers, enums, java.time values) are stored in the
+     * cache as is, without deep cloning.
+     */
+    public void setSkipCloningImmutableArguments(boolean skipCloningImmutableArguments) {
+        this.skipCloningImmutableArguments = skipCloningImmutableArguments;
+    }
 
     public Object findInCache(Object member, Object... params) throws ResultNotFoundException {
-        Data data = storage.get(member);
-        if (data != null) {
-            return data.get(params);
+        Object result = getMethodCache(member).get(new ArgumentsKey(params));
+        if (result != null) {
+            return result == NULL_RESULT ? null : result;
         }
-        throw new ResultNotFoundException();
+        throw RESULT_NOT_FOUND;
+    }
+
+    private MethodCache getMethodCache(Object member) {
+        MethodCache cache = storage.get(member);
+        if (cache == null) {
+            cache = storage.computeIfAbsent(member, e -> new MethodCache(maximumSize));
+        }
+        return cache;
     }
 
     public void putToCache(Object member, Object[] params, Object result) {
-        Data data = storage.get(member);
-        if (data == null) {
-            data = new Data();
-            storage.put(member, data);
+        MethodCache cache = getMethodCache(member);
+        if (cache.contains(new ArgumentsKey(params))) {
+            return;
         }
-        try {
-            data.get(params);
-        } catch (ResultNotFoundException e) {
-            Object[] clonedParams = new Object[params.length];
-            for (int i = 0; i < params.length; i++) {
-                if (params[i] != null) {
+        Object[] clonedParams = new Object[params.length];
+        for (int i = 0; i < params.length; i++) {
+            if (params[i] != null) {
+                if (skipCloningImmutableArguments && isImmutable(params[i])) {
+                    clonedParams[i] = params[i];
+                } else {
                     clonedParams[i] = ((XlsModuleOpenClass) simpleRulesRuntimeEnv.getTopClass()).getCloner()
                         .deepClone(params[i]);
                 }
             }
-            data.add(new InvocationData(clonedParams, result));
         }
+        cache.put(new ArgumentsKey(clonedParams), result == null ? NULL_RESULT : result);
+    }
+
+    private static boolean isImmutable(Object value) {
+        return IMMUTABLE_TYPES.contains(value.getClass()) || value instanceof Enum;
+    }
+
+    /**
+     * @return hit and miss counters of the method or null if the method has not been cached
+     */
+    public Statistics getStatistics(Object member) {
+        MethodCache cache = storage.get(member);
+        return cache == null ? null : cache.getStatistics();
+    }
+
+    /**
+     * @return hit and miss counters of all cached methods
+     */
+    public Map<Object, Statistics> getStatistics() {
+        Map<Object, Statistics> statistics = new HashMap<>();
+        storage.forEach((member, cache) -> statistics.put(member, cache.getStatistics()));
+        return statistics;
     }
 
     public void resetOriginalCalculationSteps() {
@@ -57,6 +171,14 @@ public class ArgumentCachingStorage {
         initCurrentStep();
     }
 
+    /**
+     * Restores the default values of {@link #getMaximumSize()} and {@link #isSkipCloningImmutableArguments()}.
+     */
+    public void resetSettings() {
+        this.maximumSize = DEFAULT_MAXIMUM_SIZE;
+        this.skipCloningImmutableArguments = false;
+    }
+
     private abstract static class CalculationStep {
         private Object member;
 
@@ -166,97 +288,137 @@ public class ArgumentCachingStorage {
         }
     }
 
-    static final class InvocationData {
-        private Object[] params;
-        private int paramsHashCode;
-        private boolean paramsHashCodeCalculated = false;
-        private Object result;
+    /**
+     * Cache key of the method arguments with the precalculated hash code.
+     */
+    static final class ArgumentsKey {
+        private final Object[] params;
+        private final int hashCode;
 
-        public InvocationData(Object[] params, Object result) {
+        ArgumentsKey(Object[] params) {
             this.params = params;
-            this.result = result;
+            this.hashCode = Arrays.deepHashCode(params);
         }
 
-        public Object[] getParams() {
-            return params;
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
 
-        public int getParamsHashCode() {
-            if (!paramsHashCodeCalculated) {
-                paramsHashCodeCalculated = true;
-                paramsHashCode = Arrays.deepHashCode(getParams());
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
             }
-            return paramsHashCode;
-        }
-
-        public Object getResult() {
-            return result;
+            if (!(obj instanceof ArgumentsKey)) {
+                return false;
+            }
+            ArgumentsKey other = (ArgumentsKey) obj;
+            return hashCode == other.hashCode && Arrays.deepEquals(params, other.params);
         }
     }
 
-    static final class Data {
-        private static final int MAX_DATA_LENGTH = 1000;
-
-        InvocationData[] invocationDatas = new InvocationData[MAX_DATA_LENGTH];
-        int size = 0;
-
-        public Object get(Object[] params) throws ResultNotFoundException {
-            int hashCode = Arrays.deepHashCode(params);
-
-            for (int i = 0; i < size; i++) {
-                InvocationData invocationData = invocationDatas[i];
-                if (hashCode == invocationData.getParamsHashCode()) {
-                    if (Arrays.deepEquals(invocationData.getParams(), params)) {
-                        return invocationData.getResult();
+    /**
+     * Results of one method in a LRU map of the configured maximum size.
+     */
+    static final class MethodCache {
+        private final LinkedHashMap<ArgumentsKey, Object> results;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        MethodCache(int maximumSize) {
+            this.results = new LinkedHashMap<ArgumentsKey, Object>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ArgumentsKey, Object> eldest) {
+                    if (size() > maximumSize) {
+                        evictions.increment();
+                        return true;
                     }
+                    return false;
                 }
+            };
+        }
+
+        Object get(ArgumentsKey key) {
+            Object result;
+            synchronized (results) {
+                result = results.get(key);
             }
-            throw new ResultNotFoundException();
+            if (result == null) {
+                misses.increment();
+            } else {
+                hits.increment();
+            }
+            return result;
         }
 
-        public void add(InvocationData invocationData) {
-            if (size < MAX_DATA_LENGTH) {
-                invocationDatas[size] = invocationData;
-                size++;
+        boolean contains(ArgumentsKey key) {
+            synchronized (results) {
+                return results.containsKey(key);
             }
         }
-    }
 
-    static class Storage {
-        private final Map<Object, Data> storage = new WeakHashMap<>();
+        void put(ArgumentsKey key, Object result) {
+            synchronized (results) {
+                results.putIfAbsent(key, result);
+            }
+        }
 
-        private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+        int size() {
+            synchronized (results) {
+                return results.size();
+            }
+        }
 
-        private final Lock readLock = readWriteLock.readLock();
+        Statistics getStatistics() {
+            return new Statistics(hits.sum(), misses.sum(), evictions.sum(), size());
+        }
+    }
 
-        private final Lock writeLock = readWriteLock.writeLock();
+    /**
+     * Hit and miss counters of the cached method.
+     */
+    public static final class Statistics {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        Statistics(long hits, long misses, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
 
-        public Data get(Object key) {
-            readLock.lock();
-            try {
-                return storage.get(key);
-            } finally {
-                readLock.unlock();
-            }
+        public long getHits() {
+            return hits;
         }
 
-        public Data put(Object key, Data data) {
-            writeLock.lock();
-            try {
-                return storage.put(key, data);
-            } finally {
-                writeLock.unlock();
-            }
+        public long getMisses() {
+            return misses;
         }
 
-        public void clear() {
-            writeLock.lock();
-            try {
-                storage.clear();
-            } finally {
-                writeLock.unlock();
-            }
+        /**
+         * @return the number of results removed from the cache because it reached the maximum size
+         */
+        public long getEvictions() {
+            return evictions;
         }
 
+        /**
+         * @return the number of cached results
+         */
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return "hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size;
+        }
     }
 }
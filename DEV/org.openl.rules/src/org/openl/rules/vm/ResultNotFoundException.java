@@ -20,4 +20,8 @@ public class ResultNotFoundException extends Exception {
         super(cause);
     }
 
+    ResultNotFoundException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, false, writableStackTrace);
+    }
+
 }
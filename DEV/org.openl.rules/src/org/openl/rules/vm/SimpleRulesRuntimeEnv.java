@@ -1,10 +1,12 @@
 package org.openl.rules.vm;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.concurrent.RecursiveAction;
 
 import org.openl.rules.context.RulesRuntimeContextFactory;
+import org.openl.rules.dt.DecisionTableRuntimePool;
 import org.openl.runtime.IRuntimeContext;
 import org.openl.types.IOpenClass;
 import org.openl.util.fast.FastStack;
@@ -17,6 +19,8 @@ public class SimpleRulesRuntimeEnv extends SimpleRuntimeEnv {
     private volatile boolean ignoreRecalculate = true;
     private volatile boolean originalCalculation = true;
     private ArgumentCachingStorage argumentCachingStorage;
+    private DecisionTableRuntimePool[] decisionTableRuntimePools = new DecisionTableRuntimePool[0];
+    private int decisionTableRuntimePoolsSize;
 
     public SimpleRulesRuntimeEnv() {
         super();
@@ -36,6 +40,48 @@ public class SimpleRulesRuntimeEnv extends SimpleRuntimeEnv {
         return new SimpleRulesRuntimeEnv(this);
     }
 
+    /**
+     * Creates a copy of the environment for the calculation of a variation. Unlike {@link #clone()}, the copy has its
+     * own position in the steps of the original calculation, so the copies can be used concurrently.
+     */
+    public SimpleRulesRuntimeEnv cloneForVariation() {
+        SimpleRulesRuntimeEnv env = new SimpleRulesRuntimeEnv(this);
+        env.argumentCachingStorage = getArgumentCachingStorage().forkForVariation(env);
+        return env;
+    }
+
+    /**
+     * Creates a copy of the environment for the calculation in another thread. The copy shares the method arguments
+     * cache and its settings with this environment.
+     */
+    public SimpleRulesRuntimeEnv cloneForParallelEvaluation() {
+        SimpleRulesRuntimeEnv env = new SimpleRulesRuntimeEnv(this);
+        env.topClass = topClass;
+        return env;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        methodArgumentsCacheEnable = false;
+        cacheMode = CacheMode.READ_ONLY;
+        ignoreRecalculate = true;
+        originalCalculation = true;
+        if (argumentCachingStorage != null) {
+            argumentCachingStorage.resetMethodArgumentsCache();
+            argumentCachingStorage.resetOriginalCalculationSteps();
+            argumentCachingStorage.resetSettings();
+        }
+        for (DecisionTableRuntimePool pool : decisionTableRuntimePools) {
+            if (pool != null) {
+                pool.clear();
+            }
+        }
+        decisionTableRuntimePoolsSize = 0;
+        topClass = null;
+        actionStack = null;
+    }
+
     public FastStack cloneContextStack() {
         return (FastStack) contextStack.clone();
     }
@@ -84,6 +130,31 @@ public class SimpleRulesRuntimeEnv extends SimpleRuntimeEnv {
         return argumentCachingStorage;
     }
 
+    /**
+     * Returns a decision table runtime pool for the next (possibly nested) decision table invocation. Pools are reused
+     * between invocations, each acquired pool must be released with {@link #releaseDecisionTableRuntimePool()}.
+     *
+     * @param conditionsCount the number of conditions in the invoked decision table
+     */
+    public DecisionTableRuntimePool acquireDecisionTableRuntimePool(int conditionsCount) {
+        if (decisionTableRuntimePoolsSize == decisionTableRuntimePools.length) {
+            decisionTableRuntimePools = Arrays.copyOf(decisionTableRuntimePools,
+                decisionTableRuntimePools.length + 4);
+        }
+        DecisionTableRuntimePool pool = decisionTableRuntimePools[decisionTableRuntimePoolsSize];
+        if (pool == null) {
+            pool = new DecisionTableRuntimePool();
+            decisionTableRuntimePools[decisionTableRuntimePoolsSize] = pool;
+        }
+        decisionTableRuntimePoolsSize++;
+        pool.reset(conditionsCount);
+        return pool;
+    }
+
+    public void releaseDecisionTableRuntimePool() {
+        decisionTableRuntimePools[--decisionTableRuntimePoolsSize].clear();
+    }
+
     public IOpenClass getTopClass() {
         return topClass;
     }
@@ -22,6 +22,11 @@ public class SimpleRulesRuntimeEnvMT extends SimpleRulesRuntimeEnv {
         return new SimpleRulesRuntimeEnvMT(this);
     }
 
+    @Override
+    public SimpleRulesRuntimeEnv cloneForParallelEvaluation() {
+        return new SimpleRulesRuntimeEnvMT(this);
+    }
+
     @Override
     public IOpenClass getTopClass() {
         return delegate.getTopClass();
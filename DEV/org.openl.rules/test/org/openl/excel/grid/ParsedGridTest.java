@@ -0,0 +1,31 @@
+package org.openl.excel.grid;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.openl.excel.parser.MergedCell;
+
+public class ParsedGridTest {
+
+    @Test
+    public void testCompactRows() {
+        Object[] filledRow = { "a", null, "b" };
+        Object[][] cells = { { "Rules", null, null, null },
+                { null, null, null, null },
+                filledRow,
+                { MergedCell.MERGE_WITH_UP, MergedCell.MERGE_WITH_LEFT, null, null },
+                { null, null, null, null } };
+
+        Object[][] compacted = ParsedGrid.compactRows(cells);
+
+        assertSame(cells, compacted);
+        assertArrayEquals(new Object[] { "Rules" }, compacted[0]);
+        assertEquals(0, compacted[1].length);
+        assertSame(filledRow, compacted[2]);
+        assertArrayEquals(new Object[] { MergedCell.MERGE_WITH_UP, MergedCell.MERGE_WITH_LEFT }, compacted[3]);
+        // Empty rows share the same array
+        assertSame(compacted[1], compacted[4]);
+    }
+}
@@ -0,0 +1,197 @@
+package org.openl.excel.grid;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.excel.grid.ParsedWorkbookCache.CachedSheetDescriptor;
+import org.openl.excel.grid.ParsedWorkbookCache.ParsedWorkbook;
+import org.openl.excel.parser.AlignedValue;
+import org.openl.excel.parser.MergedCell;
+import org.openl.excel.parser.SheetDescriptor;
+import org.openl.rules.TestUtils;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.source.impl.URLSourceCodeModule;
+
+public class ParsedWorkbookCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        System.clearProperty(OpenLSystemProperties.COMPILE_CACHE_DIR);
+    }
+
+    @Test
+    public void testStoreAndLoad() throws IOException {
+        ParsedWorkbookCache cache = new ParsedWorkbookCache(folder.getRoot().toPath());
+        Object[][] cells = { { "Rules", "String", "greeting", null, null, null },
+                { MergedCell.MERGE_WITH_UP, 1, 2.5, true, false, new Date(1234567890L) },
+                { new AlignedValue("Rules", (short) 2), MergedCell.MERGE_WITH_LEFT, null, "greeting", 10L, null },
+                {} };
+        List<SheetDescriptor> sheets = Collections.singletonList(new CachedSheetDescriptor("Sheet1", 0, 3, 4));
+        cache.store("key", new ParsedWorkbook(true, sheets, Collections.singletonList(cells)));
+
+        ParsedWorkbook workbook = cache.load("key");
+        assertNotNull(workbook);
+        assertTrue(workbook.isUse1904Windowing());
+        assertEquals(1, workbook.getSheets().size());
+        SheetDescriptor sheet = workbook.getSheets().get(0);
+        assertEquals("Sheet1", sheet.getName());
+        assertEquals(0, sheet.getIndex());
+        assertEquals(3, sheet.getFirstRowNum());
+        assertEquals(4, sheet.getFirstColNum());
+        assertArrayEquals(cells, workbook.getCells(0));
+
+        assertNull(cache.load("absent"));
+    }
+
+    @Test
+    public void testUnsupportedValueIsNotStored() {
+        ParsedWorkbookCache cache = new ParsedWorkbookCache(folder.getRoot().toPath());
+        Object[][] cells = { { new Object() } };
+        List<SheetDescriptor> sheets = Collections.singletonList(new CachedSheetDescriptor("Sheet1", 0, 0, 0));
+        cache.store("key", new ParsedWorkbook(false, sheets, Collections.singletonList(cells)));
+
+        assertNull(cache.load("key"));
+        assertEquals(0, folder.getRoot().list().length);
+    }
+
+    @Test
+    public void testBrokenEntryIsIgnored() throws IOException {
+        ParsedWorkbookCache cache = new ParsedWorkbookCache(folder.getRoot().toPath());
+        Object[][] cells = { { "value" } };
+        List<SheetDescriptor> sheets = Collections.singletonList(new CachedSheetDescriptor("Sheet1", 0, 0, 0));
+        cache.store("key", new ParsedWorkbook(false, sheets, Collections.singletonList(cells)));
+
+        Path entry = folder.getRoot().toPath().resolve("key.cells");
+        byte[] content = Files.readAllBytes(entry);
+        Files.write(entry, Arrays.copyOf(content, content.length - 1));
+        assertNull(cache.load("key"));
+    }
+
+    @Test
+    public void testKey() throws IOException {
+        ParsedWorkbookCache cache = new ParsedWorkbookCache(folder.getRoot().toPath());
+        File file = folder.newFile("workbook.xlsx");
+        Files.write(file.toPath(), new byte[] { 1, 2, 3 });
+        String key = cache.getKey(file.getPath());
+        assertEquals(key, cache.getKey(file.getPath()));
+
+        Files.write(file.toPath(), new byte[] { 1, 2, 4 });
+        assertNotEquals(key, cache.getKey(file.getPath()));
+
+        assertNull(cache.getKey(new File(folder.getRoot(), "absent.xlsx").getPath()));
+    }
+
+    @Test
+    public void testOtherVersionsOfWorkbookAreDeleted() throws IOException {
+        ParsedWorkbookCache cache = new ParsedWorkbookCache(folder.newFolder("cache").toPath());
+        File file = folder.newFile("workbook.xlsx");
+        File otherFile = folder.newFile("other.xlsx");
+        Files.write(otherFile.toPath(), new byte[] { 1 });
+        String otherKey = cache.getKey(otherFile.getPath());
+        cache.store(otherKey, workbook());
+
+        Files.write(file.toPath(), new byte[] { 1, 2, 3 });
+        String oldKey = cache.getKey(file.getPath());
+        cache.store(oldKey, workbook());
+        Files.write(file.toPath(), new byte[] { 1, 2, 4 });
+        String newKey = cache.getKey(file.getPath());
+        cache.store(newKey, workbook());
+
+        assertNull(cache.load(oldKey));
+        assertNotNull(cache.load(newKey));
+        assertNotNull(cache.load(otherKey));
+    }
+
+    @Test
+    public void testExpiredEntriesAreDeleted() throws IOException {
+        Path cacheDir = folder.newFolder("cache").toPath();
+        ParsedWorkbookCache cache = new ParsedWorkbookCache(cacheDir, TimeUnit.DAYS.toMillis(1));
+        cache.store("used", workbook());
+        cache.store("unused", workbook());
+        FileTime expired = FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2));
+        Files.setLastModifiedTime(cacheDir.resolve("used.cells"), expired);
+        Files.setLastModifiedTime(cacheDir.resolve("unused.cells"), expired);
+        Path tempFile = Files.createFile(cacheDir.resolve("abandoned.tmp"));
+        Files.setLastModifiedTime(tempFile, expired);
+
+        assertNotNull(cache.load("used"));
+        cache.store("new", workbook());
+
+        assertNotNull(cache.load("used"));
+        assertNull(cache.load("unused"));
+        assertNotNull(cache.load("new"));
+        assertFalse(Files.exists(tempFile));
+    }
+
+    private static ParsedWorkbook workbook() {
+        Object[][] cells = { { "value" } };
+        List<SheetDescriptor> sheets = Collections.singletonList(new CachedSheetDescriptor("Sheet1", 0, 0, 0));
+        return new ParsedWorkbook(false, sheets, Collections.singletonList(cells));
+    }
+
+    @Test
+    public void testCompilation() throws IOException {
+        File cacheDir = folder.newFolder("cache");
+        Object notCached = new RulesEngineFactory<>("test/rules/dt/DTTest.xlsx").newEngineInstance();
+
+        System.setProperty(OpenLSystemProperties.COMPILE_CACHE_DIR, cacheDir.getPath());
+        Object stored = new RulesEngineFactory<>("test/rules/dt/DTTest.xlsx").newEngineInstance();
+        assertEquals(1, cacheDir.list().length);
+        Object loaded = new RulesEngineFactory<>("test/rules/dt/DTTest.xlsx").newEngineInstance();
+        assertEquals(1, cacheDir.list().length);
+
+        for (int hour = 0; hour < 24; hour++) {
+            String expected = TestUtils.invoke(notCached, "Greeting", hour);
+            String actualStored = TestUtils.invoke(stored, "Greeting", hour);
+            String actualLoaded = TestUtils.invoke(loaded, "Greeting", hour);
+            assertEquals(expected, actualStored);
+            assertEquals(expected, actualLoaded);
+        }
+    }
+
+    @Test
+    public void testCacheDirectoryFromExternalParameters() throws IOException {
+        File cacheDir = folder.newFolder("cache");
+        URLSourceCodeModule source = new URLSourceCodeModule(new File("test/rules/dt/DTTest.xlsx").toURI().toURL());
+        source.setParams(Collections.singletonMap(OpenLSystemProperties.COMPILE_CACHE_DIR, cacheDir.getPath()));
+        new RulesEngineFactory<>(source).newEngineInstance();
+        assertEquals(1, cacheDir.list().length);
+    }
+
+    @Test
+    public void testCompilationOfXls() throws IOException {
+        File cacheDir = folder.newFolder("cache");
+        String src = "test/rules/Test_Validator_DT.xls";
+        int expected = new RulesEngineFactory<>(src).getCompiledOpenClass().getMessages().size();
+        assertTrue(expected > 0);
+
+        System.setProperty(OpenLSystemProperties.COMPILE_CACHE_DIR, cacheDir.getPath());
+        assertEquals(expected, new RulesEngineFactory<>(src).getCompiledOpenClass().getMessages().size());
+        assertEquals(1, cacheDir.list().length);
+        assertEquals(expected, new RulesEngineFactory<>(src).getCompiledOpenClass().getMessages().size());
+    }
+}
@@ -0,0 +1,85 @@
+package org.openl.rules.binding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.openl.binding.IBoundNode;
+import org.openl.binding.impl.LikeMethodBoundNode;
+import org.openl.rules.method.table.TableMethod;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.types.IOpenClass;
+
+public class LikeMethodTest {
+
+    private static final String SRC = "test/rules/binding/LikeMethodTest.xlsx";
+
+    private static RulesEngineFactory<ITest> engineFactory;
+    private static ITest instance;
+
+    @BeforeClass
+    public static void init() {
+        engineFactory = new RulesEngineFactory<>(SRC, ITest.class);
+        instance = engineFactory.newEngineInstance();
+    }
+
+    @Test
+    public void testLiteralPattern() {
+        assertTrue(instance.isCode("123-ab"));
+        assertFalse(instance.isCode("123-a1"));
+        assertFalse(instance.isCode(""));
+        assertFalse(instance.isCode(null));
+
+        assertTrue(instance.isName("JOHN  Smith"));
+        assertFalse(instance.isName("JOHN "));
+        assertFalse(instance.isName("JOHN 2nd"));
+        assertFalse(instance.isName("John Smith"));
+    }
+
+    @Test
+    public void testNonLiteralPattern() {
+        assertTrue(instance.matchesPattern("123-ab", "###-@@"));
+        assertFalse(instance.matchesPattern("123-ab", "###"));
+        assertTrue(instance.matchesPattern(null, null));
+    }
+
+    @Test
+    public void testBinding() {
+        IOpenClass openClass = engineFactory.getCompiledOpenClass().getOpenClass();
+        assertEquals(1, countLikeNodes(openClass, "isCode"));
+        assertEquals(1, countLikeNodes(openClass, "isName"));
+        assertEquals(0, countLikeNodes(openClass, "matchesPattern"));
+    }
+
+    private static int countLikeNodes(IOpenClass openClass, String methodName) {
+        TableMethod method = (TableMethod) openClass.getMethods()
+            .stream()
+            .filter(m -> methodName.equals(m.getName()))
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+        return countLikeNodes(method.getCompositeMethod().getMethodBodyBoundNode());
+    }
+
+    private static int countLikeNodes(IBoundNode node) {
+        if (node == null) {
+            return 0;
+        }
+        int count = node instanceof LikeMethodBoundNode ? 1 : 0;
+        if (node.getChildren() != null) {
+            for (IBoundNode child : node.getChildren()) {
+                count += countLikeNodes(child);
+            }
+        }
+        return count;
+    }
+
+    public interface ITest {
+        Boolean isCode(String s);
+
+        Boolean isName(String s);
+
+        Boolean matchesPattern(String s, String pattern);
+    }
+}
@@ -0,0 +1,129 @@
+package org.openl.rules.calc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.rules.vm.ArgumentCachingStorage;
+import org.openl.rules.vm.CacheMode;
+import org.openl.rules.vm.SimpleRulesRuntimeEnv;
+import org.openl.runtime.IEngineWrapper;
+import org.openl.types.IOpenMethod;
+
+public class SpreadsheetParallelEvaluationTest {
+
+    public interface ParallelEvaluation {
+        SpreadsheetResult calc(int x);
+
+        SpreadsheetResult calcCached(int x);
+
+        SpreadsheetResult calcError(int x);
+    }
+
+    private static final String SRC = "test/rules/calc/ParallelEvaluation.xls";
+
+    @After
+    public void tearDown() {
+        System.clearProperty(OpenLSystemProperties.SPREADSHEET_PARALLEL);
+        System.clearProperty(OpenLSystemProperties.SPREADSHEET_PARALLEL_THRESHOLD);
+    }
+
+    private static RulesEngineFactory<ParallelEvaluation> compile(boolean parallel, int threshold) {
+        System.setProperty(OpenLSystemProperties.SPREADSHEET_PARALLEL, String.valueOf(parallel));
+        System.setProperty(OpenLSystemProperties.SPREADSHEET_PARALLEL_THRESHOLD, String.valueOf(threshold));
+        return new RulesEngineFactory<>(SRC, ParallelEvaluation.class);
+    }
+
+    private static Spreadsheet getSpreadsheet(RulesEngineFactory<ParallelEvaluation> engineFactory) {
+        for (IOpenMethod method : engineFactory.getCompiledOpenClass().getOpenClass().getMethods()) {
+            if ("calc".equals(method.getName())) {
+                return (Spreadsheet) method;
+            }
+        }
+        throw new AssertionError("Method 'calc' is not found.");
+    }
+
+    @Test
+    public void testLevels() {
+        Spreadsheet spreadsheet = getSpreadsheet(compile(true, 1));
+        int[][] levels = spreadsheet.getParallelEvaluationLevels();
+        assertNotNull(levels);
+        assertEquals(10, levels.length);
+        // $A$R1 and the whole column B
+        assertArrayEquals(new int[] { 0, 1, 5, 9, 13, 17, 21, 25, 29 }, levels[0]);
+        // $D$R8
+        assertArrayEquals(new int[] { 31 }, levels[9]);
+
+        SpreadsheetCellDependencyGraph graph = SpreadsheetCellDependencyGraph.build(spreadsheet.getCells());
+        assertNotNull(graph);
+        assertEquals(32, graph.getMethodCellsCount());
+        assertArrayEquals(new int[] { 4, 5 }, graph.getDependencies(1, 2));
+        assertArrayEquals(new int[] { 2, 6, 10 }, graph.getDependencies(2, 3));
+    }
+
+    @Test
+    public void testDisabled() {
+        assertNull(getSpreadsheet(compile(false, 1)).getParallelEvaluationLevels());
+        assertNull(getSpreadsheet(compile(true, 33)).getParallelEvaluationLevels());
+    }
+
+    @Test
+    public void testResults() {
+        ParallelEvaluation sequential = compile(false, 1).newEngineInstance();
+        ParallelEvaluation parallel = compile(true, 1).newEngineInstance();
+        for (int x = 0; x < 50; x++) {
+            SpreadsheetResult expected = sequential.calc(x);
+            SpreadsheetResult actual = parallel.calc(x);
+            assertArrayEquals(expected.getResults(), actual.getResults());
+            for (int i = 1; i <= 8; i++) {
+                assertEquals((i * i + 2 * i) * x, actual.getFieldValue("$D$R" + i));
+            }
+        }
+    }
+
+    @Test
+    public void testCellsUseMethodArgumentsCache() {
+        ParallelEvaluation parallel = compile(true, 1).newEngineInstance();
+        SimpleRulesRuntimeEnv env = (SimpleRulesRuntimeEnv) ((IEngineWrapper) parallel).getRuntimeEnv();
+        env.setMethodArgumentsCacheEnable(true);
+        env.changeMethodArgumentsCacheMode(CacheMode.READ_WRITE);
+
+        SpreadsheetResult result = parallel.calcCached(1);
+        for (int i = 1; i <= 8; i++) {
+            assertEquals((1 + i % 4) * 10, result.getFieldValue("$A$R" + i));
+        }
+        ArgumentCachingStorage.Statistics statistics = env.getArgumentCachingStorage()
+            .getStatistics()
+            .values()
+            .iterator()
+            .next();
+        assertEquals(8, statistics.getHits() + statistics.getMisses());
+        assertEquals(4, statistics.getSize());
+    }
+
+    @Test
+    public void testErrorOfFirstFailedCellIsThrown() {
+        ParallelEvaluation parallel = compile(true, 1).newEngineInstance();
+        for (int x = 0; x < 50; x++) {
+            try {
+                parallel.calcError(x);
+                fail();
+            } catch (RuntimeException e) {
+                assertEquals("R2", getRootCause(e).getMessage());
+            }
+        }
+    }
+
+    private static Throwable getRootCause(Throwable e) {
+        while (e.getCause() != null && e.getCause() != e) {
+            e = e.getCause();
+        }
+        return e;
+    }
+}
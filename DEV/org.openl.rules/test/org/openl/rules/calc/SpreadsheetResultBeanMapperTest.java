@@ -0,0 +1,56 @@
+package org.openl.rules.calc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.openl.rules.TestUtils;
+
+public class SpreadsheetResultBeanMapperTest {
+
+    private static final String SRC = "test/rules/calc1/SpreadsheetResultBeanMapperTest.xlsx";
+
+    @Test
+    public void testCreateBean() throws Exception {
+        ITest instance = TestUtils.create(SRC, ITest.class);
+        SpreadsheetResult result = instance.Outer(3);
+        CustomSpreadsheetResultOpenClass openClass = result.getCustomSpreadsheetResultOpenClass();
+
+        Object bean = result.toPlain();
+        assertNotNull(openClass.getBeanMapper());
+        assertEquals(openClass.getBeanClass(), bean.getClass());
+        assertEquals(3, (int) get(bean, "getCount"));
+        assertEquals(4.5, get(bean, "getRate"), 1e-8);
+        assertTrue(get(bean, "getActive"));
+        assertEquals("Outer", get(bean, "getName"));
+        assertNull(get(bean, "getMissing"));
+
+        Object first = get(bean, "getFirst");
+        assertEquals(6, (int) get(first, "getAmount"));
+        assertEquals("L3", get(first, "getLabel"));
+
+        Object[] all = get(bean, "getAll");
+        assertEquals(2, all.length);
+        assertEquals(2, (int) get(all[0], "getAmount"));
+        assertEquals("L2", get(all[1], "getLabel"));
+
+        // The same mapper is used for other spreadsheet results of the type
+        Object other = instance.Outer(1).toPlain();
+        assertEquals(1, (int) get(other, "getCount"));
+        assertTrue(!(Boolean) get(other, "getActive"));
+        assertArrayEquals(new Object[] { 2, "L1" },
+            new Object[] { get(get(other, "getFirst"), "getAmount"), get(get(other, "getFirst"), "getLabel") });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T get(Object bean, String getter) throws Exception {
+        return (T) bean.getClass().getMethod(getter).invoke(bean);
+    }
+
+    public interface ITest {
+        SpreadsheetResult Outer(int n);
+    }
+}
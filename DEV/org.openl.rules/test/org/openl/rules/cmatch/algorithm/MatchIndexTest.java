@@ -0,0 +1,87 @@
+package org.openl.rules.cmatch.algorithm;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+import org.openl.rules.cmatch.matcher.ClassMatchMatcher;
+import org.openl.rules.cmatch.matcher.ClassMinMaxMatcher;
+import org.openl.rules.cmatch.matcher.IMatcher;
+import org.openl.rules.cmatch.matcher.NumberMatchMatcher;
+import org.openl.rules.helpers.DoubleRange;
+import org.openl.rules.helpers.IntRange;
+
+public class MatchIndexTest {
+
+    @Test
+    public void testExactValues() {
+        IMatcher matcher = new ClassMatchMatcher(String.class, null);
+        Object[] checkValues = { "a", "b", null, "a", new IntRange(1, 2), "c" };
+        assertSameAsMatcher(matcher, checkValues, "a", "b", "c", "d", null, new IntRange(1, 2), 1);
+    }
+
+    @Test
+    public void testNumberValuesAndRanges() {
+        IMatcher matcher = new NumberMatchMatcher(Integer.class, IntRange.class);
+        Object[] checkValues = { 5,
+                new IntRange(1, 10),
+                null,
+                new IntRange(8, 20),
+                5,
+                new IntRange(Long.MIN_VALUE, 0),
+                new IntRange(21, Long.MAX_VALUE),
+                new IntRange(7, 7) };
+        for (int i = -3; i < 25; i++) {
+            assertSameAsMatcher(matcher, checkValues, i);
+        }
+        assertSameAsMatcher(matcher, checkValues, Long.MIN_VALUE, Long.MAX_VALUE, 5L, null);
+    }
+
+    @Test
+    public void testDoubleRanges() {
+        IMatcher matcher = new NumberMatchMatcher(Double.class, DoubleRange.class);
+        Object[] checkValues = { 1.5, new DoubleRange(1, 2), new DoubleRange(1.5, 3) };
+        assertSameAsMatcher(matcher, checkValues, 0.5, 1.0, 1.5, 2.5, 4.0);
+    }
+
+    @Test
+    public void testMinMax() {
+        Object[] checkValues = { 10, 30, 20, 10, 40 };
+        for (boolean maxMode : new boolean[] { true, false }) {
+            IMatcher matcher = new ClassMinMaxMatcher(Integer.class, maxMode);
+            for (int i = 0; i < 50; i += 5) {
+                assertSameAsMatcher(matcher, checkValues, i);
+            }
+        }
+    }
+
+    @Test
+    public void testCandidatesAreRetained() {
+        IMatcher matcher = new NumberMatchMatcher(Integer.class, IntRange.class);
+        MatchIndex index = MatchIndex.build(matcher, new Object[] { 1, new IntRange(0, 5), 1, 2 });
+        BitSet candidates = new BitSet();
+        candidates.set(1, 3);
+        index.retainMatched(1, candidates);
+
+        BitSet expected = new BitSet();
+        expected.set(1, 3);
+        assertEquals(expected, candidates);
+    }
+
+    private static void assertSameAsMatcher(IMatcher matcher, Object[] checkValues, Object... vars) {
+        MatchIndex index = MatchIndex.build(matcher, checkValues);
+        for (Object var : vars) {
+            BitSet expected = new BitSet();
+            for (int i = 0; i < checkValues.length; i++) {
+                if (matcher.match(var, checkValues[i])) {
+                    expected.set(i);
+                }
+            }
+            BitSet actual = new BitSet();
+            actual.set(0, checkValues.length);
+            index.retainMatched(var, actual);
+            assertEquals("Value: " + var, expected, actual);
+        }
+    }
+}
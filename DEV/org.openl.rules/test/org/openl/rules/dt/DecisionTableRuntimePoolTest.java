@@ -0,0 +1,73 @@
+package org.openl.rules.dt;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.openl.rules.vm.SimpleRulesRuntimeEnv;
+
+public class DecisionTableRuntimePoolTest {
+
+    @Test
+    public void testRulesBuffer() {
+        DecisionTableRuntimePool pool = new DecisionTableRuntimePool(2);
+        for (int i = 0; i < 100; i++) {
+            pool.addRule(i);
+        }
+        assertEquals(100, pool.getRulesCount());
+        assertEquals(99, pool.getRules()[99]);
+
+        pool.reset(2);
+        assertEquals(0, pool.getRulesCount());
+        pool.addRule(7);
+        pool.addRule(3);
+        assertArrayEquals(new int[] { 7, 3 }, Arrays.copyOf(pool.getRules(), pool.getRulesCount()));
+    }
+
+    @Test
+    public void testConditionResults() {
+        DecisionTableRuntimePool pool = new DecisionTableRuntimePool(3);
+        assertNull(pool.getConditionExecutionResult(1));
+        pool.pushConditionExecutionResultToPool(1, "C2");
+        assertEquals("C2", pool.getConditionExecutionResult(1));
+        assertNull(pool.getConditionExecutionResult(0));
+        assertNull(pool.getConditionExecutionResult(5));
+
+        pool.reset(3);
+        assertNull(pool.getConditionExecutionResult(1));
+
+        pool.pushConditionExecutionResultToPool(5, "C6");
+        assertEquals("C6", pool.getConditionExecutionResult(5));
+        pool.reset(1);
+        assertNull(pool.getConditionExecutionResult(5));
+    }
+
+    @Test
+    public void testFrame() {
+        DecisionTableRuntimePool pool = new DecisionTableRuntimePool();
+        assertEquals(1, pool.getFrame().length);
+        assertSame(pool, pool.getFrame()[0]);
+    }
+
+    @Test
+    public void testPoolsAreReusedByRuntimeEnv() {
+        SimpleRulesRuntimeEnv env = new SimpleRulesRuntimeEnv();
+
+        DecisionTableRuntimePool outer = env.acquireDecisionTableRuntimePool(2);
+        outer.pushConditionExecutionResultToPool(0, "outer");
+        DecisionTableRuntimePool nested = env.acquireDecisionTableRuntimePool(1);
+        assertNotSame(outer, nested);
+        env.releaseDecisionTableRuntimePool();
+        assertEquals("outer", outer.getConditionExecutionResult(0));
+        env.releaseDecisionTableRuntimePool();
+
+        assertSame(outer, env.acquireDecisionTableRuntimePool(4));
+        assertNull(outer.getConditionExecutionResult(0));
+        assertSame(nested, env.acquireDecisionTableRuntimePool(1));
+    }
+}
@@ -0,0 +1,84 @@
+package org.openl.rules.dt;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openl.CompiledOpenClass;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.message.OpenLMessage;
+import org.openl.rules.TestUtils;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.types.IOpenMethod;
+
+public class ParallelBindingTest {
+
+    private static final String SRC = "test/rules/dt/DTTest.xlsx";
+    private static final String[] ERRORS_SRC = { "test/rules/testmethod/TestAndRunTablesWithError.xlsx",
+            "test/rules/calc1/SpreadsheetErrorsTest.xlsx",
+            "test/rules/Test_Validator_DT.xls",
+            "test/rules/dt/SmartDTTest.xls" };
+
+    @After
+    public void tearDown() {
+        System.clearProperty(OpenLSystemProperties.BINDING_PARALLEL);
+    }
+
+    private static RulesEngineFactory<?> compile(String src, boolean parallel) {
+        System.setProperty(OpenLSystemProperties.BINDING_PARALLEL, String.valueOf(parallel));
+        return new RulesEngineFactory<>(src);
+    }
+
+    @Test
+    public void testAlgorithmsAreBuilt() {
+        RulesEngineFactory<?> engineFactory = compile(SRC, true);
+        boolean found = false;
+        for (IOpenMethod method : engineFactory.getCompiledOpenClass().getOpenClass().getMethods()) {
+            if (method instanceof DecisionTable) {
+                found = true;
+                assertNotNull(method.getName(), ((DecisionTable) method).getAlgorithm());
+            }
+        }
+        assertTrue(found);
+    }
+
+    @Test
+    public void testResults() {
+        Object sequential = compile(SRC, false).newEngineInstance();
+        Object parallel = compile(SRC, true).newEngineInstance();
+        for (int hour = 0; hour < 24; hour++) {
+            String expected = TestUtils.invoke(sequential, "Greeting", hour);
+            String actual = TestUtils.invoke(parallel, "Greeting", hour);
+            assertEquals(expected, actual);
+            String[] expectedArray = TestUtils.invoke(sequential, "Greeting7", hour);
+            String[] actualArray = TestUtils.invoke(parallel, "Greeting7", hour);
+            assertArrayEquals(expectedArray, actualArray);
+        }
+    }
+
+    @Test
+    public void testErrors() {
+        boolean found = false;
+        for (String src : ERRORS_SRC) {
+            List<String> sequential = getMessages(compile(src, false).getCompiledOpenClass());
+            List<String> parallel = getMessages(compile(src, true).getCompiledOpenClass());
+            assertEquals(src, sequential, parallel);
+            found |= !sequential.isEmpty();
+        }
+        assertTrue(found);
+    }
+
+    private static List<String> getMessages(CompiledOpenClass compiledOpenClass) {
+        List<String> messages = new ArrayList<>();
+        for (OpenLMessage message : compiledOpenClass.getMessages()) {
+            messages.add(message.getSeverity() + ": " + message.getSummary());
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,59 @@
+package org.openl.rules.dt.algorithm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.rules.dt.DecisionTable;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.types.IOpenMethod;
+
+public class IndexSharingTest {
+
+    public interface IndexSharing {
+        String premium(String state, String driver, int age);
+    }
+
+    private static final String SRC = "test/rules/dt/algorithm/IndexSharing.xls";
+
+    private static IndexStatistics compile(boolean indexSharing) {
+        String oldValue = System.getProperty(OpenLSystemProperties.DT_INDEX_SHARING);
+        System.setProperty(OpenLSystemProperties.DT_INDEX_SHARING, String.valueOf(indexSharing));
+        try {
+            RulesEngineFactory<IndexSharing> engineFactory = new RulesEngineFactory<>(SRC, IndexSharing.class);
+            IndexSharing instance = engineFactory.newEngineInstance();
+            assertEquals("A", instance.premium("NJ", "Young", 20));
+            assertEquals("B", instance.premium("NY", "Old", 30));
+            assertEquals("C", instance.premium("CA", "Young", 70));
+            assertEquals("D", instance.premium("CA", "Old", 20));
+            assertEquals("E", instance.premium("TX", "Old", 20));
+            assertEquals("F", instance.premium("NJ", "Young", 70));
+
+            for (IOpenMethod method : engineFactory.getCompiledOpenClass().getOpenClass().getMethods()) {
+                if ("premium".equals(method.getName())) {
+                    IDecisionTableAlgorithm algorithm = ((DecisionTable) method).getAlgorithm();
+                    return ((DecisionTableOptimizedAlgorithm) algorithm).getIndexStatistics();
+                }
+            }
+            throw new AssertionError("Method 'premium' is not found.");
+        } finally {
+            if (oldValue == null) {
+                System.clearProperty(OpenLSystemProperties.DT_INDEX_SHARING);
+            } else {
+                System.setProperty(OpenLSystemProperties.DT_INDEX_SHARING, oldValue);
+            }
+        }
+    }
+
+    @Test
+    public void testSharedIndexes() {
+        IndexStatistics tree = compile(false);
+        IndexStatistics dag = compile(true);
+
+        assertEquals(0, tree.getSharedIndexReferences());
+        assertTrue(dag.getSharedIndexReferences() > 0);
+        assertTrue(dag.getIndexes() < tree.getIndexes());
+        assertTrue(dag.getEstimatedSize() < tree.getEstimatedSize());
+    }
+}
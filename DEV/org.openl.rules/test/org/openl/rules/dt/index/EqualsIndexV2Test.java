@@ -0,0 +1,111 @@
+package org.openl.rules.dt.index;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.openl.domain.IIntIterator;
+import org.openl.rules.dt.DecisionTableRuleNode;
+import org.openl.rules.dt.EqualsIndexDecisionTableRuleNode;
+import org.openl.rules.dt.element.ConditionHelper;
+
+public class EqualsIndexV2Test {
+
+    private static final int RULES = 100;
+
+    /**
+     * Rule N matches value N % modulo, each rule N % emptyStep == 0 is empty.
+     */
+    private static EqualsIndexV2 buildIndex(int modulo, int emptyStep) {
+        EqualsIndexV2.Builder builder = new EqualsIndexV2.Builder();
+        builder.setConditionCasts(ConditionHelper.getConditionCastsWithNoCasts());
+        for (int ruleN = 0; ruleN < RULES; ruleN++) {
+            builder.addRule(ruleN);
+            if (isEmpty(ruleN, emptyStep)) {
+                builder.putEmptyRule(ruleN);
+            } else {
+                builder.putValueToRule(ruleN % modulo, ruleN);
+            }
+        }
+        return builder.build();
+    }
+
+    private static boolean isEmpty(int ruleN, int emptyStep) {
+        return emptyStep > 0 && ruleN % emptyStep == 0;
+    }
+
+    private static boolean matches(int ruleN, int value, int modulo, int emptyStep) {
+        return isEmpty(ruleN, emptyStep) || ruleN % modulo == value;
+    }
+
+    private static int[] toArray(IIntIterator iterator) {
+        List<Integer> result = new ArrayList<>();
+        while (iterator.hasNext()) {
+            result.add(iterator.nextInt());
+        }
+        return result.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    public void testDenseIndexUsesBitSets() {
+        EqualsIndexDecisionTableRuleNode node = (EqualsIndexDecisionTableRuleNode) buildIndex(3, 10).findNode(1, null);
+        assertNotNull(node.getRuleBits());
+        int[] expected = IntStream.range(0, RULES).filter(ruleN -> matches(ruleN, 1, 3, 10)).toArray();
+        assertArrayEquals(expected, node.getRules());
+        assertArrayEquals(expected, toArray(node.getRulesIterator()));
+    }
+
+    @Test
+    public void testSparseIndexUsesArrays() {
+        EqualsIndexDecisionTableRuleNode node = (EqualsIndexDecisionTableRuleNode) buildIndex(97, 0).findNode(5, null);
+        assertNull(node.getRuleBits());
+        assertArrayEquals(new int[] { 5 }, node.getRules());
+    }
+
+    @Test
+    public void testIntersections() {
+        int[] modulos = { 2, 3, 50, 97 };
+        int[] emptySteps = { 0, 10 };
+        for (int modulo1 : modulos) {
+            for (int modulo2 : modulos) {
+                for (int emptyStep1 : emptySteps) {
+                    for (int emptyStep2 : emptySteps) {
+                        EqualsIndexV2 index1 = buildIndex(modulo1, emptyStep1);
+                        EqualsIndexV2 index2 = buildIndex(modulo2, emptyStep2);
+                        for (int value1 = 0; value1 < 4; value1++) {
+                            for (int value2 = -1; value2 < 4; value2++) {
+                                DecisionTableRuleNode node = index1.findNode(value1, null);
+                                node = index2.findNode(value2, node);
+                                int v1 = value1;
+                                int v2 = value2;
+                                int[] expected = IntStream.range(0, RULES)
+                                    .filter(ruleN -> matches(ruleN, v1, modulo1, emptyStep1) && matches(ruleN,
+                                        v2,
+                                        modulo2,
+                                        emptyStep2))
+                                    .toArray();
+                                assertArrayEquals(expected, node.getRules());
+                                assertArrayEquals(expected, toArray(node.getRulesIterator()));
+                            }
+                        }
+                        assertArrayEquals(IntStream.range(0, RULES).toArray(), index1.collectRules());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNotIndexedValue() {
+        int[] expected = IntStream.range(0, RULES).filter(ruleN -> isEmpty(ruleN, 10)).toArray();
+        DecisionTableRuleNode node = buildIndex(3, 10).findNode(42, null);
+        assertArrayEquals(expected, node.getRules());
+        node = buildIndex(97, 10).findNode(null, node);
+        assertArrayEquals(expected, node.getRules());
+    }
+}
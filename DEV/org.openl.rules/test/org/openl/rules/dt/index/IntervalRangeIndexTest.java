@@ -0,0 +1,85 @@
+package org.openl.rules.dt.index;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.openl.rules.dt.DecisionTableRuleNode;
+import org.openl.rules.dt.DecisionTableRuleNodeBuilder;
+import org.openl.rules.dt.EqualsIndexDecisionTableRuleNode;
+import org.openl.rules.dt.type.DoubleRangeAdaptor;
+import org.openl.rules.dt.type.IntRangeAdaptor;
+
+public class IntervalRangeIndexTest {
+
+    private static final int RULES = 200;
+
+    private static IntervalRangeIndex buildIndex(long[] mins, long[] maxs, int[] emptyRules) {
+        DecisionTableRuleNodeBuilder builder = new DecisionTableRuleNodeBuilder();
+        IntStream.range(0, mins.length).forEach(builder::addRule);
+        for (int ruleN : emptyRules) {
+            builder.addRule(ruleN);
+        }
+        int[] rules = IntStream.range(0, mins.length).toArray();
+        return new IntervalRangeIndex(builder.makeNode(), IntRangeAdaptor.getInstance(), mins, maxs, rules, emptyRules);
+    }
+
+    @Test
+    public void testOverlappingRanges() {
+        Random random = new Random(42);
+        long[] mins = new long[RULES];
+        long[] maxs = new long[RULES];
+        for (int i = 0; i < RULES; i++) {
+            mins[i] = random.nextInt(100);
+            maxs[i] = mins[i] + random.nextInt(30);
+        }
+        IntervalRangeIndex index = buildIndex(mins, maxs, new int[0]);
+        for (int value = -5; value < 140; value++) {
+            long v = value;
+            int[] expected = IntStream.range(0, RULES).filter(i -> mins[i] <= v && v < maxs[i]).toArray();
+            assertArrayEquals(String.valueOf(value), expected, index.findNode(value, null).getRules());
+        }
+    }
+
+    @Test
+    public void testEmptyRulesAndNullValue() {
+        IntervalRangeIndex index = buildIndex(new long[] { 0, 5 }, new long[] { 10, 15 }, new int[] { 2 });
+        assertArrayEquals(new int[] { 0, 1, 2 }, index.findNode(7, null).getRules());
+        assertArrayEquals(new int[] { 1, 2 }, index.findNode(12, null).getRules());
+        assertArrayEquals(new int[] { 2 }, index.findNode(20, null).getRules());
+        assertArrayEquals(new int[] { 2 }, index.findNode(null, null).getRules());
+        assertArrayEquals(new int[] { 0, 1, 2 }, index.collectRules());
+    }
+
+    @Test
+    public void testIntersectionWithPreviousResult() {
+        IntervalRangeIndex index = buildIndex(new long[] { 0, 0, 0, 0 }, new long[] { 10, 10, 10, 1 }, new int[0]);
+        DecisionTableRuleNode prev = new EqualsIndexDecisionTableRuleNode(new int[] { 1, 3 }, null);
+        assertArrayEquals(new int[] { 1 }, index.findNode(5, prev).getRules());
+        prev = new EqualsIndexDecisionTableRuleNode(new int[0], null);
+        assertArrayEquals(new int[0], index.findNode(5, prev).getRules());
+    }
+
+    @Test
+    public void testDoubleKeysKeepOrder() {
+        double[] values = { Double.NEGATIVE_INFINITY, -1e10, -1.5, -0.0, 0.0, Double.MIN_VALUE, 0.1, 2.5, 1e300,
+                Double.POSITIVE_INFINITY };
+        for (int i = 1; i < values.length; i++) {
+            assertTrue(IntervalRangeIndex.toKey(values[i - 1]) < IntervalRangeIndex.toKey(values[i]));
+        }
+
+        DecisionTableRuleNodeBuilder builder = new DecisionTableRuleNodeBuilder();
+        builder.addRule(0);
+        IntervalRangeIndex index = new IntervalRangeIndex(builder.makeNode(),
+            DoubleRangeAdaptor.getInstance(),
+            new long[] { IntervalRangeIndex.toKey(-1.5) },
+            new long[] { IntervalRangeIndex.toKey(0.1) },
+            new int[] { 0 },
+            new int[0]);
+        assertArrayEquals(new int[] { 0 }, index.findNode(-1, null).getRules());
+        assertArrayEquals(new int[0], index.findNode(0.1, null).getRules());
+    }
+}
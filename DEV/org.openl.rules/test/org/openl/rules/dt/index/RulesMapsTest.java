@@ -0,0 +1,93 @@
+package org.openl.rules.dt.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+import org.openl.rules.dt.algorithm.evaluator.FloatTypeComparator;
+
+public class RulesMapsTest {
+
+    @Test
+    public void testIntKeys() {
+        Map<Object, int[]> map = new HashMap<>();
+        for (int i = -500; i < 500; i++) {
+            map.put(i * 31, new int[] { i + 500 });
+        }
+        RulesMap rulesMap = RulesMaps.create(map);
+        assertTrue(rulesMap instanceof IntRulesMap);
+        assertEquals(1000, rulesMap.size());
+        int i = 0;
+        for (Object key : map.keySet()) {
+            assertEquals(i++, rulesMap.indexOf(key));
+        }
+        assertEquals(-1, rulesMap.indexOf(1));
+        assertEquals(-1, rulesMap.indexOf(31L));
+        assertEquals(-1, rulesMap.indexOf("31"));
+    }
+
+    @Test
+    public void testLongKeys() {
+        Map<Object, int[]> map = new LinkedHashMap<>();
+        map.put(Long.MAX_VALUE, new int[] { 1 });
+        map.put(0L, new int[] { 2, 3 });
+        RulesMap rulesMap = RulesMaps.create(map);
+        assertTrue(rulesMap instanceof LongRulesMap);
+        assertEquals(0, rulesMap.indexOf(Long.MAX_VALUE));
+        assertEquals(1, rulesMap.indexOf(0L));
+        assertEquals(-1, rulesMap.indexOf(0));
+        assertEquals(-1, rulesMap.indexOf(1L));
+    }
+
+    @Test
+    public void testStringKeys() {
+        Map<Object, int[]> map = new LinkedHashMap<>();
+        // "Aa" and "BB" have the same hash code
+        map.put("Aa", new int[] { 1 });
+        map.put("BB", new int[] { 2 });
+        map.put("CA", new int[] { 3 });
+        RulesMap rulesMap = RulesMaps.create(map);
+        assertTrue(rulesMap instanceof StringRulesMap);
+        assertEquals(0, rulesMap.indexOf("Aa"));
+        assertEquals(1, rulesMap.indexOf("BB"));
+        assertEquals(2, rulesMap.indexOf(new String("CA")));
+        assertEquals(-1, rulesMap.indexOf("NY"));
+    }
+
+    @Test
+    public void testDoubleKeys() {
+        Map<Object, int[]> map = new TreeMap<>(FloatTypeComparator.getInstance());
+        map.put(0.1, new int[] { 1 });
+        map.put(2.5f, new int[] { 2 });
+        map.put(-7.0, new int[] { 3 });
+        RulesMap rulesMap = RulesMaps.create(map);
+        assertTrue(rulesMap instanceof DoubleRulesMap);
+        assertEquals(1, rulesMap.indexOf(0.1));
+        assertEquals(1, rulesMap.indexOf(0.1f));
+        assertEquals(1, rulesMap.indexOf(Math.nextUp(0.1)));
+        assertEquals(2, rulesMap.indexOf(2.5));
+        assertEquals(0, rulesMap.indexOf(-7));
+        assertEquals(-1, rulesMap.indexOf(0.2));
+        assertEquals(-1, rulesMap.indexOf("0.1"));
+    }
+
+    @Test
+    public void testFallbackToMap() {
+        Map<Object, int[]> map = new HashMap<>();
+        map.put(1, new int[] { 1 });
+        map.put("1", new int[] { 2 });
+        assertTrue(RulesMaps.create(map) instanceof ObjectRulesMap);
+
+        Map<Object, int[]> decimals = new TreeMap<>();
+        decimals.put(BigDecimal.ONE, new int[] { 1 });
+        RulesMap rulesMap = RulesMaps.create(decimals);
+        assertTrue(rulesMap instanceof ObjectRulesMap);
+        assertEquals(0, rulesMap.indexOf(new BigDecimal("1.00")));
+    }
+}
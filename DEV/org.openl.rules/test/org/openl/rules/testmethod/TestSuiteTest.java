@@ -0,0 +1,79 @@
+package org.openl.rules.testmethod;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.openl.CompiledOpenClass;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.types.IOpenClass;
+
+public class TestSuiteTest {
+
+    private static final String FILE_NAME = "test/rules/testmethod/RoundExpectedResult.xls";
+
+    @Test
+    public void testInvokeParallelInOneQueue() {
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(FILE_NAME);
+        engineFactory.setExecutionMode(false);
+        CompiledOpenClass compiledOpenClass = engineFactory.getCompiledOpenClass();
+        assertFalse("There are compilation errors in test", compiledOpenClass.hasErrors());
+        IOpenClass openClass = compiledOpenClass.getOpenClass();
+
+        List<TestSuite> testSuites = new ArrayList<>();
+        for (TestSuiteMethod testSuiteMethod : ProjectHelper.allTesters(openClass)) {
+            testSuites.add(new TestSuite(testSuiteMethod));
+        }
+        assertTrue(testSuites.size() > 1);
+
+        TestSuiteExecutor executor = new TestSuiteExecutor(3);
+        try {
+            List<TestUnitsResults> results = TestSuite.invokeParallel(executor, openClass, 1, testSuites);
+            assertEquals(testSuites.size(), results.size());
+            for (int i = 0; i < testSuites.size(); i++) {
+                TestSuite testSuite = testSuites.get(i);
+                TestUnitsResults expected = testSuite.invokeSequentially(openClass, 1);
+                TestUnitsResults actual = results.get(i);
+                assertSame(testSuite, actual.getTestSuite());
+                assertEquals(expected.getNumberOfTestUnits(), actual.getNumberOfTestUnits());
+                for (int j = 0; j < expected.getNumberOfTestUnits(); j++) {
+                    ITestUnit testUnit = actual.getTestUnits().get(j);
+                    assertNotNull(testUnit);
+                    assertSame(testSuite.getTest(j), testUnit.getTest());
+                    assertEquals(expected.getTestUnits().get(j).getResultStatus(), testUnit.getResultStatus());
+                }
+            }
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    public void testExecutionTimePercentile() {
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(FILE_NAME);
+        engineFactory.setExecutionMode(false);
+        IOpenClass openClass = engineFactory.getCompiledOpenClass().getOpenClass();
+        TestSuite testSuite = new TestSuite(ProjectHelper.allTesters(openClass)[0]);
+        TestUnitsResults results = testSuite.invokeSequentially(openClass, 1);
+        assertTrue(results.getNumberOfTestUnits() > 0);
+
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (ITestUnit testUnit : results.getTestUnits()) {
+            min = Math.min(min, testUnit.getExecutionTime());
+            max = Math.max(max, testUnit.getExecutionTime());
+        }
+        assertEquals(min, results.getExecutionTimePercentile(0));
+        assertEquals(max, results.getExecutionTimePercentile(100));
+        long median = results.getExecutionTimePercentile(50);
+        assertTrue(min <= median && median <= max);
+
+        assertEquals(0, new TestUnitsResults(testSuite).getExecutionTimePercentile(50));
+    }
+}
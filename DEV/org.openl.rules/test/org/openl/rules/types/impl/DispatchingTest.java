@@ -85,6 +85,37 @@ public class DispatchingTest {
         assertEquals("none", instance.getPriority());
     }
 
+    @Test
+    public void testRepeatedDispatching() throws Exception {
+        DateFormat df = new SimpleDateFormat("yyyy-MM-dd");
+        Object[][] testData = { { "2011-08-15", "2012-01-01", 4.0 },
+                { "2011-08-15", "2009-01-01", 2.0 },
+                { "2011-08-16", "2012-01-02", 4.0 },
+                { "2011-08-17", "2009-01-02", 2.0 } };
+        // Results of the same method are cached by the classes of the context values
+        for (int k = 0; k < 3; k++) {
+            for (int i = 0; i < testData.length; i++) {
+                IRulesRuntimeContext context = initContext();
+                Object[] data = testData[i];
+                context.setCurrentDate(df.parse((String) data[0]));
+                context.setRequestDate(df.parse((String) data[1]));
+                DoubleValue res = instance.driverRiskScoreOverloadTest2("High Risk Driver");
+                assertEquals("testData index = " + i, (Double) data[2], res.doubleValue(), 0);
+            }
+            IRulesRuntimeContext context = initContext();
+            context.setCountry(CountriesEnum.GB);
+            context.setLang(LanguagesEnum.ENG);
+            context.setCurrency(CurrenciesEnum.GBP);
+            assertEquals("GB.EUR,GBP", instance.getPriority());
+            context.setCurrency(CurrenciesEnum.AED);
+            assertEquals("none", instance.getPriority());
+            context.setCountry(CountriesEnum.US);
+            context.setLang(LanguagesEnum.GER);
+            context.setCurrency(CurrenciesEnum.USD);
+            assertEquals("US.USD", instance.getPriority());
+        }
+    }
+
     @Test
     public void testRequestDate() throws Exception {
         DateFormat df = new SimpleDateFormat("yyyy-MM-dd");
@@ -0,0 +1,111 @@
+package org.openl.rules.vm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ArgumentCachingStorageTest {
+
+    private static final Object METHOD = new Object();
+
+    private ArgumentCachingStorage storage;
+
+    @Before
+    public void setUp() {
+        storage = new ArgumentCachingStorage(new SimpleRulesRuntimeEnv());
+        storage.setSkipCloningImmutableArguments(true);
+    }
+
+    private void assertNotFound(Object... params) {
+        try {
+            storage.findInCache(METHOD, params);
+            fail();
+        } catch (ResultNotFoundException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testFindAndStatistics() throws ResultNotFoundException {
+        assertNull(storage.getStatistics(METHOD));
+        assertNotFound("a", 1);
+        storage.putToCache(METHOD, new Object[] { "a", 1 }, "result");
+        storage.putToCache(METHOD, new Object[] { "b", null }, null);
+
+        assertEquals("result", storage.findInCache(METHOD, "a", 1));
+        assertNull(storage.findInCache(METHOD, "b", null));
+        assertNotFound("a", 2);
+
+        ArgumentCachingStorage.Statistics statistics = storage.getStatistics(METHOD);
+        assertEquals(2, statistics.getHits());
+        assertEquals(2, statistics.getMisses());
+        assertEquals(2, statistics.getSize());
+        assertEquals(0, statistics.getEvictions());
+
+        storage.resetMethodArgumentsCache();
+        assertNotFound("a", 1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResultsAreEvicted() throws ResultNotFoundException {
+        storage.setMaximumSize(4);
+        for (int i = 0; i < 4; i++) {
+            storage.putToCache(METHOD, new Object[] { i }, i);
+        }
+        assertEquals(0, storage.findInCache(METHOD, 0));
+        storage.putToCache(METHOD, new Object[] { 4 }, 4);
+
+        assertEquals(0, storage.findInCache(METHOD, 0));
+        assertNotFound(1);
+        assertEquals(4, storage.findInCache(METHOD, 4));
+        assertEquals(1, storage.getStatistics(METHOD).getEvictions());
+        assertEquals(4, storage.getStatistics(METHOD).getSize());
+    }
+
+    @Test
+    public void testAllResultsUpToMaximumSizeAreKept() throws ResultNotFoundException {
+        int size = storage.getMaximumSize();
+        for (int i = 0; i < size; i++) {
+            storage.putToCache(METHOD, new Object[] { i }, i);
+        }
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, storage.findInCache(METHOD, i));
+        }
+        assertEquals(0, storage.getStatistics(METHOD).getEvictions());
+        assertEquals(size, storage.getStatistics(METHOD).getSize());
+    }
+
+    @Test
+    public void testResultsOfUnreachableMethodsAreReleased() throws InterruptedException {
+        storage.putToCache(new Object(), new Object[] { "a" }, "result");
+        for (int i = 0; i < 50 && !storage.getStatistics().isEmpty(); i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertTrue(storage.getStatistics().isEmpty());
+    }
+
+    @Test
+    public void testForkForVariation() throws ResultNotFoundException {
+        storage.putToCache(METHOD, new Object[] { "a" }, "cached");
+        storage.makeForwardStepForOriginalCalculation(METHOD);
+        storage.makeBackwardStepForOriginalCalculation(METHOD, "original");
+
+        ArgumentCachingStorage first = storage.forkForVariation(new SimpleRulesRuntimeEnv());
+        ArgumentCachingStorage second = storage.forkForVariation(new SimpleRulesRuntimeEnv());
+        assertEquals("cached", first.findInCache(METHOD, "a"));
+        assertEquals("cached", second.findInCache(METHOD, "a"));
+
+        // Each fork walks through the steps of the original calculation independently
+        assertTrue(first.makeForwardStep(METHOD));
+        assertEquals("original", first.getValueFromOriginalCalculation(METHOD));
+        assertTrue(second.makeForwardStep(METHOD));
+        assertEquals("original", second.getValueFromOriginalCalculation(METHOD));
+        assertFalse(first.makeForwardStep(METHOD));
+    }
+}
@@ -0,0 +1,69 @@
+package org.openl.rules.vm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.context.RulesRuntimeContextFactory;
+import org.openl.rules.dt.DecisionTableRuntimePool;
+
+public class SimpleRulesRuntimeEnvResetTest {
+
+    @Test
+    public void testReset() {
+        SimpleRulesRuntimeEnv env = new SimpleRulesRuntimeEnv();
+        Object[] initialFrame = env.getLocalFrame();
+
+        env.pushThis("this");
+        env.pushLocalFrame(new Object[] { "arg" });
+        IRulesRuntimeContext context = RulesRuntimeContextFactory.buildRulesRuntimeContext();
+        context.setLob("lob");
+        env.pushContext(context);
+        env.setMethodArgumentsCacheEnable(true);
+        env.changeMethodArgumentsCacheMode(CacheMode.READ_WRITE);
+        env.setIgnoreRecalculate(false);
+        env.setOriginalCalculation(false);
+        ArgumentCachingStorage storage = env.getArgumentCachingStorage();
+        storage.setSkipCloningImmutableArguments(true);
+        storage.setMaximumSize(5);
+        storage.putToCache("method", new Object[] { 1 }, "cached");
+        DecisionTableRuntimePool pool = env.acquireDecisionTableRuntimePool(1);
+        pool.pushConditionExecutionResultToPool(0, "condition");
+
+        env.reset();
+
+        assertNull(env.getThis());
+        assertEquals(initialFrame.length, env.getLocalFrame().length);
+        IRulesRuntimeContext resetContext = (IRulesRuntimeContext) env.getContext();
+        assertNotSame(context, resetContext);
+        assertNull(resetContext.getLob());
+        env.popContext();
+        assertTrue(isContextStackEmpty(env));
+
+        assertFalse(env.isMethodArgumentsCacheEnable());
+        assertEquals(CacheMode.READ_ONLY, env.getCacheMode());
+        assertTrue(env.isIgnoreRecalculation());
+        assertTrue(env.isOriginalCalculation());
+        assertSame(storage, env.getArgumentCachingStorage());
+        assertTrue(storage.getStatistics().isEmpty());
+        assertFalse(storage.isSkipCloningImmutableArguments());
+        assertEquals(ArgumentCachingStorage.DEFAULT_MAXIMUM_SIZE, storage.getMaximumSize());
+
+        assertNull(pool.getConditionExecutionResult(0));
+        assertSame(pool, env.acquireDecisionTableRuntimePool(1));
+    }
+
+    private static boolean isContextStackEmpty(SimpleRulesRuntimeEnv env) {
+        try {
+            env.getContext();
+            return false;
+        } catch (IllegalStateException e) {
+            return true;
+        }
+    }
+}
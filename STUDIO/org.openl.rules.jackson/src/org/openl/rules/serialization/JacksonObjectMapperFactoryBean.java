@@ -17,6 +17,7 @@ import java.util.Set;
 import java.util.TimeZone;
 
 import org.openl.rules.serialization.jackson.Mixin;
+import org.openl.rules.serialization.jackson.SpreadsheetResultModule;
 import org.openl.rules.serialization.jackson.org.openl.rules.variation.ArgumentReplacementVariationType;
 import org.openl.rules.serialization.jackson.org.openl.rules.variation.ComplexVariationType;
 import org.openl.rules.serialization.jackson.org.openl.rules.variation.DeepCloningVariationType;
@@ -67,6 +68,8 @@ public class JacksonObjectMapperFactoryBean {
 
     private boolean polymorphicTypeValidation = false;
 
+    private boolean spreadsheetResultsAsPlainModel = false;
+
     public ObjectMapper createJacksonObjectMapper() {
         ObjectMapper mapper = new ObjectMapper();
 
@@ -139,6 +142,9 @@ public class JacksonObjectMapperFactoryBean {
             mapper.addMixIn(JXPathVariation.class, JXPathVariationType.class);
             mapper.addMixIn(VariationsResult.class, VariationsResultType.class);
         }
+        if (isSpreadsheetResultsAsPlainModel()) {
+            mapper.registerModule(new SpreadsheetResultModule());
+        }
         if (getDefaultDateFormat() == null) {
             mapper.setDateFormat(getISO8601Format());
         } else {
@@ -246,4 +252,16 @@ public class JacksonObjectMapperFactoryBean {
     public void setPolymorphicTypeValidation(boolean polymorphicTypeValidation) {
         this.polymorphicTypeValidation = polymorphicTypeValidation;
     }
+
+    public boolean isSpreadsheetResultsAsPlainModel() {
+        return spreadsheetResultsAsPlainModel;
+    }
+
+    /**
+     * Writes spreadsheet results as their plain models directly from the cells. Such JSON cannot be read back to
+     * spreadsheet results.
+     */
+    public void setSpreadsheetResultsAsPlainModel(boolean spreadsheetResultsAsPlainModel) {
+        this.spreadsheetResultsAsPlainModel = spreadsheetResultsAsPlainModel;
+    }
 }
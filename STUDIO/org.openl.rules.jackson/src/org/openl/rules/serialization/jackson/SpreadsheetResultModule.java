@@ -0,0 +1,29 @@
+package org.openl.rules.serialization.jackson;
+
+/*
+ * #%L
+ * OpenL - Rules - Serialization
+ * %%
+ * Copyright (C) 2016 OpenL Tablets
+ * %%
+ * See the file LICENSE.txt for copying permission.
+ * #L%
+ */
+
+import org.openl.rules.calc.SpreadsheetResult;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Writes spreadsheet results as their plain models with {@link SpreadsheetResultSerializer}. Such JSON cannot be read
+ * back to {@link SpreadsheetResult}, so the module is used only for responses.
+ */
+public class SpreadsheetResultModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    public SpreadsheetResultModule() {
+        super(SpreadsheetResultModule.class.getName());
+        addSerializer(SpreadsheetResult.class, new SpreadsheetResultSerializer());
+    }
+}
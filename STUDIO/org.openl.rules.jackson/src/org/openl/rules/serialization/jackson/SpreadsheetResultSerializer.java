@@ -0,0 +1,156 @@
+package org.openl.rules.serialization.jackson;
+
+/*
+ * #%L
+ * OpenL - Rules - Serialization
+ * %%
+ * Copyright (C) 2016 OpenL Tablets
+ * %%
+ * See the file LICENSE.txt for copying permission.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openl.rules.calc.CustomSpreadsheetResultOpenClass;
+import org.openl.rules.calc.SpreadsheetResult;
+import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
+import org.openl.rules.table.Point;
+import org.openl.types.IOpenClass;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes a spreadsheet result as its plain model directly from the cells, without creating the bean or the map of
+ * {@link SpreadsheetResult#toPlain()}. The names of the fields are the same as in the plain model, nested spreadsheet
+ * results are written by this serializer too. The cells are written in the same way as the values of the map of the
+ * plain model, and the type id of the plain model is used, so the JSON is read back as the plain model.
+ */
+public class SpreadsheetResultSerializer extends StdSerializer<SpreadsheetResult> {
+
+    private static final long serialVersionUID = 1L;
+
+    public SpreadsheetResultSerializer() {
+        super(SpreadsheetResult.class);
+    }
+
+    @Override
+    public void serialize(SpreadsheetResult value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        writeFields(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(SpreadsheetResult value,
+            JsonGenerator gen,
+            SerializerProvider provider,
+            TypeSerializer typeSer) throws IOException {
+        gen.setCurrentValue(value);
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen,
+            typeSer.typeId(value, getPlainModelType(value), JsonToken.START_OBJECT));
+        writeFields(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private void writeFields(SpreadsheetResult value,
+            JsonGenerator gen,
+            SerializerProvider provider) throws IOException {
+        if (value.getRowNames() == null || value.getColumnNames() == null) {
+            return;
+        }
+        boolean detailedPlainModel = value.isDetailedPlainModel();
+        String[][] fieldNames = detailedPlainModel ? new String[value.getRowNames().length][value
+            .getColumnNames().length] : null;
+        Map<String, Point> fields = value.getPlainModelFields(getModule(value), fieldNames);
+        TypeSerializer valueTypeSerializer = provider.findTypeSerializer(provider.constructType(Object.class));
+        JsonInclude.Include inclusion = provider.getConfig()
+            .getDefaultPropertyInclusion(Map.class)
+            .getContentInclusion();
+        for (Map.Entry<String, Point> field : fields.entrySet()) {
+            Point p = field.getValue();
+            writeField(field.getKey(),
+                value.getValue(p.getRow(), p.getColumn()),
+                gen,
+                provider,
+                valueTypeSerializer,
+                inclusion);
+        }
+        if (detailedPlainModel) {
+            writeField(fields.containsKey("fieldNames") ? "$fieldNames" : "fieldNames",
+                fieldNames,
+                gen,
+                provider,
+                valueTypeSerializer,
+                inclusion);
+            writeField(fields.containsKey("rowNames") ? "$rowNames" : "rowNames",
+                value.getRowNames(),
+                gen,
+                provider,
+                valueTypeSerializer,
+                inclusion);
+            writeField(fields.containsKey("columnNames") ? "$columnNames" : "columnNames",
+                value.getColumnNames(),
+                gen,
+                provider,
+                valueTypeSerializer,
+                inclusion);
+        }
+    }
+
+    private static void writeField(String name,
+            Object value,
+            JsonGenerator gen,
+            SerializerProvider provider,
+            TypeSerializer valueTypeSerializer,
+            JsonInclude.Include inclusion) throws IOException {
+        if (value == null) {
+            if (inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS) {
+                gen.writeFieldName(name);
+                provider.defaultSerializeNull(gen);
+            }
+            return;
+        }
+        JsonSerializer<Object> serializer = provider.findValueSerializer(value.getClass());
+        if (inclusion == JsonInclude.Include.NON_EMPTY && serializer.isEmpty(provider, value)) {
+            return;
+        }
+        gen.writeFieldName(name);
+        if (valueTypeSerializer == null) {
+            serializer.serialize(value, gen, provider);
+        } else {
+            serializer.serializeWithType(value, gen, provider, valueTypeSerializer);
+        }
+    }
+
+    /**
+     * Returns the module which {@link SpreadsheetResult#toPlain()} uses for the result.
+     */
+    private static XlsModuleOpenClass getModule(SpreadsheetResult value) {
+        CustomSpreadsheetResultOpenClass type = value.getCustomSpreadsheetResultOpenClass();
+        return type != null ? type.getModule() : null;
+    }
+
+    /**
+     * Returns the type of the object which {@link SpreadsheetResult#toPlain()} creates for the result.
+     */
+    private static Class<?> getPlainModelType(SpreadsheetResult value) {
+        XlsModuleOpenClass module = getModule(value);
+        if (module != null) {
+            IOpenClass type = module.findType(value.getCustomSpreadsheetResultOpenClass().getName());
+            if (type instanceof CustomSpreadsheetResultOpenClass) {
+                return ((CustomSpreadsheetResultOpenClass) type).getBeanClass();
+            }
+        }
+        return HashMap.class;
+    }
+}
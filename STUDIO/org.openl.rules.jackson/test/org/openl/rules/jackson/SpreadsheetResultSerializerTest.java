@@ -0,0 +1,98 @@
+package org.openl.rules.jackson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.openl.rules.calc.SpreadsheetResult;
+import org.openl.rules.serialization.DefaultTypingMode;
+import org.openl.rules.serialization.JacksonObjectMapperFactoryBean;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class SpreadsheetResultSerializerTest {
+
+    @Test
+    public void testPlainModel() throws Exception {
+        SpreadsheetResult outer = createSpreadsheetResult(10, 20);
+
+        JacksonObjectMapperFactoryBean factory = new JacksonObjectMapperFactoryBean();
+        factory.setDefaultTypingMode(DefaultTypingMode.DISABLE);
+        factory.setSpreadsheetResultsAsPlainModel(true);
+        ObjectMapper mapper = factory.createJacksonObjectMapper();
+        assertEquals(
+            "{\"Col1_Row1\":10,\"Col2_Row1\":20,\"Col1_Row2\":{\"Amount\":1,\"Label\":\"A\"},\"Col2_Row2\":null}",
+            mapper.writeValueAsString(outer));
+
+        factory.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        mapper = factory.createJacksonObjectMapper();
+        assertEquals("{\"Col1_Row1\":10,\"Col2_Row1\":20,\"Col1_Row2\":{\"Amount\":1,\"Label\":\"A\"}}",
+            mapper.writeValueAsString(outer));
+    }
+
+    @Test
+    public void testDetailedPlainModel() throws Exception {
+        SpreadsheetResult result = new SpreadsheetResult(new Object[][] { { 1, 2 } },
+            new String[] { "Row" },
+            new String[] { "rowNames", "B" },
+            new String[] { "Row" },
+            new String[] { "rowNames", "B" },
+            null);
+        result.setDetailedPlainModel(true);
+
+        JacksonObjectMapperFactoryBean factory = new JacksonObjectMapperFactoryBean();
+        factory.setDefaultTypingMode(DefaultTypingMode.DISABLE);
+        factory.setSpreadsheetResultsAsPlainModel(true);
+        assertEquals(
+            "{\"rowNames\":1,\"B\":2,\"fieldNames\":[[\"rowNames\",\"B\"]],\"$rowNames\":[\"Row\"],\"columnNames\":[\"rowNames\",\"B\"]}",
+            factory.createJacksonObjectMapper().writeValueAsString(result));
+    }
+
+    @Test
+    public void testSameJsonAsConvertedPlainModel() throws Exception {
+        SpreadsheetResult result = createSpreadsheetResult(10L, new BigDecimal("20.5"));
+        for (DefaultTypingMode defaultTypingMode : DefaultTypingMode.values()) {
+            for (JsonInclude.Include inclusion : new JsonInclude.Include[] { JsonInclude.Include.ALWAYS,
+                    JsonInclude.Include.NON_NULL }) {
+                JacksonObjectMapperFactoryBean factory = new JacksonObjectMapperFactoryBean();
+                factory.setDefaultTypingMode(defaultTypingMode);
+                factory.setSerializationInclusion(inclusion);
+                ObjectMapper mapper = factory.createJacksonObjectMapper();
+                factory.setSpreadsheetResultsAsPlainModel(true);
+                ObjectMapper plainModelMapper = factory.createJacksonObjectMapper();
+
+                // The array elements are of Object type, so type ids are written as for service responses
+                String expected = mapper.writeValueAsString(new Object[] { result.toMap() });
+                String actual = plainModelMapper.writeValueAsString(new Object[] { result });
+                assertEquals(defaultTypingMode + ", " + inclusion, mapper.readTree(expected), mapper.readTree(actual));
+            }
+        }
+    }
+
+    @Test
+    public void testDefaultFormatIsKept() throws Exception {
+        SpreadsheetResult result = new SpreadsheetResult(new Object[][] { { 1 } },
+            new String[] { "Row" },
+            new String[] { "Col" });
+        String json = new JacksonObjectMapperFactoryBean().createJacksonObjectMapper().writeValueAsString(result);
+        assertTrue(json, json.contains("\"results\":[[1]]"));
+    }
+
+    private static SpreadsheetResult createSpreadsheetResult(Object first, Object second) {
+        SpreadsheetResult inner = new SpreadsheetResult(new Object[][] { { 1 }, { "A" } },
+            new String[] { "Amount", "Label" },
+            new String[] { "Value" },
+            new String[] { "Amount", "Label" },
+            new String[] { "Value" },
+            null);
+        return new SpreadsheetResult(new Object[][] { { first, second, null }, { inner, null, "hidden" } },
+            new String[] { "Row1", "Row2" },
+            new String[] { "Col1", "Col2", "Col3" },
+            new String[] { "Row1", "Row2" },
+            new String[] { "Col1", "Col2", null },
+            null);
+    }
+}
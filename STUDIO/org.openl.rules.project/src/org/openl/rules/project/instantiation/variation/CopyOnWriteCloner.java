@@ -0,0 +1,28 @@
+package org.openl.rules.project.instantiation.variation;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.openl.rules.project.SafeCloner;
+
+/**
+ * Cloner that copies only the given objects and shares all other objects with the original. References from the
+ * copied objects to other copied objects are replaced by the copies, so a modification of the copied objects is not
+ * visible in the original.
+ */
+class CopyOnWriteCloner extends SafeCloner {
+
+    private final Set<Object> objectsToCopy;
+
+    CopyOnWriteCloner(Set<Object> objectsToCopy) {
+        this.objectsToCopy = objectsToCopy;
+    }
+
+    @Override
+    public <T> T cloneInternal(T o, Map<Object, Object> clones) throws IllegalAccessException {
+        if (o == null || !objectsToCopy.contains(o)) {
+            return o;
+        }
+        return super.cloneInternal(o, clones);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.RecursiveTask;
 
 import org.openl.exception.OpenlNotCheckedException;
@@ -165,37 +166,32 @@ class VariationInstantiationStrategyEnhancerInvocationHandler implements IOpenLI
             Object[] arguments,
             SimpleRulesRuntimeEnv parentRuntimeEnv) {
         final Collection<VariationCalculationTask> tasks = new ArrayList<>(variationsPack.getVariations().size());
-        boolean f = false;
+        if (!Proxy.isProxyClass(serviceClassInstance.getClass()) && !variationsPack.getVariations().isEmpty()) {
+            log.warn("Variation features are not supported for Wrapper classses. This functionality was depricated.");
+        }
         for (Variation variation : variationsPack.getVariations()) {
-            final IRuntimeEnv runtimeEnv = parentRuntimeEnv.clone();
-
-            if (Proxy.isProxyClass(serviceClassInstance.getClass())) {
-                final OpenLRulesInvocationHandler handler = (OpenLRulesInvocationHandler) Proxy
-                    .getInvocationHandler(serviceClassInstance);
-                handler.setRuntimeEnv(runtimeEnv);
-                SimpleRulesRuntimeEnv simpleRulesRuntimeEnv = (SimpleRulesRuntimeEnv) runtimeEnv;
-                simpleRulesRuntimeEnv.changeMethodArgumentsCacheMode(org.openl.rules.vm.CacheMode.READ_ONLY);
-                simpleRulesRuntimeEnv.setOriginalCalculation(false);
-                simpleRulesRuntimeEnv.setIgnoreRecalculate(true);
-                simpleRulesRuntimeEnv.getArgumentCachingStorage().initCurrentStep();
-            } else {
-                if (!f) {
-                    log.warn(
-                        "Variation features are not supported for Wrapper classses. This functionality was depricated.");
-                    f = true;
-                }
-            }
-
-            final VariationCalculationTask item = new VariationCalculationTask(member,
-                cloner.deepClone(arguments),
-                variation,
-                runtimeEnv);
-            tasks.add(item);
-
+            // Each variation walks through the steps of the original calculation on its own
+            final IRuntimeEnv runtimeEnv = parentRuntimeEnv.cloneForVariation();
+            tasks.add(new VariationCalculationTask(member, arguments, variation, runtimeEnv));
         }
         return tasks.toArray(new VariationCalculationTask[] {});
     }
 
+    /**
+     * Copies the arguments for the calculation of the variation. The arguments are deep cloned, because the rules can
+     * modify them. Only the objects modified by the variation are copied if copy-on-write is enabled for the variation
+     * and the variation can find them. The copying is done by the tasks, so only the arguments of the variations being
+     * calculated are kept in memory.
+     */
+    private Object[] copyArguments(Object[] arguments, Variation variation) {
+        Set<Object> modifiedObjects = variation.isCopyOnWrite() ? variation.findModifiedObjects(arguments) : null;
+        if (modifiedObjects == null) {
+            return cloner.deepClone(arguments);
+        }
+        modifiedObjects.add(arguments);
+        return new CopyOnWriteCloner(modifiedObjects).deepClone(arguments);
+    }
+
     private class VariationCalculationTask extends RecursiveTask<VariationsResult<Object>> {
         private static final long serialVersionUID = 1L;
         private final Method member;
@@ -229,7 +225,7 @@ class VariationInstantiationStrategyEnhancerInvocationHandler implements IOpenLI
                     simpleRulesRuntimeEnv.getArgumentCachingStorage().initCurrentStep();
                 }
 
-                return calculateSingleVariation(member, arguments, variation);
+                return calculateSingleVariation(member, copyArguments(arguments, variation), variation);
             } catch (Exception e) {
                 log.error("Failed to calculate variation.", e);
                 throw e;
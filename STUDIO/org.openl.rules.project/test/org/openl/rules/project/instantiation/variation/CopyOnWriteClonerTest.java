@@ -0,0 +1,65 @@
+package org.openl.rules.project.instantiation.variation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class CopyOnWriteClonerTest {
+
+    public static class Driver {
+        private String name;
+        private int age;
+        private Driver spouse;
+
+        Driver(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    public static class Policy {
+        private final List<Driver> drivers = new ArrayList<>();
+        private Driver mainDriver;
+    }
+
+    @Test
+    public void testOnlyGivenObjectsAreCopied() {
+        Policy policy = new Policy();
+        Driver sara = new Driver("Sara", 30);
+        Driver john = new Driver("John", 40);
+        sara.spouse = john;
+        policy.drivers.add(sara);
+        policy.drivers.add(john);
+        policy.mainDriver = sara;
+        Object[] arguments = { policy, "state" };
+
+        Set<Object> objectsToCopy = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(objectsToCopy, arguments, policy, policy.drivers, sara);
+        Object[] copy = new CopyOnWriteCloner(objectsToCopy).deepClone(arguments);
+
+        assertNotSame(arguments, copy);
+        Policy policyCopy = (Policy) copy[0];
+        assertNotSame(policy, policyCopy);
+        assertNotSame(policy.drivers, policyCopy.drivers);
+        Driver saraCopy = policyCopy.drivers.get(0);
+        assertNotSame(sara, saraCopy);
+        // References to the copied objects are replaced
+        assertSame(saraCopy, policyCopy.mainDriver);
+        // Other objects are shared
+        assertSame(john, policyCopy.drivers.get(1));
+        assertSame(john, saraCopy.spouse);
+        assertSame(arguments[1], copy[1]);
+
+        saraCopy.age = 17;
+        assertEquals(30, sara.age);
+        assertEquals("Sara", saraCopy.name);
+    }
+}
@@ -0,0 +1,92 @@
+package org.openl.rules.project.instantiation.variation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.openl.rules.variation.ArgumentReplacementVariation;
+import org.openl.rules.variation.NoVariation;
+import org.openl.rules.variation.Variation;
+import org.openl.rules.variation.VariationsPack;
+import org.openl.rules.variation.VariationsResult;
+import org.openl.rules.vm.SimpleRulesRuntimeEnv;
+import org.openl.runtime.IEngineWrapper;
+import org.openl.vm.IRuntimeEnv;
+
+public class VariationInstantiationStrategyEnhancerInvocationHandlerTest {
+
+    public static class Counter {
+        private int value;
+    }
+
+    public interface Service {
+        VariationsResult<Integer> increment(String name, Counter counter, VariationsPack variations);
+    }
+
+    /**
+     * The rule modifies its argument.
+     */
+    public static class Rules implements IEngineWrapper {
+        private final SimpleRulesRuntimeEnv runtimeEnv = new SimpleRulesRuntimeEnv();
+
+        public Integer increment(String name, Counter counter) {
+            return ++counter.value;
+        }
+
+        @Override
+        public Object getInstance() {
+            return this;
+        }
+
+        @Override
+        public IRuntimeEnv getRuntimeEnv() {
+            return runtimeEnv;
+        }
+
+        @Override
+        public void release() {
+        }
+    }
+
+    @Test
+    public void testArgumentsAreNotSharedBetweenVariations() throws Throwable {
+        Counter counter = new Counter();
+        VariationsResult<Integer> result = calculate(counter, false);
+
+        assertTrue(result.getVariationFailures().isEmpty());
+        assertEquals(Integer.valueOf(1), result.getResultForVariation(NoVariation.ORIGINAL_CALCULATION));
+        assertEquals(Integer.valueOf(2), result.getResultForVariation("first"));
+        assertEquals(Integer.valueOf(2), result.getResultForVariation("second"));
+        assertEquals(1, counter.value);
+    }
+
+    @Test
+    public void testArgumentsAreSharedIfCopyOnWriteIsEnabled() throws Throwable {
+        Counter counter = new Counter();
+        VariationsResult<Integer> result = calculate(counter, true);
+
+        // Copy-on-write must not be enabled if the rules modify the arguments
+        assertTrue(result.getVariationFailures().isEmpty());
+        assertEquals(5, result.getResultForVariation("first") + result.getResultForVariation("second"));
+        assertEquals(3, counter.value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VariationsResult<Integer> calculate(Counter counter, boolean copyOnWrite) throws Throwable {
+        Variation first = new ArgumentReplacementVariation("first", 0, "first");
+        Variation second = new ArgumentReplacementVariation("second", 0, "second");
+        first.setCopyOnWrite(copyOnWrite);
+        second.setCopyOnWrite(copyOnWrite);
+
+        VariationInstantiationStrategyEnhancerInvocationHandler handler = new VariationInstantiationStrategyEnhancerInvocationHandler(
+            Collections.singletonMap(
+                Service.class.getMethod("increment", String.class, Counter.class, VariationsPack.class),
+                Rules.class.getMethod("increment", String.class, Counter.class)),
+            new Rules());
+        return (VariationsResult<Integer>) handler.invoke(null,
+            Service.class.getMethod("increment", String.class, Counter.class, VariationsPack.class),
+            new Object[] { "original", counter, new VariationsPack(first, second) });
+    }
+}
@@ -79,6 +79,7 @@ public class GitRepository implements FolderRepository, BranchRepository, Closea
 
     private ReadWriteLock repositoryLock = new ReentrantReadWriteLock();
     private ReentrantLock remoteRepoLock = new ReentrantLock();
+    private final HistoryIndex historyIndex = new HistoryIndex();
 
     private Map<String, List<String>> branches = new HashMap<>();
 
@@ -692,6 +693,7 @@ public class GitRepository implements FolderRepository, BranchRepository, Closea
             git.close();
             git = null;
         }
+        historyIndex.clear();
         for (GitRepository repository : branchRepos.values()) {
             repository.close();
         }
@@ -1209,16 +1211,16 @@ public class GitRepository implements FolderRepository, BranchRepository, Closea
                 return historyVisitor.getResult();
             }
 
-            Iterator<RevCommit> iterator = git.log().add(resolveBranchId()).addPath(name).call().iterator();
-
-            List<Ref> tags = git.tagList().call();
-
-            while (iterator.hasNext()) {
-                RevCommit commit = iterator.next();
-
-                boolean stop = historyVisitor.visit(name, commit, getVersionName(git.getRepository(), tags, commit));
-                if (stop) {
-                    break;
+            ObjectId branchId = resolveBranchId();
+            Map<ObjectId, String> versionNames = getVersionNames(git.getRepository(), git.tagList().call());
+            try (RevWalk walk = new RevWalk(git.getRepository())) {
+                for (ObjectId commitId : historyIndex.getHistory(git, branchId, name)) {
+                    RevCommit commit = walk.parseCommit(commitId);
+                    String version = versionNames.get(commit);
+                    boolean stop = historyVisitor.visit(name, commit, version != null ? version : commit.getName());
+                    if (stop) {
+                        break;
+                    }
                 }
             }
 
@@ -1330,6 +1332,22 @@ public class GitRepository implements FolderRepository, BranchRepository, Closea
         return tagRef != null ? getLocalTagName(tagRef) : commitId.getName();
     }
 
+    /**
+     * @return version names of the tagged commits
+     */
+    private static Map<ObjectId, String> getVersionNames(Repository repository, List<Ref> tags) throws IOException {
+        Map<ObjectId, String> versionNames = new HashMap<>();
+        for (Ref tagRef : tags) {
+            ObjectId objectId = repository.getRefDatabase().peel(tagRef).getPeeledObjectId();
+            if (objectId == null) {
+                objectId = tagRef.getObjectId();
+            }
+            // If a commit has several tags, the first one is used as in getTagRefForCommit()
+            versionNames.putIfAbsent(objectId, getLocalTagName(tagRef));
+        }
+        return versionNames;
+    }
+
     private static Ref getTagRefForCommit(Repository repository, List<Ref> tags, ObjectId commitId) throws IOException {
         Ref tagRefForCommit = null;
         for (Ref tagRef : tags) {
@@ -0,0 +1,103 @@
+package org.openl.rules.repository.git;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.LogCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+/**
+ * Ids of the commits which changed a path, by path. The history of a path is calculated for a commit once and is
+ * updated incrementally when the branch moves forward without merges: only the new commits are walked. Otherwise the
+ * history is calculated again, because the commits brought by a merge are ordered by time among the indexed ones.
+ * <p>
+ * Only the ids are kept, the commits are parsed again when the history is read.
+ */
+final class HistoryIndex {
+    /**
+     * Protects from unbounded growth when a lot of different paths are requested.
+     */
+    private static final int MAX_PATHS = 1000;
+
+    private final Map<String, PathHistory> histories = new ConcurrentHashMap<>();
+
+    /**
+     * @param git git repository
+     * @param head the last commit of the history
+     * @param path path to the file or folder
+     * @return ids of the commits which changed the path, from the newest to the oldest one
+     */
+    List<ObjectId> getHistory(Git git, ObjectId head, String path) throws IOException, GitAPIException {
+        PathHistory indexed = histories.get(path);
+        if (indexed != null && indexed.head.equals(head)) {
+            return indexed.commits;
+        }
+
+        List<ObjectId> commits = new ArrayList<>();
+        LogCommand logCommand = git.log().add(head).addPath(path);
+        boolean incremental = indexed != null && isLinearDescendant(git, indexed.head, head);
+        if (incremental) {
+            logCommand.not(indexed.head);
+        }
+        for (RevCommit commit : logCommand.call()) {
+            commits.add(commit.copy());
+        }
+        if (incremental) {
+            commits.addAll(indexed.commits);
+        }
+
+        if (histories.size() >= MAX_PATHS) {
+            histories.clear();
+        }
+        PathHistory history = new PathHistory(head.copy(), Collections.unmodifiableList(commits));
+        histories.put(path, history);
+        return history.commits;
+    }
+
+    void clear() {
+        histories.clear();
+    }
+
+    /**
+     * Checks that the commit is a descendant of the ancestor and there are no merge commits between them. In this case
+     * the new commits precede the commits of the ancestor in the log.
+     */
+    private static boolean isLinearDescendant(Git git, ObjectId ancestor, ObjectId commit) throws IOException {
+        try (RevWalk walk = new RevWalk(git.getRepository())) {
+            RevCommit start = walk.parseCommit(commit);
+            RevCommit end = walk.parseCommit(ancestor);
+            walk.markStart(start);
+            walk.markUninteresting(end);
+            RevCommit last = null;
+            for (RevCommit next : walk) {
+                if (next.getParentCount() != 1) {
+                    return false;
+                }
+                last = next;
+            }
+            return last != null && last.getParent(0).equals(end);
+        } catch (MissingObjectException e) {
+            // The commit was removed from the repository
+            return false;
+        }
+    }
+
+    private static final class PathHistory {
+        private final ObjectId head;
+        private final List<ObjectId> commits;
+
+        private PathHistory(ObjectId head, List<ObjectId> commits) {
+            this.head = head;
+            this.commits = commits;
+        }
+    }
+}
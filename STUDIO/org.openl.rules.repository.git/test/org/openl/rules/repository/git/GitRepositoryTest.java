@@ -10,16 +10,20 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.TimeZone;
 
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.Status;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.junit.After;
@@ -43,6 +47,7 @@ public class GitRepositoryTest {
     private static final String BRANCH = "test";
     private static final String FOLDER_IN_REPOSITORY = "rules/project1/";
     private static final String TAG_PREFIX = "Rules_";
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
 
     private static File template;
     private File root;
@@ -396,6 +401,83 @@ public class GitRepositoryTest {
         assertEquals(1, repo.listHistory("rules/project1/folder").size());
     }
 
+    @Test
+    public void listHistoryAfterChanges() throws IOException, GitAPIException {
+        String path = "rules/project1/file2";
+        assertEquals(2, repo.listHistory(path).size());
+
+        // Local commit
+        String text = "Modified";
+        repo.save(createFileData(path, text), IOUtils.toInputStream(text));
+        List<FileData> file2History = repo.listHistory(path);
+        assertEquals(3, file2History.size());
+        assertEquals("Rules_2", file2History.get(0).getVersion());
+        assertEquals("Rules_5", file2History.get(2).getVersion());
+
+        // Fetched commit
+        try (Git git = Git.open(new File(root, "remote"))) {
+            git.checkout().setName(BRANCH).call();
+            File file2 = new File(git.getRepository().getDirectory().getParentFile(), path);
+            writeText(file2, "Modify on remote server");
+            git.commit().setAll(true).setMessage("Modify file2").setCommitter("user2", "user2@gmail.to").call();
+        }
+        repo.getLastRevision();
+        file2History = repo.listHistory(path);
+        assertEquals(4, file2History.size());
+        assertEquals("Rules_5", file2History.get(2).getVersion());
+        assertFalse(file2History.get(3).isDeleted());
+
+        // The history of other paths is not changed
+        assertEquals(1, repo.listHistory("rules/project1/folder").size());
+    }
+
+    @Test
+    public void listHistoryAfterMerge() throws IOException, GitAPIException, RRepositoryException {
+        String path = "rules/project1";
+        assertEquals(2, repo.listHistory(path).size());
+
+        try (Git git = Git.open(new File(root, "remote"))) {
+            File parent = git.getRepository().getDirectory().getParentFile();
+            git.checkout().setName(BRANCH).call();
+            RevCommit head = git.log().setMaxCount(1).call().iterator().next();
+            Date headTime = head.getCommitterIdent().getWhen();
+
+            // The commit of the merged branch is older than the last commit of the indexed history
+            git.checkout().setCreateBranch(true).setName("feature").call();
+            writeText(new File(parent, path + "/file1"), "Modified in feature");
+            git.commit()
+                .setAll(true)
+                .setMessage("Modify file1")
+                .setCommitter(new PersonIdent("user2", "user2@gmail.to", new Date(headTime.getTime() - 60000), UTC))
+                .call();
+
+            git.checkout().setName(BRANCH).call();
+            writeText(new File(parent, path + "/file2"), "Modified in test");
+            git.commit()
+                .setAll(true)
+                .setMessage("Modify file2")
+                .setCommitter(new PersonIdent("user1", "user1@mail.to", new Date(headTime.getTime() + 60000), UTC))
+                .call();
+            git.merge().include(git.getRepository().resolve("feature")).setMessage("Merge feature").call();
+        }
+        repo.getLastRevision();
+        List<FileData> history = repo.listHistory(path);
+
+        try (GitRepository secondRepo = createRepository(new File(root, "remote"), new File(root, "second"))) {
+            List<FileData> fullHistory = secondRepo.listHistory(path);
+            assertEquals(getVersions(fullHistory), getVersions(history));
+            assertEquals(5, history.size());
+        }
+    }
+
+    private static List<String> getVersions(List<FileData> history) {
+        List<String> versions = new ArrayList<>();
+        for (FileData data : history) {
+            versions.add(data.getVersion());
+        }
+        return versions;
+    }
+
     @Test
     public void checkHistory() throws IOException {
         assertEquals("Rules_2", repo.checkHistory("rules/project1/file2", "Rules_2").getVersion());
@@ -1,5 +1,6 @@
 package org.openl.rules.common.impl;
 
+import java.math.BigInteger;
 import java.util.regex.Pattern;
 
 import org.openl.rules.common.CommonVersion;
@@ -78,7 +79,8 @@ public class CommonVersionImpl implements CommonVersion {
         String otherRevision = other.getRevision();
 
         if (ONLY_DIGITS.matcher(revision).matches() && ONLY_DIGITS.matcher(otherRevision).matches()) {
-            return Integer.parseInt(revision) - Integer.parseInt(otherRevision);
+            // Revisions can be longer than int, e.g. modification time of a file
+            return new BigInteger(revision).compareTo(new BigInteger(otherRevision));
         }
 
         // Cannot be parsed as int. Compare as Strings.
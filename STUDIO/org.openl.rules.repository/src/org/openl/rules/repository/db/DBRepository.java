@@ -1,8 +1,13 @@
 package org.openl.rules.repository.db;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.openl.rules.repository.RRepositoryFactory;
@@ -20,9 +25,14 @@ public abstract class DBRepository implements Repository, Closeable, RRepository
 
     private Settings settings;
     private ChangesMonitor monitor;
+    private final MetadataCache metadataCache = new MetadataCache();
 
     @Override
     public List<FileData> list(String path) throws IOException {
+        return cached("list:" + path, () -> selectFiles(path));
+    }
+
+    private List<FileData> selectFiles(String path) throws IOException {
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet rs = null;
@@ -53,7 +63,11 @@ public abstract class DBRepository implements Repository, Closeable, RRepository
 
     @Override
     public FileData check(String name) throws IOException {
-        return getLatestVersionFileData(name);
+        List<FileData> fileData = cached("check:" + name, () -> {
+            FileData latest = getLatestVersionFileData(name);
+            return latest == null ? Collections.emptyList() : Collections.singletonList(latest);
+        });
+        return fileData.isEmpty() ? null : fileData.get(0);
     }
 
     @Override
@@ -94,26 +108,27 @@ public abstract class DBRepository implements Repository, Closeable, RRepository
     public List<FileData> save(List<FileItem> fileItems) throws IOException {
         List<FileData> result = new ArrayList<>();
         Connection connection = null;
+        PreparedStatement statement = null;
         try {
             connection = getConnection();
             connection.setAutoCommit(false);
+            // All files are inserted by one batch in one transaction
+            statement = connection.prepareStatement(settings.insertFile);
             for (FileItem fileItem : fileItems) {
                 FileData data = fileItem.getData();
-                PreparedStatement statement = null;
-                try {
-                    statement = createInsertFileStatement(connection, data, fileItem.getStream());
-                    statement.executeUpdate();
-                } finally {
-                    safeClose(statement);
-                }
+                setInsertFileParameters(statement, data, fileItem.getStream());
+                statement.addBatch();
                 data.setVersion(null);
                 result.add(data);
             }
+            statement.executeBatch();
             connection.commit();
             invokeListener();
         } catch (SQLException e) {
+            safeRollback(connection);
             throw new IOException(e);
         } finally {
+            safeClose(statement);
             safeClose(connection);
         }
         return result;
@@ -171,10 +186,15 @@ public abstract class DBRepository implements Repository, Closeable, RRepository
         if (monitor != null) {
             monitor.setListener(callback);
         }
+        metadataCache.setEnabled(monitor != null && callback != null);
     }
 
     @Override
     public List<FileData> listHistory(String name) throws IOException {
+        return cached("history:" + name, () -> selectHistory(name));
+    }
+
+    private List<FileData> selectHistory(String name) throws IOException {
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet rs = null;
@@ -327,6 +347,17 @@ public abstract class DBRepository implements Repository, Closeable, RRepository
 
     protected abstract Connection getConnection() throws SQLException;
 
+    private List<FileData> cached(String key, MetadataQuery query) throws IOException {
+        List<FileData> cached = metadataCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = metadataCache.getGeneration();
+        List<FileData> fileDatas = query.select();
+        metadataCache.put(key, fileDatas, generation);
+        return fileDatas;
+    }
+
     private FileData getLatestVersionFileData(String name) throws IOException {
         Connection connection = null;
         PreparedStatement statement = null;
@@ -392,14 +423,25 @@ public abstract class DBRepository implements Repository, Closeable, RRepository
         }
 
         // ResultSet will be closed, so InputStream can be closed too, that's
-        // why copy it to byte array before.
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // why copy it to byte array or to a temporary file before.
         try {
+            if (fileData.getSize() > settings.memoryThreshold) {
+                Path tempFile = Files.createTempFile("openl-db-repository", ".tmp");
+                try {
+                    Files.copy(data, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                    // The temporary file is deleted when the stream is closed
+                    return new FileItem(fileData, Files.newInputStream(tempFile, StandardOpenOption.DELETE_ON_CLOSE));
+                } catch (IOException | RuntimeException e) {
+                    Files.deleteIfExists(tempFile);
+                    throw e;
+                }
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
             IOUtils.copy(data, out);
+            return new FileItem(fileData, new ByteArrayInputStream(out.toByteArray()));
         } catch (IOException e) {
             throw new SQLException(e);
         }
-        return new FileItem(fileData, new ByteArrayInputStream(out.toByteArray()));
     }
 
     private FileData createFileData(ResultSet rs) throws SQLException {
@@ -445,6 +487,16 @@ public abstract class DBRepository implements Repository, Closeable, RRepository
         return path.replace("$", "$$").replace("%", "$%") + "%";
     }
 
+    private void safeRollback(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.rollback();
+            } catch (Exception e) {
+                log.warn("Failed to rollback", e);
+            }
+        }
+    }
+
     protected void safeClose(Statement st) {
         if (st != null) {
             try {
@@ -456,6 +508,7 @@ public abstract class DBRepository implements Repository, Closeable, RRepository
     }
 
     private void invokeListener() {
+        metadataCache.invalidate();
         monitor.fireOnChange();
     }
 
@@ -491,6 +544,13 @@ public abstract class DBRepository implements Repository, Closeable, RRepository
             InputStream stream) throws SQLException {
 
         PreparedStatement statement = connection.prepareStatement(settings.insertFile);
+        setInsertFileParameters(statement, data, stream);
+        return statement;
+    }
+
+    private void setInsertFileParameters(PreparedStatement statement,
+            FileData data,
+            InputStream stream) throws SQLException {
         statement.setString(1, data.getName());
         statement.setString(2, data.getAuthor());
         statement.setString(3, data.getComment());
@@ -500,7 +560,6 @@ public abstract class DBRepository implements Repository, Closeable, RRepository
             // Workaround for PostreSQL
             statement.setBinaryStream(4, null, 0);
         }
-        return statement;
     }
 
     @Override
@@ -583,6 +642,7 @@ public abstract class DBRepository implements Repository, Closeable, RRepository
                 log.warn("Cannot check revision of the repository", (Throwable) revision);
                 return null;
             }
+            metadataCache.onRevision(revision);
             return revision;
         }
     }
@@ -612,4 +672,8 @@ public abstract class DBRepository implements Repository, Closeable, RRepository
         }
         return changeSet;
     }
+
+    private interface MetadataQuery {
+        List<FileData> select() throws IOException;
+    }
 }
@@ -0,0 +1,88 @@
+package org.openl.rules.repository.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openl.rules.repository.api.FileData;
+
+/**
+ * Cache of the file metadata read from the database. It is invalidated when the repository is changed by this instance
+ * or when the revision of the repository, which is checked by the changes monitor, is changed.
+ * <p>
+ * Cached entries are copied on every read, because {@link FileData} is mutable.
+ */
+final class MetadataCache {
+    private final Map<String, List<FileData>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Object revision;
+    private volatile boolean enabled;
+
+    /**
+     * The cache is used only while the revision of the repository is monitored. Otherwise the changes made by other
+     * nodes are not visible.
+     */
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        invalidate();
+    }
+
+    /**
+     * @return the current generation of the cache. It must be got before querying the database.
+     */
+    long getGeneration() {
+        return generation.get();
+    }
+
+    List<FileData> get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        List<FileData> cached = entries.get(key);
+        return cached == null ? null : copy(cached);
+    }
+
+    /**
+     * Stores the metadata if the cache has not been invalidated after the given generation.
+     */
+    void put(String key, List<FileData> value, long queriedGeneration) {
+        if (enabled && generation.get() == queriedGeneration) {
+            entries.put(key, copy(value));
+            if (generation.get() != queriedGeneration) {
+                // Invalidated concurrently
+                entries.remove(key);
+            }
+        }
+    }
+
+    void onRevision(Object revision) {
+        if (!Objects.equals(this.revision, revision)) {
+            this.revision = revision;
+            invalidate();
+        }
+    }
+
+    void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private static List<FileData> copy(List<FileData> fileDatas) {
+        List<FileData> result = new ArrayList<>(fileDatas.size());
+        for (FileData fileData : fileDatas) {
+            FileData copy = new FileData();
+            copy.setName(fileData.getName());
+            copy.setSize(fileData.getSize());
+            copy.setAuthor(fileData.getAuthor());
+            copy.setComment(fileData.getComment());
+            copy.setModifiedAt(fileData.getModifiedAt());
+            copy.setVersion(fileData.getVersion());
+            copy.setDeleted(fileData.isDeleted());
+            result.add(copy);
+        }
+        return result;
+    }
+}
@@ -13,6 +13,10 @@ import org.slf4j.LoggerFactory;
 final class Settings {
     private final Logger log = LoggerFactory.getLogger(Settings.class);
     int timerPeriod;
+    /**
+     * Files which are larger than this size in bytes are read to temporary files instead of memory.
+     */
+    int memoryThreshold;
     Collection<String> initStatements;
     String selectAllMetainfo;
     String selectAllHistoryMetainfo;
@@ -37,6 +41,7 @@ final class Settings {
         resolve(queries);
 
         timerPeriod = getIntValue(queries, "setting.timerPeriod", 10);
+        memoryThreshold = getIntValue(queries, "setting.memoryThreshold", 1024 * 1024);
 
         insertFile = getRequired(queries, "query.insert-new-file");
         copyFile = getRequired(queries, "query.copy-last-file");
@@ -0,0 +1,74 @@
+package org.openl.rules.repository.db;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.openl.rules.repository.api.FileData;
+
+public class MetadataCacheTest {
+
+    @Test
+    public void testCachedEntriesAreCopied() {
+        MetadataCache cache = new MetadataCache();
+        cache.setEnabled(true);
+        FileData fileData = createFileData("project.zip", "1");
+        cache.put("key", Collections.singletonList(fileData), cache.getGeneration());
+
+        List<FileData> cached = cache.get("key");
+        assertEquals(1, cached.size());
+        assertNotSame(fileData, cached.get(0));
+        assertEquals("project.zip", cached.get(0).getName());
+        assertEquals("1", cached.get(0).getVersion());
+
+        cached.get(0).setVersion(null);
+        assertEquals("1", cache.get("key").get(0).getVersion());
+    }
+
+    @Test
+    public void testInvalidation() {
+        MetadataCache cache = new MetadataCache();
+        cache.setEnabled(true);
+        cache.onRevision("1");
+
+        long generation = cache.getGeneration();
+        cache.put("key", Collections.singletonList(createFileData("project.zip", "1")), generation);
+        cache.onRevision("1");
+        assertEquals(1, cache.get("key").size());
+
+        cache.onRevision("2");
+        assertNull(cache.get("key"));
+
+        // The data queried before invalidation is not cached
+        cache.put("key", Collections.singletonList(createFileData("project.zip", "1")), generation);
+        assertNull(cache.get("key"));
+
+        cache.put("key", Collections.emptyList(), cache.getGeneration());
+        assertEquals(0, cache.get("key").size());
+        cache.invalidate();
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    public void testDisabled() {
+        MetadataCache cache = new MetadataCache();
+        cache.put("key", Collections.emptyList(), cache.getGeneration());
+        assertNull(cache.get("key"));
+
+        cache.setEnabled(true);
+        cache.put("key", Collections.emptyList(), cache.getGeneration());
+        cache.setEnabled(false);
+        assertNull(cache.get("key"));
+    }
+
+    private static FileData createFileData(String name, String version) {
+        FileData fileData = new FileData();
+        fileData.setName(name);
+        fileData.setVersion(version);
+        return fileData;
+    }
+}
@@ -1,5 +1,7 @@
 package org.openl.rules.variation;
 
+import java.util.Set;
+
 import javax.xml.bind.annotation.XmlRootElement;
 
 /*
@@ -70,6 +72,14 @@ public class ArgumentReplacementVariation extends Variation {
         modifiedArguments[updatedArgumentIndex] = previousValue;
     }
 
+    /**
+     * Only the array of the arguments is modified, the argument itself is replaced.
+     */
+    @Override
+    public Set<Object> findModifiedObjects(Object[] originalArguments) {
+        return newIdentitySet();
+    }
+
     /**
      * @return Index of arguments to be modified.
      */
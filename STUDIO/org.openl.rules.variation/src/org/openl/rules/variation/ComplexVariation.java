@@ -1,5 +1,7 @@
 package org.openl.rules.variation;
 
+import java.util.Set;
+
 import javax.xml.bind.annotation.XmlRootElement;
 
 /*
@@ -95,6 +97,19 @@ public class ComplexVariation extends Variation {
         }
     }
 
+    @Override
+    public Set<Object> findModifiedObjects(Object[] originalArguments) {
+        Set<Object> modifiedObjects = newIdentitySet();
+        for (Variation variation : variations) {
+            Set<Object> objects = variation.findModifiedObjects(originalArguments);
+            if (objects == null) {
+                return null;
+            }
+            modifiedObjects.addAll(objects);
+        }
+        return modifiedObjects;
+    }
+
     public Variation[] getVariations() {
         return variations;
     }
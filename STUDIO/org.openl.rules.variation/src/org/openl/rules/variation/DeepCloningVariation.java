@@ -10,6 +10,8 @@ package org.openl.rules.variation;
  * #L%
  */
 
+import java.util.Set;
+
 import javax.xml.bind.annotation.XmlRootElement;
 
 import com.rits.cloning.Cloner;
@@ -92,6 +94,14 @@ public class DeepCloningVariation extends Variation {
     public void revertModifications(Object[] modifiedArguments, Object previousValue) {
     }
 
+    /**
+     * The arguments are deep cloned by this variation itself, the original objects are not modified.
+     */
+    @Override
+    public Set<Object> findModifiedObjects(Object[] originalArguments) {
+        return newIdentitySet();
+    }
+
     /**
      * @return Wrapped variation.
      */
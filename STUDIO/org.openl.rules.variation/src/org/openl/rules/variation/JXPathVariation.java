@@ -10,11 +10,14 @@ package org.openl.rules.variation;
  * #L%
  */
 
+import java.util.Set;
+
 import javax.xml.bind.annotation.XmlRootElement;
 
 import org.apache.commons.jxpath.CompiledExpression;
 import org.apache.commons.jxpath.JXPathContext;
 import org.apache.commons.jxpath.Pointer;
+import org.apache.commons.jxpath.ri.model.NodePointer;
 
 /**
  * Variation implementation using to find fields to modify JXpath (See {@link http://commons.apache.org/jxpath/}). Note:
@@ -99,6 +102,37 @@ public class JXPathVariation extends Variation {
         compiledExpression.setValue(context, previousValue);
     }
 
+    /**
+     * Collects all the objects on the path: the beans whose fields are set and the collections whose elements are set.
+     */
+    @Override
+    public Set<Object> findModifiedObjects(Object[] originalArguments) {
+        if (updatedArgumentIndex >= originalArguments.length) {
+            return null;
+        }
+        Set<Object> modifiedObjects = newIdentitySet();
+        try {
+            JXPathContext context = JXPathContext.newContext(originalArguments[updatedArgumentIndex]);
+            context.setLenient(true);
+            NodePointer pointer = (NodePointer) compiledExpression.getPointer(context, path);
+            while (pointer != null) {
+                addIfNotNull(modifiedObjects, pointer.getBaseValue());
+                addIfNotNull(modifiedObjects, pointer.getNode());
+                pointer = pointer.getImmediateParentPointer();
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        addIfNotNull(modifiedObjects, originalArguments[updatedArgumentIndex]);
+        return modifiedObjects;
+    }
+
+    private static void addIfNotNull(Set<Object> objects, Object object) {
+        if (object != null) {
+            objects.add(object);
+        }
+    }
+
     /**
      * @return Index of arguments to be modified.
      */
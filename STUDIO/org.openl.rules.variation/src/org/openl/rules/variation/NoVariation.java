@@ -1,5 +1,7 @@
 package org.openl.rules.variation;
 
+import java.util.Set;
+
 import javax.xml.bind.annotation.XmlRootElement;
 
 /*
@@ -42,4 +44,9 @@ public class NoVariation extends Variation {
     public Object currentValue(Object[] originalArguments) {
         return null;
     }
+
+    @Override
+    public Set<Object> findModifiedObjects(Object[] originalArguments) {
+        return newIdentitySet();
+    }
 }
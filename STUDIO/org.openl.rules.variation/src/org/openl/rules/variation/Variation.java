@@ -10,6 +10,9 @@ package org.openl.rules.variation;
  * #L%
  */
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.xml.bind.annotation.XmlRootElement;
@@ -32,6 +35,7 @@ import javax.xml.bind.annotation.XmlSeeAlso;
         DeepCloningVariation.class })
 public abstract class Variation {
     private String variationID;
+    private boolean copyOnWrite;
 
     /**
      * No argument constructor. Required for WS data binding.
@@ -60,6 +64,23 @@ public abstract class Variation {
         this.variationID = variationID;
     }
 
+    /**
+     * @return <code>true</code> if only the objects found by {@link #findModifiedObjects(Object[])} are copied for the
+     *         calculation, otherwise the arguments are deep cloned.
+     */
+    public boolean isCopyOnWrite() {
+        return copyOnWrite;
+    }
+
+    /**
+     * Enables copying of only the objects modified by this variation. The rest of the arguments is shared with the
+     * original calculation and the other variations calculated at the same time, so it can be enabled only if the
+     * rules do not modify their arguments.
+     */
+    public void setCopyOnWrite(boolean copyOnWrite) {
+        this.copyOnWrite = copyOnWrite;
+    }
+
     /**
      * Returns current value for this variation
      *
@@ -85,4 +106,25 @@ public abstract class Variation {
      */
     public abstract void revertModifications(Object[] modifiedArguments, Object previousValue);
 
+    /**
+     * Finds the objects of the arguments which are modified by this variation. The variation can be applied to a copy
+     * of the arguments where only these objects are copied and the rest of the objects is shared with the original
+     * arguments (copy-on-write) if it is enabled by {@link #setCopyOnWrite(boolean)}. The array of the arguments is
+     * always copied.
+     *
+     * @param originalArguments Original arguments for calculation.
+     * @return Identity set of the modified objects or <code>null</code> if they cannot be determined. In this case the
+     *         arguments are deep cloned.
+     */
+    public Set<Object> findModifiedObjects(Object[] originalArguments) {
+        return null;
+    }
+
+    /**
+     * Creates an empty set to collect the modified objects by their identity.
+     */
+    protected static Set<Object> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
 }
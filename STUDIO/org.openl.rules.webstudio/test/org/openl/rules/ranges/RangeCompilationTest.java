@@ -5,9 +5,9 @@ import static org.junit.Assert.*;
 import org.junit.Test;
 import org.openl.rules.dt.DecisionTable;
 import org.openl.rules.dt.IBaseCondition;
-import org.openl.rules.dt.algorithm.evaluator.CombinedRangeIndexEvaluator;
 import org.openl.rules.dt.algorithm.evaluator.EqualsIndexedEvaluator;
 import org.openl.rules.dt.algorithm.evaluator.IConditionEvaluator;
+import org.openl.rules.dt.algorithm.evaluator.IntervalRangeIndexEvaluator;
 import org.openl.rules.project.instantiation.RulesInstantiationException;
 import org.openl.rules.project.instantiation.SimpleProjectEngineFactory;
 import org.openl.rules.project.resolving.ProjectResolvingException;
@@ -38,7 +38,7 @@ public class RangeCompilationTest {
 
         dt = findDt("SimpleRules_DateRange_WhenAtLeastOneRangeIsDefined", openClass);
         assertConditionsNumber(dt, 1);
-        assertConditionEvaluatorClass(dt.getConditionRows()[0], CombinedRangeIndexEvaluator.class);
+        assertConditionEvaluatorClass(dt.getConditionRows()[0], IntervalRangeIndexEvaluator.class);
 
         dt = findDt("NotStringRange_WhenJustSimpleStringAndSkippedPatternAreDefined", openClass);
         assertConditionsNumber(dt, 1);
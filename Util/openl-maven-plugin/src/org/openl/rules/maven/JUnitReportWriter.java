@@ -104,7 +104,7 @@ class JUnitReportWriter {
         try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
             xml = factory.createXMLStreamWriter(writer);
             try {
-                writeTestsuite(suitName, tests, failures, errors, executionTime, testUnits);
+                writeTestsuite(suitName, tests, failures, errors, executionTime, testUnits, result);
             } finally {
                 xml.flush();
                 xml.close();
@@ -118,7 +118,8 @@ class JUnitReportWriter {
             int failures,
             int errors,
             long executionTime,
-            List<ITestUnit> testUnits) throws XMLStreamException {
+            List<ITestUnit> testUnits,
+            TestUnitsResults result) throws XMLStreamException {
 
         xml.writeStartDocument("UTF-8", "1.0");
         start("testsuite");
@@ -131,6 +132,8 @@ class JUnitReportWriter {
         attr("time", getTime(executionTime));
         attr("timestamp", getCurrentDateTime());
 
+        writeExecutionTimeProperties(result);
+
         for (ITestUnit test : testUnits) {
             writeTestcase(name, test);
         }
@@ -140,6 +143,24 @@ class JUnitReportWriter {
         xml.writeEndDocument();
     }
 
+    private void writeExecutionTimeProperties(TestUnitsResults result) throws XMLStreamException {
+        if (result.getNumberOfTestUnits() == 0) {
+            return;
+        }
+        start("properties");
+        writeProperty("openl.time.median", getTime(result.getExecutionTimePercentile(50)));
+        writeProperty("openl.time.p95", getTime(result.getExecutionTimePercentile(95)));
+        writeProperty("openl.time.p99", getTime(result.getExecutionTimePercentile(99)));
+        writeProperty("openl.time.max", getTime(result.getExecutionTimePercentile(100)));
+        end();
+    }
+
+    private void writeProperty(String name, String value) throws XMLStreamException {
+        empty("property");
+        attr("name", name);
+        attr("value", value);
+    }
+
     private void writeTestcase(String testName, ITestUnit test) throws XMLStreamException {
 
         if (test.getResultStatus() == TR_OK) {
@@ -298,23 +298,39 @@ public final class TestMojo extends BaseOpenLMojo {
 
         try {
             TestSuiteMethod[] tests = ProjectHelper.allTesters(openClass);
-            for (TestSuiteMethod test : tests) {
+            List<TestUnitsResults> parallelResults = null;
+            if (testSuiteExecutor != null) {
+                // Tests of all test tables are run in one queue to keep all threads busy
+                List<TestSuite> testSuites = new ArrayList<>(tests.length);
+                for (TestSuiteMethod test : tests) {
+                    testSuites.add(new TestSuite(test, testRunner));
+                }
+                ClassLoader oldClassLoader = Thread.currentThread().getContextClassLoader();
+                try {
+                    Thread.currentThread().setContextClassLoader(openLRules.getClassLoader());
+                    parallelResults = TestSuite.invokeParallel(testSuiteExecutor, openClass, 1, testSuites);
+                } finally {
+                    Thread.currentThread().setContextClassLoader(oldClassLoader);
+                }
+            }
+            for (int i = 0; i < tests.length; i++) {
+                TestSuiteMethod test = tests[i];
                 String moduleName = test.getModuleName();
                 try {
                     info("");
                     String moduleInfo = moduleName == null ? "" : " from the module " + moduleName;
                     info("Running ", test.getName(), moduleInfo);
                     TestUnitsResults result;
-                    ClassLoader oldClassLoader = Thread.currentThread().getContextClassLoader();
-                    try {
-                        Thread.currentThread().setContextClassLoader(openLRules.getClassLoader());
-                        if (testSuiteExecutor == null) {
+                    if (parallelResults == null) {
+                        ClassLoader oldClassLoader = Thread.currentThread().getContextClassLoader();
+                        try {
+                            Thread.currentThread().setContextClassLoader(openLRules.getClassLoader());
                             result = new TestSuite(test, testRunner).invokeSequentially(openClass, 1);
-                        } else {
-                            result = new TestSuite(test, testRunner).invokeParallel(testSuiteExecutor, openClass, 1);
+                        } finally {
+                            Thread.currentThread().setContextClassLoader(oldClassLoader);
                         }
-                    } finally {
-                        Thread.currentThread().setContextClassLoader(oldClassLoader);
+                    } else {
+                        result = parallelResults.get(i);
                     }
                     writeReport(result);
 
@@ -332,6 +348,15 @@ public final class TestMojo extends BaseOpenLMojo {
                         formatTime(result.getExecutionTime()),
                         " sec.",
                         result.getNumberOfFailures() > 0 ? " " + FAILURE : "");
+                    if (suitTests > 1) {
+                        info("Test case time: median ",
+                            formatTime(result.getExecutionTimePercentile(50)),
+                            " sec, 95th percentile ",
+                            formatTime(result.getExecutionTimePercentile(95)),
+                            " sec, max ",
+                            formatTime(result.getExecutionTimePercentile(100)),
+                            " sec.");
+                    }
 
                     if (result.getNumberOfFailures() > 0) {
                         showFailures(test, result, summaryFailures, summaryErrors);
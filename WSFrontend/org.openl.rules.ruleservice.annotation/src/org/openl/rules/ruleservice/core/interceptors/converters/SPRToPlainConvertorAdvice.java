@@ -22,6 +22,11 @@ public class SPRToPlainConvertorAdvice extends AbstractServiceMethodAfterReturni
 
     @Override
     public Object afterReturning(Method interfaceMethod, Object result, Object... args) throws Exception {
+        if (result instanceof SpreadsheetResult && SpreadsheetResultPlainModelHolder
+            .isWrittenAsPlainModel() && interfaceMethod.getReturnType().isInstance(result)) {
+            // The publisher writes the plain model directly from the cells
+            return result;
+        }
         return SpreadsheetResult.convertSpreadsheetResults(module, result);
     }
 }
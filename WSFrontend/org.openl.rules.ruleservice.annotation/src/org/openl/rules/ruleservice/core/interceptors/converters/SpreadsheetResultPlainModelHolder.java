@@ -0,0 +1,25 @@
+package org.openl.rules.ruleservice.core.interceptors.converters;
+
+/**
+ * Thread bound flag of a publisher which writes spreadsheet results as their plain models itself. If the flag is set,
+ * {@link SPRToPlainConvertorAdvice} keeps spreadsheet results unconverted.
+ */
+public final class SpreadsheetResultPlainModelHolder {
+
+    private SpreadsheetResultPlainModelHolder() {
+    }
+
+    private static final ThreadLocal<Boolean> WRITTEN_AS_PLAIN_MODEL_HOLDER = new ThreadLocal<>();
+
+    public static boolean isWrittenAsPlainModel() {
+        return Boolean.TRUE.equals(WRITTEN_AS_PLAIN_MODEL_HOLDER.get());
+    }
+
+    public static void setWrittenAsPlainModel() {
+        WRITTEN_AS_PLAIN_MODEL_HOLDER.set(Boolean.TRUE);
+    }
+
+    public static void remove() {
+        WRITTEN_AS_PLAIN_MODEL_HOLDER.remove();
+    }
+}
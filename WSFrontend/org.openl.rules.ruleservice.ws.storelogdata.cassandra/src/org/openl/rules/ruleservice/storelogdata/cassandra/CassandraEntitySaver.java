@@ -1,6 +1,7 @@
 package org.openl.rules.ruleservice.storelogdata.cassandra;
 
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 
 import org.openl.rules.ruleservice.storelogdata.cassandra.annotation.EntityOperations;
 import org.slf4j.Logger;
@@ -19,7 +20,15 @@ public class CassandraEntitySaver {
     }
 
     public void insert(Object entity) {
-        entityOperations.insert(dao, entity).exceptionally(e -> {
+        insertAsync(entity);
+    }
+
+    /**
+     * Starts an asynchronous insert. The returned stage is completed normally even if the insert fails, the failure is
+     * logged.
+     */
+    public CompletionStage<Void> insertAsync(Object entity) {
+        return entityOperations.insert(dao, entity).exceptionally(e -> {
             log.error("Failed to save cassandra entity.", e);
             return null;
         });
@@ -3,11 +3,15 @@ package org.openl.rules.ruleservice.storelogdata.cassandra;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.openl.rules.ruleservice.core.OpenLService;
@@ -131,6 +135,33 @@ public class CassandraOperations implements InitializingBean, DisposableBean, Ru
         }
     }
 
+    /**
+     * Saves entities with pipelined asynchronous inserts and waits until all of them are completed.
+     */
+    public void saveAll(Collection<?> entities) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(entities.size());
+        for (Object entity : entities) {
+            if (entity == null) {
+                continue;
+            }
+            try {
+                createSchemaIfMissed(entity.getClass());
+                EntitySupport entitySupport = entity.getClass().getAnnotation(EntitySupport.class);
+                if (entitySupport == null) {
+                    log.error(
+                        "Failed to save cassandra entity. Annotation @EntitySupport is not presented in class {}.",
+                        entity.getClass().getTypeName());
+                } else {
+                    futures.add(getEntitySaver(entity.getClass()).insertAsync(entity).toCompletableFuture());
+                }
+            } catch (ReflectiveOperationException | DaoCreationException | SchemaCreationException e) {
+                // Continue the loop if exception occurs
+                log.error("Failed to save cassandra entity.", e);
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
     @Override
     public void onDeploy(OpenLService service) {
         // Only onUndeploy is used for clear used classes to prevent memory leak.
@@ -1,6 +1,11 @@
 package org.openl.rules.ruleservice.storelogdata.cassandra;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.openl.binding.MethodUtil;
@@ -40,6 +45,37 @@ public class CassandraStoreLogDataService implements StoreLogDataService {
 
     @Override
     public void save(StoreLogData storeLogData) {
+        for (Object entity : createEntities(storeLogData)) {
+            if (entity != null) {
+                try {
+                    cassandraOperations.save(entity);
+                } catch (Exception e) {
+                    // Continue the loop if exception occurs
+                    log.error("Failed on cassandra entity save operation.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends inserts of all records without waiting for each of them and waits for the whole batch at the end.
+     */
+    @Override
+    public void saveAll(Collection<StoreLogData> storeLogDataCollection) {
+        List<Object> entities = new ArrayList<>();
+        for (StoreLogData storeLogData : storeLogDataCollection) {
+            entities.addAll(createEntities(storeLogData));
+        }
+        if (!entities.isEmpty()) {
+            try {
+                cassandraOperations.saveAll(entities);
+            } catch (Exception e) {
+                log.error("Failed on cassandra entities save operation.", e);
+            }
+        }
+    }
+
+    private List<Object> createEntities(StoreLogData storeLogData) {
         Object[] entities;
 
         StoreLogDataToCassandra storeLogDataToCassandraAnnotation = storeLogData.getServiceClass()
@@ -51,7 +87,7 @@ public class CassandraStoreLogDataService implements StoreLogDataService {
         }
 
         if (storeLogDataToCassandraAnnotation == null) {
-            return;
+            return Collections.emptyList();
         }
 
         if (storeLogDataToCassandraAnnotation.value().length == 0) {
@@ -73,7 +109,7 @@ public class CassandraStoreLogDataService implements StoreLogDataService {
                                     .printQualifiedMethodName(serviceMethod) + "'" : StringUtils.EMPTY,
                                 entityClass.getTypeName()), e);
                         }
-                        return;
+                        return Collections.emptyList();
                     }
                 }
                 i++;
@@ -94,18 +130,9 @@ public class CassandraStoreLogDataService implements StoreLogDataService {
                             e);
                     }
                 }
-                return;
-            }
-        }
-        for (Object entity : entities) {
-            if (entity != null) {
-                try {
-                    cassandraOperations.save(entity);
-                } catch (Exception e) {
-                    // Continue the loop if exception occurs
-                    log.error("Failed on cassandra entity save operation.", e);
-                }
+                return Collections.emptyList();
             }
         }
+        return Arrays.asList(entities);
     }
 }
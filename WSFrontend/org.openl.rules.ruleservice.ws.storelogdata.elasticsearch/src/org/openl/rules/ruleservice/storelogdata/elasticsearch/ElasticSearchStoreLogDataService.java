@@ -4,6 +4,12 @@ import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
@@ -49,6 +55,49 @@ public class ElasticSearchStoreLogDataService implements StoreLogDataService {
 
     @Override
     public void save(StoreLogData storeLogData) {
+        for (IndexQuery indexQuery : createIndexQueries(storeLogData)) {
+            try {
+                elasticsearchOperations.index(indexQuery);
+                elasticsearchOperations.refresh(indexQuery.getIndexName());
+            } catch (Exception e) {
+                // Continue the loop if exception occurs
+                log.error("Failed on ElasticSearch entity save operation.", e);
+            }
+        }
+    }
+
+    /**
+     * Indexes documents of all records with one bulk request.
+     */
+    @Override
+    public void saveAll(Collection<StoreLogData> storeLogDataCollection) {
+        List<IndexQuery> indexQueries = new ArrayList<>();
+        for (StoreLogData storeLogData : storeLogDataCollection) {
+            indexQueries.addAll(createIndexQueries(storeLogData));
+        }
+        if (indexQueries.isEmpty()) {
+            return;
+        }
+        try {
+            elasticsearchOperations.bulkIndex(indexQueries);
+        } catch (Exception e) {
+            log.error("Failed on ElasticSearch bulk save operation.", e);
+            return;
+        }
+        Set<String> indexNames = new LinkedHashSet<>();
+        for (IndexQuery indexQuery : indexQueries) {
+            indexNames.add(indexQuery.getIndexName());
+        }
+        for (String indexName : indexNames) {
+            try {
+                elasticsearchOperations.refresh(indexName);
+            } catch (Exception e) {
+                log.error("Failed on ElasticSearch index refresh operation.", e);
+            }
+        }
+    }
+
+    private List<IndexQuery> createIndexQueries(StoreLogData storeLogData) {
         Object[] entities;
 
         StoreLogDataToElasticsearch storeLogDataToElasticsearchAnnotation = storeLogData.getServiceClass()
@@ -59,7 +108,7 @@ public class ElasticSearchStoreLogDataService implements StoreLogDataService {
             storeLogDataToElasticsearchAnnotation = serviceMethod.getAnnotation(StoreLogDataToElasticsearch.class);
         }
         if (storeLogDataToElasticsearchAnnotation == null) {
-            return;
+            return Collections.emptyList();
         }
 
         if (storeLogDataToElasticsearchAnnotation.value().length == 0) {
@@ -81,16 +130,13 @@ public class ElasticSearchStoreLogDataService implements StoreLogDataService {
                                     .printQualifiedMethodName(serviceMethod) + "'" : StringUtils.EMPTY,
                                 entityClass.getTypeName()), e);
                         }
-                        return;
+                        return Collections.emptyList();
                     }
                 }
                 i++;
             }
         }
 
-        IndexQuery[] indexQueries = new IndexQuery[entities.length];
-        int i = 0;
-
         for (Object entity : entities) {
             try {
                 storeLogDataMapper.map(storeLogData, entity);
@@ -104,10 +150,11 @@ public class ElasticSearchStoreLogDataService implements StoreLogDataService {
                         log.error(String.format("Failed to map '%s'.", entity.getClass().getTypeName()), e);
                     }
                 }
-                return;
+                return Collections.emptyList();
             }
         }
 
+        List<IndexQuery> indexQueries = new ArrayList<>(entities.length);
         for (Object entity : entities) {
             Class<?> clazz = entity.getClass();
             IndexQuery indexQuery = new IndexQueryBuilder().withIndexName(extractIndexName(clazz))
@@ -118,19 +165,9 @@ public class ElasticSearchStoreLogDataService implements StoreLogDataService {
                 .withSource(null)
                 .withParentId(null)
                 .build();
-            indexQueries[i++] = indexQuery;
-        }
-        for (IndexQuery indexQuery : indexQueries) {
-            if (indexQuery != null) {
-                try {
-                    elasticsearchOperations.index(indexQuery);
-                    elasticsearchOperations.refresh(indexQuery.getIndexName());
-                } catch (Exception e) {
-                    // Continue the loop if exception occurs
-                    log.error("Failed on ElasticSearch entity save operation.", e);
-                }
-            }
+            indexQueries.add(indexQuery);
         }
+        return indexQueries;
     }
 
     private String extractId(Object entity) {
@@ -1,5 +1,7 @@
 package org.openl.rules.ruleservice.storelogdata;
 
+import java.util.Collection;
+
 /**
  * Interface for service that responsible for storing logging info into external resource.
  *
@@ -9,5 +11,15 @@ package org.openl.rules.ruleservice.storelogdata;
 public interface StoreLogDataService {
     void save(StoreLogData storeLogData);
 
+    /**
+     * Saves a batch of logging info. The default implementation saves the records one by one, services which support
+     * batch writes should override it.
+     */
+    default void saveAll(Collection<StoreLogData> storeLogDataCollection) {
+        for (StoreLogData storeLogData : storeLogDataCollection) {
+            save(storeLogData);
+        }
+    }
+
     boolean isEnabled();
 }
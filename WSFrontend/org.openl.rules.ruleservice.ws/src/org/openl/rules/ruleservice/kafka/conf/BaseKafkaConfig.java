@@ -23,6 +23,15 @@ public class BaseKafkaConfig {
     @JsonProperty(value = "dlt.topic.name")
     private String dltTopic;
 
+    @JsonProperty(value = "processing.mode")
+    private String processingMode;
+
+    @JsonProperty(value = "thread.pool.size")
+    private Integer threadPoolSize;
+
+    @JsonProperty(value = "max.in.flight.records")
+    private Integer maxInFlightRecords;
+
     public Properties getConsumerConfigs() {
         return consumerConfigs;
     }
@@ -71,4 +80,28 @@ public class BaseKafkaConfig {
         this.dltTopic = dltTopic;
     }
 
+    public String getProcessingMode() {
+        return processingMode;
+    }
+
+    public void setProcessingMode(String processingMode) {
+        this.processingMode = processingMode;
+    }
+
+    public Integer getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    public void setThreadPoolSize(Integer threadPoolSize) {
+        this.threadPoolSize = threadPoolSize;
+    }
+
+    public Integer getMaxInFlightRecords() {
+        return maxInFlightRecords;
+    }
+
+    public void setMaxInFlightRecords(Integer maxInFlightRecords) {
+        this.maxInFlightRecords = maxInFlightRecords;
+    }
+
 }
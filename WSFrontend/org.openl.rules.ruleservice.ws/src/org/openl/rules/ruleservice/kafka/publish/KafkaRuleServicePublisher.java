@@ -296,6 +296,22 @@ public class KafkaRuleServicePublisher implements RuleServicePublisher, Availabl
         }
     }
 
+    private static boolean isPipelinedProcessingMode(
+            BaseKafkaConfig kafkaConfig) throws KafkaServiceConfigurationException {
+        String processingMode = StringUtils.trimToNull(kafkaConfig.getProcessingMode());
+        if (processingMode == null || KafkaService.BATCH_PROCESSING_MODE.equalsIgnoreCase(processingMode)) {
+            return false;
+        }
+        if (KafkaService.PIPELINED_PROCESSING_MODE.equalsIgnoreCase(processingMode)) {
+            return true;
+        }
+        throw new KafkaServiceConfigurationException(
+            String.format("Unknown processing mode '%s'. Supported modes are '%s' and '%s'.",
+                processingMode,
+                KafkaService.BATCH_PROCESSING_MODE,
+                KafkaService.PIPELINED_PROCESSING_MODE));
+    }
+
     private <T extends BaseKafkaConfig> T makeMergedKafkaConfig(OpenLService service,
             T kafkaConfig,
             KafkaDeploy kafkaDeploy) throws IOException {
@@ -468,7 +484,11 @@ public class KafkaRuleServicePublisher implements RuleServicePublisher, Availabl
             dltProducer,
             objectSerializer,
             getStoreLogDataManager(),
-            isStoreLogDataEnabled());
+            isStoreLogDataEnabled(),
+            isPipelinedProcessingMode(mergedKafkaConfig),
+            mergedKafkaConfig.getThreadPoolSize(),
+            mergedKafkaConfig.getMaxInFlightRecords(),
+            producerJacksonObjectMapperFactoryBean.isSpreadsheetResultsAsPlainModel());
         kafkaServices.add(kafkaService);
 
         kafkaService.start();
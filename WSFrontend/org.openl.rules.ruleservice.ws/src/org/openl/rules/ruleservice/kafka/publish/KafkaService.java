@@ -3,29 +3,35 @@ package org.openl.rules.ruleservice.kafka.publish;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
-import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.header.Header;
 import org.openl.rules.project.model.RulesDeploy.PublisherType;
 import org.openl.rules.ruleservice.core.OpenLService;
+import org.openl.rules.ruleservice.core.interceptors.converters.SpreadsheetResultPlainModelHolder;
 import org.openl.rules.ruleservice.kafka.KafkaHeaders;
 import org.openl.rules.ruleservice.kafka.RequestMessage;
 import org.openl.rules.ruleservice.storelogdata.ObjectSerializer;
@@ -37,7 +43,17 @@ import org.slf4j.LoggerFactory;
 
 public final class KafkaService implements Runnable {
 
-    private static ThreadPoolExecutor executor = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
+    public static final String BATCH_PROCESSING_MODE = "batch";
+    public static final String PIPELINED_PROCESSING_MODE = "pipelined";
+    public static final int DEFAULT_MAX_IN_FLIGHT_RECORDS = 1000;
+
+    /**
+     * Maximum number of records processed by one task of a partition before it is resubmitted to the executor.
+     */
+    private static final int MAX_RECORDS_PER_TASK = 64;
+
+    private static ThreadPoolExecutor sharedExecutor = new ThreadPoolExecutor(
+        Runtime.getRuntime().availableProcessors(),
         Runtime.getRuntime().availableProcessors() * 2,
         60L,
         TimeUnit.SECONDS,
@@ -51,24 +67,83 @@ public final class KafkaService implements Runnable {
     private String outTopic;
     private String dltTopic;
     private Map<TopicPartition, OffsetAndMetadata> currentOffsets = new HashMap<>();
-    private KafkaProducer<String, Object> producer;
-    private KafkaProducer<String, byte[]> dltProducer;
-    private KafkaConsumer<String, RequestMessage> consumer;
+    private Producer<String, Object> producer;
+    private Producer<String, byte[]> dltProducer;
+    private Consumer<String, RequestMessage> consumer;
     private Thread loopRunningThread;
     private ObjectSerializer objectSerializer;
     private boolean storeLoggingEnabled;
     private StoreLogDataManager storeLogDataManager;
+    private final ThreadPoolExecutor executor;
+    private final boolean pipelined;
+    private final int maxInFlightRecords;
+    private final boolean spreadsheetResultsAsPlainModel;
+    private final Map<TopicPartition, PartitionProcessor> partitionProcessors = new HashMap<>();
+    private final AtomicInteger inFlightRecords = new AtomicInteger();
+    private boolean paused;
 
     public static KafkaService createService(OpenLService service,
             String inTopic,
             String outTopic,
             String dltTopic,
-            KafkaConsumer<String, RequestMessage> consumer,
-            KafkaProducer<String, Object> producer,
-            KafkaProducer<String, byte[]> dltProducer,
+            Consumer<String, RequestMessage> consumer,
+            Producer<String, Object> producer,
+            Producer<String, byte[]> dltProducer,
             ObjectSerializer objectSerializer,
             StoreLogDataManager storeLogDataManager,
             boolean storeLogDataEnabled) {
+        return createService(service,
+            inTopic,
+            outTopic,
+            dltTopic,
+            consumer,
+            producer,
+            dltProducer,
+            objectSerializer,
+            storeLogDataManager,
+            storeLogDataEnabled,
+            false,
+            null,
+            null,
+            false);
+    }
+
+    /**
+     * Creates a kafka service.
+     *
+     * @param pipelined if {@code true}, records of each partition are processed in order by a separate queue and
+     *            offsets of the processed records are committed without waiting for the whole poll, otherwise all
+     *            records of a poll are processed in parallel and committed together
+     * @param threadPoolSize size of the thread pool of the service, if {@code null} the pool shared by all services
+     *            is used
+     * @param maxInFlightRecords number of polled but not processed records, which pauses the consumer in the pipelined
+     *            mode, if {@code null} {@link #DEFAULT_MAX_IN_FLIGHT_RECORDS} is used
+     * @param spreadsheetResultsAsPlainModel the producer writes spreadsheet results as their plain models, so they are
+     *            not converted by the service
+     */
+    public static KafkaService createService(OpenLService service,
+            String inTopic,
+            String outTopic,
+            String dltTopic,
+            Consumer<String, RequestMessage> consumer,
+            Producer<String, Object> producer,
+            Producer<String, byte[]> dltProducer,
+            ObjectSerializer objectSerializer,
+            StoreLogDataManager storeLogDataManager,
+            boolean storeLogDataEnabled,
+            boolean pipelined,
+            Integer threadPoolSize,
+            Integer maxInFlightRecords,
+            boolean spreadsheetResultsAsPlainModel) {
+        ThreadPoolExecutor executor = sharedExecutor;
+        if (threadPoolSize != null) {
+            executor = new ThreadPoolExecutor(threadPoolSize,
+                threadPoolSize,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>());
+            executor.allowCoreThreadTimeOut(true);
+        }
         return new KafkaService(service,
             inTopic,
             outTopic,
@@ -78,19 +153,27 @@ public final class KafkaService implements Runnable {
             dltProducer,
             objectSerializer,
             storeLogDataManager,
-            storeLogDataEnabled);
+            storeLogDataEnabled,
+            executor,
+            pipelined,
+            maxInFlightRecords == null ? DEFAULT_MAX_IN_FLIGHT_RECORDS : maxInFlightRecords,
+            spreadsheetResultsAsPlainModel);
     }
 
     private KafkaService(OpenLService service,
             String inTopic,
             String outTopic,
             String dltTopic,
-            KafkaConsumer<String, RequestMessage> consumer,
-            KafkaProducer<String, Object> producer,
-            KafkaProducer<String, byte[]> dltProducer,
+            Consumer<String, RequestMessage> consumer,
+            Producer<String, Object> producer,
+            Producer<String, byte[]> dltProducer,
             ObjectSerializer objectSerializer,
             StoreLogDataManager storeLogDataManager,
-            boolean storeLoggingEnabled) {
+            boolean storeLoggingEnabled,
+            ThreadPoolExecutor executor,
+            boolean pipelined,
+            int maxInFlightRecords,
+            boolean spreadsheetResultsAsPlainModel) {
         this.service = Objects.requireNonNull(service);
         this.inTopic = Objects.requireNonNull(inTopic);
         this.producer = Objects.requireNonNull(producer);
@@ -103,6 +186,10 @@ public final class KafkaService implements Runnable {
         this.outTopic = outTopic;
         this.dltTopic = dltTopic;
         this.storeLoggingEnabled = storeLoggingEnabled;
+        this.executor = Objects.requireNonNull(executor);
+        this.pipelined = pipelined;
+        this.maxInFlightRecords = maxInFlightRecords;
+        this.spreadsheetResultsAsPlainModel = spreadsheetResultsAsPlainModel;
     }
 
     public boolean isStoreLogDataEnabled() {
@@ -145,6 +232,10 @@ public final class KafkaService implements Runnable {
         consumer.subscribe(Collections.singletonList(getInTopic()), new ConsumerRebalanceListener() {
             @Override
             public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                if (pipelined) {
+                    revokePartitions(partitions);
+                    return;
+                }
                 if (log.isInfoEnabled()) {
                     log.info("Lost partitions in rebalance. Commiting current offsets: {}", currentOffsets);
                 }
@@ -154,6 +245,9 @@ public final class KafkaService implements Runnable {
 
             @Override
             public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+                if (paused) {
+                    consumer.pause(partitions);
+                }
             }
         });
     }
@@ -185,113 +279,311 @@ public final class KafkaService implements Runnable {
         while (flag) {
             try {
                 ConsumerRecords<String, RequestMessage> records = consumer.poll(Duration.ofMillis(100));
-                if (!records.isEmpty()) {
-                    CountDownLatch countDownLatch = new CountDownLatch(records.count());
-                    ZonedDateTime incomingTime = ZonedDateTime.now();
-                    for (ConsumerRecord<String, RequestMessage> consumerRecord : records) {
-                        executor.submit(() -> {
-                            StoreLogData storeLogData = isStoreLogDataEnabled() ? StoreLogDataHolder.get() : null;
-                            try {
-                                if (storeLogData != null) {
-                                    storeLogData.setServiceClass(service.getServiceClass());
-                                    storeLogData.setServiceName(service.getName());
-                                    storeLogData.setIncomingMessageTime(incomingTime);
-                                    storeLogData.setPublisherType(PublisherType.KAFKA);
-                                    storeLogData.setObjectSerializer(getObjectSerializer());
-                                    storeLogData.setConsumerRecord(consumerRecord);
-                                }
-                                RequestMessage requestMessage = consumerRecord.value();
-                                if (storeLogData != null) {
-                                    storeLogData.setServiceMethod(requestMessage.getMethod());
-                                    storeLogData.setParameters(requestMessage.getParameters());
-                                }
-                                String outputTopic = getOutTopic(consumerRecord);
-                                if (!StringUtils.isBlank(outputTopic)) {
-                                    Object result = requestMessage.getMethod()
-                                        .invoke(service.getServiceBean(), requestMessage.getParameters());
-                                    Header header = consumerRecord.headers().lastHeader(KafkaHeaders.REPLY_PARTITION);
-                                    ProducerRecord<String, Object> producerRecord;
-                                    if (header == null) {
-                                        producerRecord = new ProducerRecord<>(outputTopic,
-                                            consumerRecord.key(),
-                                            result);
-                                    } else {
-                                        Integer partition = Integer
-                                            .parseInt(new String(header.value(), StandardCharsets.UTF_8));
-                                        producerRecord = new ProducerRecord<>(outputTopic,
-                                            partition,
-                                            consumerRecord.key(),
-                                            result);
-                                    }
-                                    forwardHeadersToOutput(consumerRecord, producerRecord);
-                                    if (storeLogData != null) {
-                                        storeLogData.setOutcomingMessageTime(ZonedDateTime.now());
-                                    }
-                                    producer.send(producerRecord, (metadata, exception) -> {
-                                        if (storeLogData != null) {
-                                            storeLogData.setProducerRecord(producerRecord);
-                                        }
-                                        if (exception != null) {
-                                            try {
-                                                if (log.isErrorEnabled()) {
-                                                    log.error(String.format(
-                                                        "Failed to send a result message for method '%s' in service '%s' to output topic '%s'.",
-                                                        requestMessage.getMethod(),
-                                                        getService().getName(),
-                                                        getOutTopic(consumerRecord)), exception);
-                                                }
-                                            } catch (Exception e) {
-                                                log.error("Unexpected error.", e);
-                                            }
-                                            sendErrorToDlt(consumerRecord, exception, storeLogData);
-                                        } else if (storeLogData != null) {
-                                            getStoreLogDataManager().store(storeLogData);
-                                        }
-                                    });
-                                } else {
-                                    if (storeLogData != null) {
-                                        storeLogData.setOutcomingMessageTime(ZonedDateTime.now());
-                                        getStoreLogDataManager().store(storeLogData);
-                                    }
-                                }
-                            } catch (Exception e) {
-                                if (log.isErrorEnabled()) {
-                                    log.error(
-                                        String.format("Failed to process a message from input topic '%s'.",
-                                            getInTopic()),
-                                        e);
-                                }
-                                sendErrorToDlt(consumerRecord, e, storeLogData);
-                            } finally {
-                                countDownLatch.countDown();
-                                if (isStoreLogDataEnabled()) {
-                                    StoreLogDataHolder.remove();
-                                }
-                            }
-                        });
+                if (pipelined) {
+                    dispatchRecords(records);
+                } else if (!records.isEmpty()) {
+                    processBatch(records);
+                }
+            } catch (Exception e) {
+                log.error("Something wrong.", e);
+            }
+        }
+        if (pipelined) {
+            revokePartitions(new ArrayList<>(partitionProcessors.keySet()));
+        }
+    }
+
+    private void processBatch(ConsumerRecords<String, RequestMessage> records) throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(records.count());
+        ZonedDateTime incomingTime = ZonedDateTime.now();
+        for (ConsumerRecord<String, RequestMessage> consumerRecord : records) {
+            executor.submit(() -> {
+                try {
+                    processRecord(consumerRecord, incomingTime);
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+        for (ConsumerRecord<String, RequestMessage> record : records) {
+            currentOffsets.put(new TopicPartition(record.topic(), record.partition()),
+                new OffsetAndMetadata(record.offset() + 1));
+        }
+        try {
+            consumer.commitSync(currentOffsets);
+            if (log.isDebugEnabled()) {
+                log.debug("Current offsets have been committed: {}", currentOffsets);
+            }
+        } catch (Exception e) {
+            if (log.isErrorEnabled()) {
+                log.error("Failed to commit current offsets: {}", currentOffsets);
+            }
+        }
+    }
+
+    private void dispatchRecords(ConsumerRecords<String, RequestMessage> records) {
+        if (!records.isEmpty()) {
+            ZonedDateTime incomingTime = ZonedDateTime.now();
+            for (TopicPartition partition : records.partitions()) {
+                List<ConsumerRecord<String, RequestMessage>> partitionRecords = records.records(partition);
+                inFlightRecords.addAndGet(partitionRecords.size());
+                partitionProcessors.computeIfAbsent(partition, PartitionProcessor::new)
+                    .enqueue(partitionRecords, incomingTime);
+            }
+        }
+        commitCompletedOffsets();
+        applyBackpressure();
+    }
+
+    /**
+     * Commits asynchronously offsets of the records processed since the previous commit. Records of a partition are
+     * processed one by one, so the completed records always form a contiguous prefix of the partition.
+     */
+    private void commitCompletedOffsets() {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (PartitionProcessor processor : partitionProcessors.values()) {
+            long completedOffset = processor.completedOffset;
+            if (completedOffset > processor.committedOffset) {
+                offsets.put(processor.partition, new OffsetAndMetadata(completedOffset));
+                processor.committedOffset = completedOffset;
+            }
+        }
+        if (!offsets.isEmpty()) {
+            consumer.commitAsync(offsets, (committedOffsets, e) -> {
+                if (e != null) {
+                    if (log.isErrorEnabled()) {
+                        log.error(String.format("Failed to commit offsets: %s", committedOffsets), e);
                     }
-                    countDownLatch.await();
-                    for (ConsumerRecord<String, RequestMessage> record : records) {
-                        currentOffsets.put(new TopicPartition(record.topic(), record.partition()),
-                            new OffsetAndMetadata(record.offset() + 1));
+                } else if (log.isDebugEnabled()) {
+                    log.debug("Offsets have been committed: {}", committedOffsets);
+                }
+            });
+        }
+    }
+
+    private void applyBackpressure() {
+        int inFlight = inFlightRecords.get();
+        if (!paused && inFlight >= maxInFlightRecords) {
+            consumer.pause(consumer.assignment());
+            paused = true;
+            if (log.isDebugEnabled()) {
+                log.debug("Consumer of topic '{}' has been paused. In-flight records: {}", getInTopic(), inFlight);
+            }
+        } else if (paused && inFlight <= maxInFlightRecords / 2) {
+            consumer.resume(consumer.paused());
+            paused = false;
+            if (log.isDebugEnabled()) {
+                log.debug("Consumer of topic '{}' has been resumed. In-flight records: {}", getInTopic(), inFlight);
+            }
+        }
+    }
+
+    /**
+     * Drops not started records of the partitions, waits for the records in processing and commits offsets of all
+     * completed records.
+     */
+    private void revokePartitions(Collection<TopicPartition> partitions) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            PartitionProcessor processor = partitionProcessors.remove(partition);
+            if (processor != null) {
+                try {
+                    processor.revoke();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (processor.completedOffset >= 0) {
+                    offsets.put(partition, new OffsetAndMetadata(processor.completedOffset));
+                }
+            }
+        }
+        if (!offsets.isEmpty()) {
+            try {
+                consumer.commitSync(offsets);
+                if (log.isDebugEnabled()) {
+                    log.debug("Offsets of revoked partitions have been committed: {}", offsets);
+                }
+            } catch (Exception e) {
+                if (log.isErrorEnabled()) {
+                    log.error(String.format("Failed to commit offsets: %s", offsets), e);
+                }
+            }
+        }
+    }
+
+    private Object invoke(RequestMessage requestMessage) throws Exception {
+        if (!spreadsheetResultsAsPlainModel) {
+            return requestMessage.getMethod().invoke(service.getServiceBean(), requestMessage.getParameters());
+        }
+        SpreadsheetResultPlainModelHolder.setWrittenAsPlainModel();
+        try {
+            return requestMessage.getMethod().invoke(service.getServiceBean(), requestMessage.getParameters());
+        } finally {
+            SpreadsheetResultPlainModelHolder.remove();
+        }
+    }
+
+    private void processRecord(ConsumerRecord<String, RequestMessage> consumerRecord, ZonedDateTime incomingTime) {
+        StoreLogData storeLogData = isStoreLogDataEnabled() ? StoreLogDataHolder.get() : null;
+        try {
+            if (storeLogData != null) {
+                storeLogData.setServiceClass(service.getServiceClass());
+                storeLogData.setServiceName(service.getName());
+                storeLogData.setIncomingMessageTime(incomingTime);
+                storeLogData.setPublisherType(PublisherType.KAFKA);
+                storeLogData.setObjectSerializer(getObjectSerializer());
+                storeLogData.setConsumerRecord(consumerRecord);
+            }
+            RequestMessage requestMessage = consumerRecord.value();
+            if (storeLogData != null) {
+                storeLogData.setServiceMethod(requestMessage.getMethod());
+                storeLogData.setParameters(requestMessage.getParameters());
+            }
+            String outputTopic = getOutTopic(consumerRecord);
+            if (!StringUtils.isBlank(outputTopic)) {
+                Object result = invoke(requestMessage);
+                Header header = consumerRecord.headers().lastHeader(KafkaHeaders.REPLY_PARTITION);
+                ProducerRecord<String, Object> producerRecord;
+                if (header == null) {
+                    producerRecord = new ProducerRecord<>(outputTopic,
+                        consumerRecord.key(),
+                        result);
+                } else {
+                    Integer partition = Integer
+                        .parseInt(new String(header.value(), StandardCharsets.UTF_8));
+                    producerRecord = new ProducerRecord<>(outputTopic,
+                        partition,
+                        consumerRecord.key(),
+                        result);
+                }
+                forwardHeadersToOutput(consumerRecord, producerRecord);
+                if (storeLogData != null) {
+                    storeLogData.setOutcomingMessageTime(ZonedDateTime.now());
+                }
+                producer.send(producerRecord, (metadata, exception) -> {
+                    if (storeLogData != null) {
+                        storeLogData.setProducerRecord(producerRecord);
                     }
-                    try {
-                        consumer.commitSync(currentOffsets);
-                        if (log.isDebugEnabled()) {
-                            log.debug("Current offsets have been committed: {}", currentOffsets);
-                        }
-                    } catch (Exception e) {
-                        if (log.isErrorEnabled()) {
-                            log.error("Failed to commit current offsets: {}", currentOffsets);
+                    if (exception != null) {
+                        try {
+                            if (log.isErrorEnabled()) {
+                                log.error(String.format(
+                                    "Failed to send a result message for method '%s' in service '%s' to output topic '%s'.",
+                                    requestMessage.getMethod(),
+                                    getService().getName(),
+                                    getOutTopic(consumerRecord)), exception);
+                            }
+                        } catch (Exception e) {
+                            log.error("Unexpected error.", e);
                         }
+                        sendErrorToDlt(consumerRecord, exception, storeLogData);
+                    } else if (storeLogData != null) {
+                        getStoreLogDataManager().store(storeLogData);
                     }
+                });
+            } else {
+                if (storeLogData != null) {
+                    storeLogData.setOutcomingMessageTime(ZonedDateTime.now());
+                    getStoreLogDataManager().store(storeLogData);
                 }
-            } catch (Exception e) {
-                log.error("Something wrong.", e);
+            }
+        } catch (Exception e) {
+            if (log.isErrorEnabled()) {
+                log.error(
+                    String.format("Failed to process a message from input topic '%s'.",
+                        getInTopic()),
+                    e);
+            }
+            sendErrorToDlt(consumerRecord, e, storeLogData);
+        } finally {
+            if (isStoreLogDataEnabled()) {
+                StoreLogDataHolder.remove();
             }
         }
     }
 
+    /**
+     * Processes records of one partition in order. At most one task of the processor is submitted to the executor at
+     * a time.
+     */
+    private final class PartitionProcessor implements Runnable {
+        private final TopicPartition partition;
+        private final Deque<PendingRecord> queue = new ArrayDeque<>();
+        private boolean scheduled;
+        /**
+         * Offset of the next record after the last processed one.
+         */
+        private volatile long completedOffset = -1;
+        /**
+         * Last committed offset. Is accessed by the polling thread only.
+         */
+        private long committedOffset = -1;
+
+        private PartitionProcessor(TopicPartition partition) {
+            this.partition = partition;
+        }
+
+        private synchronized void enqueue(List<ConsumerRecord<String, RequestMessage>> records,
+                ZonedDateTime incomingTime) {
+            for (ConsumerRecord<String, RequestMessage> record : records) {
+                queue.add(new PendingRecord(record, incomingTime));
+            }
+            if (!scheduled) {
+                scheduled = true;
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < MAX_RECORDS_PER_TASK; i++) {
+                PendingRecord pendingRecord;
+                synchronized (this) {
+                    pendingRecord = queue.poll();
+                    if (pendingRecord == null) {
+                        scheduled = false;
+                        notifyAll();
+                        return;
+                    }
+                }
+                try {
+                    processRecord(pendingRecord.record, pendingRecord.incomingTime);
+                } finally {
+                    completedOffset = pendingRecord.record.offset() + 1;
+                    inFlightRecords.decrementAndGet();
+                }
+            }
+            // Give other partitions a chance to be processed
+            synchronized (this) {
+                if (queue.isEmpty()) {
+                    scheduled = false;
+                    notifyAll();
+                    return;
+                }
+            }
+            executor.execute(this);
+        }
+
+        private synchronized void revoke() throws InterruptedException {
+            inFlightRecords.addAndGet(-queue.size());
+            queue.clear();
+            while (scheduled) {
+                wait();
+            }
+        }
+    }
+
+    private static final class PendingRecord {
+        private final ConsumerRecord<String, RequestMessage> record;
+        private final ZonedDateTime incomingTime;
+
+        private PendingRecord(ConsumerRecord<String, RequestMessage> record, ZonedDateTime incomingTime) {
+            this.record = record;
+            this.incomingTime = incomingTime;
+        }
+    }
+
     private void forwardHeadersToDlt(ConsumerRecord<?, ?> originalRecord, ProducerRecord<?, ?> record) {
         for (Header header : originalRecord.headers()) {
             record.headers().add(header);
@@ -386,5 +678,8 @@ public final class KafkaService implements Runnable {
     public void stop() throws InterruptedException {
         flag = false;
         loopRunningThread.join();
+        if (executor != sharedExecutor) {
+            executor.shutdown();
+        }
     }
 }
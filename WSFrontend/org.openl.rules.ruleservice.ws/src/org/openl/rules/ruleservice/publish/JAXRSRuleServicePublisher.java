@@ -6,6 +6,7 @@ import org.apache.cxf.endpoint.Server;
 import org.apache.cxf.jaxrs.JAXRSServerFactoryBean;
 import org.apache.cxf.jaxrs.lifecycle.SingletonResourceProvider;
 import org.apache.cxf.jaxrs.swagger.Swagger2Feature;
+import org.openl.rules.calc.SpreadsheetResult;
 import org.openl.rules.project.model.RulesDeploy;
 import org.openl.rules.ruleservice.core.OpenLService;
 import org.openl.rules.ruleservice.core.RuleServiceDeployException;
@@ -16,12 +17,14 @@ import org.openl.rules.ruleservice.publish.jaxrs.swagger.SwaggerStaticFieldsWork
 import org.openl.rules.ruleservice.servlet.AvailableServicesPresenter;
 import org.openl.rules.ruleservice.servlet.ServiceInfo;
 import org.openl.rules.ruleservice.storelogdata.*;
+import org.openl.rules.serialization.jackson.SpreadsheetResultSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
 
@@ -121,7 +124,8 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher, Availabl
                 svrFactory.getInFaultInterceptors().add(new CollectOperationResourceInfoInterceptor());
             }
 
-            Object proxyServiceBean = JAXRSEnhancerHelper.decorateServiceBean(service);
+            Object proxyServiceBean = JAXRSEnhancerHelper.decorateServiceBean(service,
+                isSpreadsheetResultsAsPlainModel(svrFactory));
             Class<?> serviceClass = proxyServiceBean.getClass().getInterfaces()[0]; // The first is a decorated
             // interface
 
@@ -159,6 +163,18 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher, Availabl
         return null;
     }
 
+    private boolean isSpreadsheetResultsAsPlainModel(JAXRSServerFactoryBean svrFactory) throws Exception {
+        for (Object provider : svrFactory.getProviders()) {
+            if (provider instanceof JacksonJsonProvider) {
+                ObjectMapper objectMapper = ((JacksonJsonProvider) provider).locateMapper(null, null);
+                JsonSerializer<?> serializer = objectMapper.getSerializerProviderInstance()
+                    .findValueSerializer(SpreadsheetResult.class);
+                return serializer instanceof SpreadsheetResultSerializer;
+            }
+        }
+        return false;
+    }
+
     private Swagger2Feature getSwagger2Feature(final OpenLService service, Class<?> serviceClass) {
         Swagger2Feature swagger2Feature = new Swagger2Feature();
         swagger2Feature.setRunAsFilter(true);
@@ -429,6 +429,15 @@ public final class JAXRSEnhancerHelper {
     }
 
     public static Object decorateServiceBean(OpenLService service) throws Exception {
+        return decorateServiceBean(service, false);
+    }
+
+    /**
+     * @param spreadsheetResultsAsPlainModel the JSON provider writes spreadsheet results as their plain models, so
+     *            they are not converted by the service
+     */
+    public static Object decorateServiceBean(OpenLService service,
+            boolean spreadsheetResultsAsPlainModel) throws Exception {
         Class<?> serviceClass = service.getServiceClass();
         Objects.requireNonNull(serviceClass, "Service class cannot be null");
         if (!serviceClass.isInterface()) {
@@ -473,6 +482,6 @@ public final class JAXRSEnhancerHelper {
 
         return Proxy.newProxyInstance(classLoader,
             new Class<?>[] { proxyInterface },
-            new JAXRSInvocationHandler(service.getServiceBean(), methodMap));
+            new JAXRSInvocationHandler(service.getServiceBean(), methodMap, spreadsheetResultsAsPlainModel));
     }
 }
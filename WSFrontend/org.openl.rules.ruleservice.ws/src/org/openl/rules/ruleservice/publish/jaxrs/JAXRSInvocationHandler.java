@@ -6,12 +6,14 @@ import java.util.Objects;
 
 import javax.ws.rs.core.Response;
 
+import org.openl.rules.ruleservice.core.interceptors.converters.SpreadsheetResultPlainModelHolder;
 import org.openl.runtime.IOpenLInvocationHandler;
 
 public class JAXRSInvocationHandler implements IOpenLInvocationHandler<Method, Method> {
 
     private Object target;
     private Map<Method, Method> methodMap;
+    private boolean spreadsheetResultsAsPlainModel;
 
     @Override
     public Method getTargetMember(Method key) {
@@ -19,8 +21,19 @@ public class JAXRSInvocationHandler implements IOpenLInvocationHandler<Method, M
     }
 
     public JAXRSInvocationHandler(Object target, Map<Method, Method> methodMap) {
+        this(target, methodMap, false);
+    }
+
+    /**
+     * @param spreadsheetResultsAsPlainModel the response writes spreadsheet results as their plain models, so they are
+     *            not converted by the service
+     */
+    public JAXRSInvocationHandler(Object target,
+            Map<Method, Method> methodMap,
+            boolean spreadsheetResultsAsPlainModel) {
         this.target = Objects.requireNonNull(target, "target cannot be null");
         this.methodMap = Objects.requireNonNull(methodMap, "methodMap cannot be null");
+        this.spreadsheetResultsAsPlainModel = spreadsheetResultsAsPlainModel;
     }
 
     @Override
@@ -46,7 +59,17 @@ public class JAXRSInvocationHandler implements IOpenLInvocationHandler<Method, M
             }
         }
 
-        Object o = m.invoke(target, args);
+        Object o;
+        if (spreadsheetResultsAsPlainModel) {
+            SpreadsheetResultPlainModelHolder.setWrittenAsPlainModel();
+            try {
+                o = m.invoke(target, args);
+            } finally {
+                SpreadsheetResultPlainModelHolder.remove();
+            }
+        } else {
+            o = m.invoke(target, args);
+        }
         if (o instanceof Response) {
             return o;
         } else {
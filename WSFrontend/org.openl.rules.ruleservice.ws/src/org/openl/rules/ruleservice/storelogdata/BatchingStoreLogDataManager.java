@@ -0,0 +1,231 @@
+package org.openl.rules.ruleservice.storelogdata;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openl.rules.ruleservice.storelogdata.annotation.SkipFaultStoreLogData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores log data in batches. Records are collected in a bounded queue and a single worker thread passes them to
+ * {@link StoreLogDataService#saveAll(Collection)} when the batch is full or when the batch timeout is expired since the
+ * first record of the batch has been taken. The behaviour on a full queue is defined by {@link OverflowPolicy}.
+ */
+public final class BatchingStoreLogDataManager implements StoreLogDataManager {
+
+    public enum OverflowPolicy {
+        /**
+         * The caller waits until the queue has free space.
+         */
+        BLOCK,
+        /**
+         * The oldest record in the queue is dropped.
+         */
+        DROP_OLDEST,
+        /**
+         * Only every n-th record is stored while the queue is full. It replaces the oldest record in the queue.
+         */
+        SAMPLE
+    }
+
+    private static final long SHUTDOWN_TIMEOUT = 30_000;
+    private static final long DROP_WARNING_INTERVAL = 1000;
+
+    private final Logger log = LoggerFactory.getLogger(BatchingStoreLogDataManager.class);
+
+    private final Collection<StoreLogDataService> storeLogDataServices;
+    private final BlockingQueue<StoreLogData> queue;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final int batchSize;
+    private final long batchTimeout;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong savedCount = new AtomicLong();
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    private final Thread worker;
+    private volatile boolean stopped;
+
+    public BatchingStoreLogDataManager(Collection<StoreLogDataService> storeLogDataServices,
+            int capacity,
+            OverflowPolicy overflowPolicy,
+            int sampleRate,
+            int batchSize,
+            long batchTimeout) {
+        Objects.requireNonNull(storeLogDataServices);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive.");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Sample rate must be positive.");
+        }
+        if (batchTimeout < 0) {
+            throw new IllegalArgumentException("Batch timeout cannot be negative.");
+        }
+        this.storeLogDataServices = new ArrayList<>(storeLogDataServices);
+        this.capacity = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "overflowPolicy cannot be null");
+        this.sampleRate = sampleRate;
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+        this.worker = new Thread(this::processQueue, "openl-store-log-data");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public void store(StoreLogData storeLogData) {
+        if (storeLogData.isIgnorable() || ignoreByFault(storeLogData)) {
+            return;
+        }
+        if (queue.offer(storeLogData)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    queue.put(storeLogData);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    onDrop();
+                }
+                break;
+            case SAMPLE:
+                if (overflowCount.incrementAndGet() % sampleRate != 0) {
+                    onDrop();
+                    break;
+                }
+                replaceOldest(storeLogData);
+                break;
+            default:
+                replaceOldest(storeLogData);
+                break;
+        }
+    }
+
+    private void replaceOldest(StoreLogData storeLogData) {
+        while (!queue.offer(storeLogData)) {
+            if (queue.poll() != null) {
+                onDrop();
+            }
+        }
+    }
+
+    private void onDrop() {
+        long dropped = droppedCount.incrementAndGet();
+        if (dropped == 1 || dropped % DROP_WARNING_INTERVAL == 0) {
+            log.warn("Store log data queue is full. {} record(s) have been dropped.", dropped);
+        }
+    }
+
+    private boolean ignoreByFault(StoreLogData storeLogData) {
+        Method serviceMethod = storeLogData.getServiceMethod();
+        return storeLogData.isFault() && serviceMethod != null && serviceMethod
+            .isAnnotationPresent(SkipFaultStoreLogData.class);
+    }
+
+    private void processQueue() {
+        List<StoreLogData> batch = new ArrayList<>(batchSize);
+        while (!stopped || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                stopped = true;
+            }
+            if (!batch.isEmpty()) {
+                saveBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(List<StoreLogData> batch) throws InterruptedException {
+        if (stopped) {
+            queue.drainTo(batch, batchSize);
+            return;
+        }
+        StoreLogData first = queue.poll(Math.max(batchTimeout, 1), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeout);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || stopped) {
+                return;
+            }
+            StoreLogData next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void saveBatch(List<StoreLogData> batch) {
+        for (StoreLogDataService storeLogDataService : storeLogDataServices) {
+            try {
+                storeLogDataService.saveAll(batch);
+            } catch (Exception e) {
+                log.error("Failed on save operation.", e);
+            }
+        }
+        savedCount.addAndGet(batch.size());
+    }
+
+    /**
+     * Stops accepting new batches by time, saves the records which are left in the queue and waits for the worker.
+     */
+    public void destroy() {
+        stopped = true;
+        try {
+            worker.join(SHUTDOWN_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.warn("Store log data worker has not been finished in {} ms. {} record(s) are not saved.",
+                SHUTDOWN_TIMEOUT,
+                queue.size());
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Number of the records passed to the store log data services.
+     */
+    public long getSavedCount() {
+        return savedCount.get();
+    }
+}
@@ -1,6 +1,7 @@
 package org.openl.rules.ruleservice.storelogdata;
 
 import java.util.Collection;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -8,11 +9,12 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 
-public class StoreLogDataManagerFactoryBean implements FactoryBean<SimpleStoreLogDataManager>, ApplicationContextAware {
+public class StoreLogDataManagerFactoryBean implements FactoryBean<StoreLogDataManager>, ApplicationContextAware, DisposableBean {
 
     private final Logger log = LoggerFactory.getLogger(StoreLogDataManagerFactoryBean.class);
 
@@ -20,6 +22,15 @@ public class StoreLogDataManagerFactoryBean implements FactoryBean<SimpleStoreLo
 
     private boolean storeLogDataEnabled = false;
 
+    private boolean batchEnabled = false;
+    private int queueCapacity = 10000;
+    private String overflowPolicy = BatchingStoreLogDataManager.OverflowPolicy.BLOCK.name();
+    private int sampleRate = 10;
+    private int batchSize = 100;
+    private long batchTimeout = 1000;
+
+    private BatchingStoreLogDataManager batchingStoreLogDataManager;
+
     public boolean isStoreLogDataEnabled() {
         return storeLogDataEnabled;
     }
@@ -28,6 +39,54 @@ public class StoreLogDataManagerFactoryBean implements FactoryBean<SimpleStoreLo
         this.storeLogDataEnabled = storeLogDataEnabled;
     }
 
+    public boolean isBatchEnabled() {
+        return batchEnabled;
+    }
+
+    public void setBatchEnabled(boolean batchEnabled) {
+        this.batchEnabled = batchEnabled;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public String getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(String overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
@@ -39,7 +98,7 @@ public class StoreLogDataManagerFactoryBean implements FactoryBean<SimpleStoreLo
     }
 
     @Override
-    public SimpleStoreLogDataManager getObject() throws Exception {
+    public StoreLogDataManager getObject() throws Exception {
         if (!isStoreLogDataEnabled()) {
             return null;
         }
@@ -60,13 +119,43 @@ public class StoreLogDataManagerFactoryBean implements FactoryBean<SimpleStoreLo
             for (StoreLogDataService storeLoggingService : activeStoreLogDataServices) {
                 log.info("Store log data service '{}' is used.", storeLoggingService.getClass().getTypeName());
             }
-            return new SimpleStoreLogDataManager(activeStoreLogDataServices);
+            if (!isBatchEnabled()) {
+                return new SimpleStoreLogDataManager(activeStoreLogDataServices);
+            }
+            batchingStoreLogDataManager = new BatchingStoreLogDataManager(activeStoreLogDataServices,
+                queueCapacity,
+                parseOverflowPolicy(),
+                sampleRate,
+                batchSize,
+                batchTimeout);
+            return batchingStoreLogDataManager;
+        }
+    }
+
+    private BatchingStoreLogDataManager.OverflowPolicy parseOverflowPolicy() {
+        if (overflowPolicy == null) {
+            return BatchingStoreLogDataManager.OverflowPolicy.BLOCK;
+        }
+        String policy = overflowPolicy.trim().replace('-', '_').toUpperCase(Locale.ENGLISH);
+        try {
+            return BatchingStoreLogDataManager.OverflowPolicy.valueOf(policy);
+        } catch (IllegalArgumentException e) {
+            throw new BeanInitializationException(
+                String.format("Unsupported store log data queue overflow policy '%s'.", overflowPolicy));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (batchingStoreLogDataManager != null) {
+            batchingStoreLogDataManager.destroy();
+            batchingStoreLogDataManager = null;
         }
     }
 
     @Override
     public Class<?> getObjectType() {
-        return SimpleStoreLogDataManager.class;
+        return isBatchEnabled() ? BatchingStoreLogDataManager.class : SimpleStoreLogDataManager.class;
     }
 
 }
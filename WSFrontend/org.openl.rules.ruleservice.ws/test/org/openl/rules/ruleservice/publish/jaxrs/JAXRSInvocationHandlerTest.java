@@ -1,6 +1,7 @@
 package org.openl.rules.ruleservice.publish.jaxrs;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -11,6 +12,7 @@ import java.util.HashMap;
 import javax.ws.rs.core.Response;
 
 import org.junit.Test;
+import org.openl.rules.ruleservice.core.interceptors.converters.SpreadsheetResultPlainModelHolder;
 
 public class JAXRSInvocationHandlerTest {
 
@@ -53,6 +55,21 @@ public class JAXRSInvocationHandlerTest {
         assertEquals("Done", ((Response) result).getEntity());
     }
 
+    @Test
+    public void checkSpreadsheetResultsAsPlainModel() throws Throwable {
+        InvokedClass target = () -> String.valueOf(SpreadsheetResultPlainModelHolder.isWrittenAsPlainModel());
+        HashMap<Method, Method> methods = new HashMap<>();
+        Method method = InvokedClass.class.getDeclaredMethod("doWork");
+        methods.put(method, method);
+
+        Object result = new JAXRSInvocationHandler(target, methods, true).invoke(null, method, null);
+        assertEquals("true", ((Response) result).getEntity());
+        assertFalse(SpreadsheetResultPlainModelHolder.isWrittenAsPlainModel());
+
+        result = new JAXRSInvocationHandler(target, methods).invoke(null, method, null);
+        assertEquals("false", ((Response) result).getEntity());
+    }
+
     private interface InvokedClass {
         String doWork();
     }
@@ -6,6 +6,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.openl.rules.ruleservice.kafka.conf.KafkaDeploy;
+import org.openl.rules.ruleservice.kafka.conf.KafkaMethodConfig;
 import org.openl.rules.ruleservice.kafka.conf.YamlObjectMapperBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
@@ -47,5 +48,9 @@ public class KafkaConfigYamlTest {
         ObjectMapper mapper = YamlObjectMapperBuilder.newInstance();
         KafkaDeploy kafkaConfig = mapper.readValue(resource.getInputStream(), KafkaDeploy.class);
         Assert.assertNotNull(kafkaConfig);
+        KafkaMethodConfig methodConfig = kafkaConfig.getMethodConfigs().get(0);
+        Assert.assertEquals("pipelined", methodConfig.getProcessingMode());
+        Assert.assertEquals(Integer.valueOf(4), methodConfig.getThreadPoolSize());
+        Assert.assertEquals(Integer.valueOf(200), methodConfig.getMaxInFlightRecords());
     }
 }
@@ -0,0 +1,282 @@
+package org.openl.rules.ruleservice.publish.kafka;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openl.rules.ruleservice.core.AbstractOpenLServiceInitializer;
+import org.openl.rules.ruleservice.core.OpenLService;
+import org.openl.rules.ruleservice.kafka.RequestMessage;
+import org.openl.rules.ruleservice.kafka.publish.KafkaService;
+
+public class KafkaServiceTest {
+
+    private static final String IN_TOPIC = "in";
+    private static final String OUT_TOPIC = "out";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(IN_TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(IN_TOPIC, 1);
+
+    private static final List<String> started = Collections.synchronizedList(new ArrayList<>());
+    private static final List<String> processed = Collections.synchronizedList(new ArrayList<>());
+    private static final Semaphore permits = new Semaphore(0);
+
+    /**
+     * The service bean is not instantiated, so the invoked method is static. Every call waits for a permit.
+     */
+    public static String process(String value) throws InterruptedException {
+        started.add(value);
+        if (!permits.tryAcquire(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException(String.format("Record '%s' has not been released.", value));
+        }
+        processed.add(value);
+        return value;
+    }
+
+    private static class TestConsumer extends MockConsumer<String, RequestMessage> {
+        private final List<String> uncompletedCommits = Collections.synchronizedList(new ArrayList<>());
+        private ConsumerRebalanceListener listener;
+        private volatile Thread pollingThread;
+
+        TestConsumer() {
+            super(OffsetResetStrategy.EARLIEST);
+        }
+
+        @Override
+        public synchronized void subscribe(Collection<String> topics, ConsumerRebalanceListener listener) {
+            super.subscribe(topics, listener);
+            this.listener = listener;
+        }
+
+        @Override
+        public synchronized void commitAsync(Map<TopicPartition, OffsetAndMetadata> offsets,
+                OffsetCommitCallback callback) {
+            offsets.forEach((partition, offset) -> {
+                if (offset.offset() > processedOffsets(partition).size()) {
+                    uncompletedCommits.add(partition + "@" + offset.offset());
+                }
+            });
+            super.commitAsync(offsets, callback);
+        }
+
+        void assign(TopicPartition... partitions) {
+            schedulePollTask(() -> {
+                rebalance(Arrays.asList(partitions));
+                Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+                for (TopicPartition partition : partitions) {
+                    beginningOffsets.put(partition, 0L);
+                }
+                updateBeginningOffsets(beginningOffsets);
+            });
+        }
+
+        void addRecords(TopicPartition partition, int from, int to) {
+            schedulePollTask(() -> {
+                for (int offset = from; offset < to; offset++) {
+                    addRecord(record(partition, offset));
+                }
+            });
+        }
+
+        void revoke(TopicPartition partition, TopicPartition... remaining) {
+            schedulePollTask(() -> {
+                pollingThread = Thread.currentThread();
+                listener.onPartitionsRevoked(Collections.singleton(partition));
+                rebalance(Arrays.asList(remaining));
+            });
+        }
+
+        long committedOffset(TopicPartition partition) {
+            OffsetAndMetadata offset = committed(Collections.singleton(partition)).get(partition);
+            return offset == null ? -1 : offset.offset();
+        }
+    }
+
+    private TestConsumer consumer;
+    private KafkaService kafkaService;
+
+    @Before
+    public void setUp() {
+        consumer = new TestConsumer();
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        permits.release(1000);
+        if (kafkaService != null) {
+            kafkaService.stop();
+        }
+        assertTrue(consumer.uncompletedCommits.toString(), consumer.uncompletedCommits.isEmpty());
+        permits.drainPermits();
+        started.clear();
+        processed.clear();
+    }
+
+    @Test
+    public void testRecordsOfPartitionAreProcessedInOrder() throws Exception {
+        consumer.assign(PARTITION_0, PARTITION_1);
+        for (int i = 0; i < 4; i++) {
+            consumer.addRecords(PARTITION_0, i * 25, (i + 1) * 25);
+            consumer.addRecords(PARTITION_1, i * 25, (i + 1) * 25);
+        }
+        permits.release(200);
+        startService(1000);
+
+        waitFor(() -> consumer.committedOffset(PARTITION_0) == 100 && consumer.committedOffset(PARTITION_1) == 100);
+        assertEquals(expectedOffsets(PARTITION_0, 0, 100), processedOffsets(PARTITION_0));
+        assertEquals(expectedOffsets(PARTITION_1, 0, 100), processedOffsets(PARTITION_1));
+    }
+
+    @Test
+    public void testOnlyCompletedOffsetsAreCommitted() throws Exception {
+        consumer.assign(PARTITION_0);
+        consumer.addRecords(PARTITION_0, 0, 10);
+        permits.release(3);
+        startService(1000);
+
+        // The fourth record is in processing, the rest are in the queue
+        waitFor(() -> started.size() == 4 && consumer.committedOffset(PARTITION_0) == 3);
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertEquals(3, consumer.committedOffset(PARTITION_0));
+
+        permits.release(7);
+        waitFor(() -> consumer.committedOffset(PARTITION_0) == 10);
+        assertEquals(expectedOffsets(PARTITION_0, 0, 10), processedOffsets(PARTITION_0));
+    }
+
+    @Test
+    public void testConsumerIsPausedAtMaxInFlightRecords() throws Exception {
+        consumer.assign(PARTITION_0);
+        consumer.addRecords(PARTITION_0, 0, 6);
+        startService(4);
+
+        waitFor(() -> consumer.paused().contains(PARTITION_0));
+
+        // Four records are still in flight, it is more than a half of the limit
+        permits.release(2);
+        waitFor(() -> consumer.committedOffset(PARTITION_0) == 2);
+        assertEquals(Collections.singleton(PARTITION_0), consumer.paused());
+
+        permits.release(2);
+        waitFor(() -> consumer.paused().isEmpty());
+
+        permits.release(2);
+        waitFor(() -> consumer.committedOffset(PARTITION_0) == 6);
+        assertTrue(consumer.paused().isEmpty());
+    }
+
+    @Test
+    public void testRecordsInFlightAreCompletedWhenPartitionIsRevoked() throws Exception {
+        consumer.assign(PARTITION_0, PARTITION_1);
+        consumer.addRecords(PARTITION_0, 0, 5);
+        permits.release(1);
+        startService(1000);
+
+        // The second record is in processing, the rest are in the queue
+        waitFor(() -> started.size() == 2);
+        consumer.revoke(PARTITION_0, PARTITION_1);
+        // The polling thread waits for the record in processing
+        waitFor(() -> consumer.pollingThread != null && consumer.pollingThread.getState() == Thread.State.WAITING);
+        permits.release(1);
+
+        waitFor(() -> consumer.committedOffset(PARTITION_0) == 2);
+        assertEquals(expectedOffsets(PARTITION_0, 0, 2), started);
+        assertEquals(expectedOffsets(PARTITION_0, 0, 2), processed);
+
+        // The remaining partition is still processed
+        consumer.addRecords(PARTITION_1, 0, 1);
+        permits.release(1);
+        waitFor(() -> consumer.committedOffset(PARTITION_1) == 1);
+        assertEquals(expectedOffsets(PARTITION_0, 0, 2), processedOffsets(PARTITION_0));
+    }
+
+    private void startService(int maxInFlightRecords) throws Exception {
+        OpenLService service = new OpenLService.OpenLServiceBuilder().setName("kafka")
+            .setServiceClass(KafkaServiceTest.class)
+            .build(new AbstractOpenLServiceInitializer() {
+                @Override
+                protected void init(OpenLService openLService) {
+                }
+            });
+        kafkaService = KafkaService.createService(service,
+            IN_TOPIC,
+            OUT_TOPIC,
+            null,
+            consumer,
+            new MockProducer<>(),
+            new MockProducer<>(),
+            String::valueOf,
+            null,
+            false,
+            true,
+            4,
+            maxInFlightRecords,
+            false);
+        kafkaService.start();
+    }
+
+    private static ConsumerRecord<String, RequestMessage> record(TopicPartition partition, long offset) {
+        String value = partition.partition() + ":" + offset;
+        try {
+            Method method = KafkaServiceTest.class.getMethod("process", String.class);
+            return new ConsumerRecord<>(IN_TOPIC,
+                partition.partition(),
+                offset,
+                null,
+                new RequestMessage(method,
+                    new Object[] { value },
+                    value.getBytes(StandardCharsets.UTF_8),
+                    StandardCharsets.UTF_8.name()));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> processedOffsets(TopicPartition partition) {
+        String prefix = partition.partition() + ":";
+        synchronized (processed) {
+            return processed.stream().filter(value -> value.startsWith(prefix)).collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> expectedOffsets(TopicPartition partition, int from, int to) {
+        List<String> values = new ArrayList<>();
+        for (int offset = from; offset < to; offset++) {
+            values.add(partition.partition() + ":" + offset);
+        }
+        return values;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Condition has not been met in 10 seconds.");
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.openl.rules.ruleservice.storelogdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class BatchingStoreLogDataManagerTest {
+
+    private static class CollectingStoreLogDataService implements StoreLogDataService {
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        final List<StoreLogData> saved = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release;
+
+        CollectingStoreLogDataService(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void save(StoreLogData storeLogData) {
+            saveAll(Collections.singletonList(storeLogData));
+        }
+
+        @Override
+        public void saveAll(Collection<StoreLogData> storeLogDataCollection) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batchSizes.add(storeLogDataCollection.size());
+            saved.addAll(storeLogDataCollection);
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+    }
+
+    @Test
+    public void testBatchBySize() {
+        CollectingStoreLogDataService service = new CollectingStoreLogDataService(new CountDownLatch(0));
+        BatchingStoreLogDataManager manager = new BatchingStoreLogDataManager(Collections.singletonList(service),
+            100,
+            BatchingStoreLogDataManager.OverflowPolicy.BLOCK,
+            1,
+            10,
+            60_000);
+        for (int i = 0; i < 25; i++) {
+            manager.store(new StoreLogData());
+        }
+        manager.destroy();
+        assertEquals(25, service.saved.size());
+        assertEquals(25, manager.getSavedCount());
+        assertEquals(0, manager.getDroppedCount());
+        for (int size : service.batchSizes) {
+            assertTrue(size <= 10);
+        }
+    }
+
+    @Test
+    public void testBatchByTimeout() throws Exception {
+        CollectingStoreLogDataService service = new CollectingStoreLogDataService(new CountDownLatch(0));
+        BatchingStoreLogDataManager manager = new BatchingStoreLogDataManager(Collections.singletonList(service),
+            100,
+            BatchingStoreLogDataManager.OverflowPolicy.BLOCK,
+            1,
+            1000,
+            10);
+        manager.store(new StoreLogData());
+        assertTrue(service.started.await(10, TimeUnit.SECONDS));
+        manager.destroy();
+        assertEquals(Collections.singletonList(1), service.batchSizes);
+    }
+
+    @Test
+    public void testIgnorable() {
+        CollectingStoreLogDataService service = new CollectingStoreLogDataService(new CountDownLatch(0));
+        BatchingStoreLogDataManager manager = new BatchingStoreLogDataManager(Collections.singletonList(service),
+            10,
+            BatchingStoreLogDataManager.OverflowPolicy.BLOCK,
+            1,
+            10,
+            10);
+        StoreLogData storeLogData = new StoreLogData();
+        storeLogData.ignore();
+        manager.store(storeLogData);
+        manager.destroy();
+        assertTrue(service.saved.isEmpty());
+    }
+
+    @Test
+    public void testDropOldest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingStoreLogDataService service = new CollectingStoreLogDataService(release);
+        BatchingStoreLogDataManager manager = new BatchingStoreLogDataManager(Collections.singletonList(service),
+            4,
+            BatchingStoreLogDataManager.OverflowPolicy.DROP_OLDEST,
+            1,
+            1,
+            0);
+        manager.store(new StoreLogData());
+        // The worker is blocked inside the service, so the queue is filled up
+        assertTrue(service.started.await(10, TimeUnit.SECONDS));
+        List<StoreLogData> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            StoreLogData storeLogData = new StoreLogData();
+            records.add(storeLogData);
+            manager.store(storeLogData);
+        }
+        assertEquals(4, manager.getQueueDepth());
+        assertEquals(6, manager.getDroppedCount());
+        release.countDown();
+        manager.destroy();
+        assertEquals(5, service.saved.size());
+        assertEquals(records.subList(6, 10), service.saved.subList(1, 5));
+    }
+
+    @Test
+    public void testSample() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingStoreLogDataService service = new CollectingStoreLogDataService(release);
+        BatchingStoreLogDataManager manager = new BatchingStoreLogDataManager(Collections.singletonList(service),
+            2,
+            BatchingStoreLogDataManager.OverflowPolicy.SAMPLE,
+            3,
+            1,
+            0);
+        manager.store(new StoreLogData());
+        assertTrue(service.started.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 2 + 9; i++) {
+            manager.store(new StoreLogData());
+        }
+        // 9 overflowed records: 3 of them replace the oldest ones, 6 are dropped
+        assertEquals(2, manager.getQueueDepth());
+        assertEquals(9, manager.getDroppedCount());
+        release.countDown();
+        manager.destroy();
+        assertEquals(3, service.saved.size());
+    }
+}
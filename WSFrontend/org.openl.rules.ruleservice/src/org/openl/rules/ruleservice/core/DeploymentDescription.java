@@ -19,6 +19,14 @@ public class DeploymentDescription {
         return version;
     }
 
+    /**
+     * Checks whether the deployments have the same version. A deployment without version cannot be compared, so it is
+     * always considered as changed.
+     */
+    public boolean isSameVersion(DeploymentDescription other) {
+        return version != null && other.version != null && version.compareTo(other.version) == 0;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -1,6 +1,7 @@
 package org.openl.rules.ruleservice.core;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 
 import org.openl.rules.ruleservice.publish.RuleServiceManager;
@@ -11,6 +12,10 @@ import org.slf4j.LoggerFactory;
  * Default implementation of RulesService. Uses publisher and instantiation factory. Publisher is responsible for
  * service exposing. Instantiation factory is responsible for build OpenLService instances from ServiceDescription. This
  * class designed for using it from Spring.
+ * <p>
+ * Services are compiled outside of any lock, so different services can be deployed concurrently. Only publishing is
+ * serialized. On redeploy the new service is fully compiled before the running one is replaced, so the running service
+ * keeps serving requests during compilation and stays deployed if the compilation fails.
  *
  * @author Marat Kamalov
  */
@@ -27,7 +32,9 @@ public class RuleServiceImpl implements RuleService {
      */
     private RuleServiceInstantiationFactory ruleServiceInstantiationFactory;
 
-    private Map<String, ServiceDescription> serviceDescriptionMap = new HashMap<>();
+    private final Map<String, ServiceDescription> serviceDescriptionMap = new ConcurrentHashMap<>();
+
+    private final Object publishLock = new Object();
 
     /**
      * {@inheritDoc}
@@ -44,12 +51,15 @@ public class RuleServiceImpl implements RuleService {
         if (sd == null) {
             throw new IllegalStateException("Invalid state.");
         }
-        if (sd.getDeployment().getVersion().compareTo(serviceDescription.getDeployment().getVersion()) != 0) {
+        if (!sd.getDeployment().isSameVersion(serviceDescription.getDeployment())) {
+            OpenLService newService = createInitializedService(serviceDescription);
             Lock lock = RuleServiceRedeployLock.getInstance().getWriteLock();
             try {
                 lock.lock();
-                undeploy(service.getName());
-                deploy(serviceDescription);
+                synchronized (publishLock) {
+                    undeploy(service.getName());
+                    publish(serviceDescription, newService);
+                }
             } finally {
                 lock.unlock();
             }
@@ -73,8 +83,10 @@ public class RuleServiceImpl implements RuleService {
                 throw new IllegalStateException("This should not happen.");
             }
             try {
-                ruleServiceManager.undeploy(serviceName);
-                serviceDescriptionMap.remove(serviceDescription.getName());
+                synchronized (publishLock) {
+                    ruleServiceManager.undeploy(serviceName);
+                    serviceDescriptionMap.remove(serviceDescription.getName());
+                }
             } finally {
                 cleanDeploymentResources(serviceDescription);
                 service.destroy();
@@ -125,8 +137,38 @@ public class RuleServiceImpl implements RuleService {
             throw new RuleServiceDeployException(
                 String.format("The service with name '%s' has already been deployed.", serviceDescription.getName()));
         }
+        OpenLService newService = createInitializedService(serviceDescription);
+        synchronized (publishLock) {
+            if (ruleServiceManager.getServiceByName(serviceDescription.getName()) != null) {
+                throw new RuleServiceDeployException(String
+                    .format("The service with name '%s' has already been deployed.", serviceDescription.getName()));
+            }
+            publish(serviceDescription, newService);
+        }
+    }
+
+    /**
+     * Creates a service and compiles it. Resources of the deployment are cleaned if the compilation fails and the
+     * deployment is not used by other services.
+     */
+    private OpenLService createInitializedService(
+            ServiceDescription serviceDescription) throws RuleServiceDeployException {
         try {
             OpenLService newService = ruleServiceInstantiationFactory.createService(serviceDescription);
+            OpenLServiceHolder.getInstance().setOpenLService(newService);
+            newService.getServiceBean();
+            return newService;
+        } catch (RuleServiceInstantiationException e) {
+            cleanDeploymentResources(serviceDescription);
+            throw new RuleServiceDeployException("Failed on deploy a service.", e);
+        } finally {
+            OpenLServiceHolder.getInstance().remove();
+        }
+    }
+
+    private void publish(ServiceDescription serviceDescription,
+            OpenLService newService) throws RuleServiceDeployException {
+        try {
             OpenLServiceHolder.getInstance().setOpenLService(newService);
             ServiceDescription sd = serviceDescriptionMap.get(serviceDescription.getName());
             if (sd != null) {
@@ -135,8 +177,6 @@ public class RuleServiceImpl implements RuleService {
             ruleServiceManager.deploy(newService);
             serviceDescriptionMap.put(serviceDescription.getName(), serviceDescription);
             log.info("Service '{}' has been deployed succesfully.", serviceDescription.getName());
-        } catch (RuleServiceInstantiationException e) {
-            throw new RuleServiceDeployException("Failed on deploy a service.", e);
         } finally {
             cleanDeploymentResources(serviceDescription);
             OpenLServiceHolder.getInstance().remove();
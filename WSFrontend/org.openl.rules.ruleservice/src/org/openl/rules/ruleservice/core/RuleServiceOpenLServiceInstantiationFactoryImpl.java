@@ -2,6 +2,7 @@ package org.openl.rules.ruleservice.core;
 
 import java.lang.reflect.Proxy;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.openl.CompiledOpenClass;
 import org.openl.classloader.OpenLBundleClassLoader;
@@ -40,10 +41,12 @@ public class RuleServiceOpenLServiceInstantiationFactoryImpl implements RuleServ
 
     private Map<String, Object> externalParameters;
 
-    private Map<DeploymentDescription, RuleServiceDeploymentRelatedDependencyManager> dependencyManagerMap = new HashMap<>();
+    private Map<DeploymentDescription, RuleServiceDeploymentRelatedDependencyManager> dependencyManagerMap = new ConcurrentHashMap<>();
 
     private ObjectProvider<Collection<ServiceInvocationAdviceListener>> serviceInvocationAdviceListeners;
 
+    private boolean runtimeEnvPooled = false;
+
     private void initService(ServiceDescription serviceDescription,
             RuleServiceDeploymentRelatedDependencyManager dependencyManager,
             OpenLService service) throws RuleServiceInstantiationException,
@@ -103,6 +106,7 @@ public class RuleServiceOpenLServiceInstantiationFactoryImpl implements RuleServ
             Thread.currentThread().setContextClassLoader(classLoader);
             ServiceInvocationAdvice serviceInvocationAdvice = new ServiceInvocationAdvice(service
                 .getOpenClass(), serviceTarget, serviceClass, classLoader, getListServiceInvocationAdviceListeners());
+            serviceInvocationAdvice.setRuntimeEnvPooled(isRuntimeEnvPooled());
             factory.addAdvice(serviceInvocationAdvice);
             if (serviceClass.isInterface()) {
                 factory.addInterface(serviceClass);
@@ -300,6 +304,18 @@ public class RuleServiceOpenLServiceInstantiationFactoryImpl implements RuleServ
         this.serviceInvocationAdviceListeners = serviceInvocationAdviceListeners;
     }
 
+    public boolean isRuntimeEnvPooled() {
+        return runtimeEnvPooled;
+    }
+
+    /**
+     * If enabled, the runtime environment of a service is reset after a call and is reused by the next call in the same
+     * thread instead of being released.
+     */
+    public void setRuntimeEnvPooled(boolean runtimeEnvPooled) {
+        this.runtimeEnvPooled = runtimeEnvPooled;
+    }
+
     public Map<String, Object> getExternalParameters() {
         return externalParameters;
     }
@@ -1,10 +1,15 @@
 package org.openl.rules.ruleservice.core.interceptors;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -25,6 +30,9 @@ import org.openl.rules.testmethod.OpenLUserRuntimeException;
 import org.openl.runtime.IEngineWrapper;
 import org.openl.types.IOpenClass;
 import org.openl.types.IOpenMember;
+import org.openl.util.ClassUtils;
+import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.SimpleVM;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.Ordered;
@@ -46,12 +54,14 @@ public final class ServiceInvocationAdvice implements MethodInterceptor, Ordered
     private Map<Method, List<ServiceMethodAfterAdvice<?>>> afterInterceptors = new HashMap<>();
     private Map<Method, ServiceMethodAroundAdvice<?>> aroundInterceptors = new HashMap<>();
     private Map<Method, ServiceExtraMethodHandler<?>> serviceExtraMethodAnnotations = new HashMap<>();
+    private final Map<Method, InvocationPlan> invocationPlans = new ConcurrentHashMap<>();
 
     private Object serviceTarget;
     private Class<?> serviceClass;
     private ClassLoader serviceClassLoader;
     private IOpenClass openClass;
-    private Collection<ServiceInvocationAdviceListener> serviceMethodAdviceListeners;
+    private ServiceInvocationAdviceListener[] serviceMethodAdviceListeners;
+    private boolean runtimeEnvPooled;
 
     public ServiceInvocationAdvice(IOpenClass openClass,
             Object serviceTarget,
@@ -62,9 +72,24 @@ public final class ServiceInvocationAdvice implements MethodInterceptor, Ordered
         this.serviceClass = serviceClass;
         this.serviceClassLoader = serviceClassLoader;
         this.openClass = openClass;
-        this.serviceMethodAdviceListeners = serviceMethodAdviceListeners != null ? new ArrayList<>(
-            serviceMethodAdviceListeners) : new ArrayList<>();
+        this.serviceMethodAdviceListeners = serviceMethodAdviceListeners != null ? serviceMethodAdviceListeners
+            .toArray(new ServiceInvocationAdviceListener[0]) : new ServiceInvocationAdviceListener[0];
         init();
+        for (Method method : serviceClass.getMethods()) {
+            invocationPlans.put(method, createInvocationPlan(method));
+        }
+    }
+
+    public boolean isRuntimeEnvPooled() {
+        return runtimeEnvPooled;
+    }
+
+    /**
+     * If enabled, the runtime environment of the service bean is reset after a call instead of being released, so the
+     * next call in the same thread reuses it.
+     */
+    public void setRuntimeEnvPooled(boolean runtimeEnvPooled) {
+        this.runtimeEnvPooled = runtimeEnvPooled;
     }
 
     public Map<Method, List<ServiceMethodAfterAdvice<?>>> getAfterInterceptors() {
@@ -187,33 +212,122 @@ public final class ServiceInvocationAdvice implements MethodInterceptor, Ordered
         }
     }
 
-    protected void beforeInvocation(Method interfaceMethod, Object... args) throws Throwable {
-        List<ServiceMethodBeforeAdvice> preInterceptors = beforeInterceptors.get(interfaceMethod);
-        if (preInterceptors != null) {
-            for (ServiceMethodBeforeAdvice interceptor : preInterceptors) {
-                invokeBeforeServiceMethodAdviceOnListeners(interceptor, interfaceMethod, args, null, null);
-                interceptor.before(interfaceMethod, serviceTarget, args);
-                invokeAfterServiceMethodAdviceOnListeners(interceptor, interfaceMethod, args, null, null);
-            }
+    /**
+     * Resolves everything what does not depend on arguments of the call: the interface and the bean methods and the
+     * interceptors of the method.
+     */
+    private InvocationPlan createInvocationPlan(Method calledMethod) {
+        String methodName = calledMethod.getName();
+        Class<?>[] parameterTypes = calledMethod.getParameterTypes();
+        Method interfaceMethod = MethodUtil.getMatchingAccessibleMethod(serviceClass, methodName, parameterTypes);
+        Method beanMethod = null;
+        boolean serviceExtraMethod = calledMethod.isAnnotationPresent(ServiceExtraMethod.class);
+        if (!serviceExtraMethod) {
+            beanMethod = MethodUtil.getMatchingAccessibleMethod(serviceTarget.getClass(), methodName, parameterTypes);
+        }
+        List<ServiceMethodBeforeAdvice> before = interfaceMethod != null ? beforeInterceptors.get(interfaceMethod)
+                                                                         : null;
+        List<ServiceMethodAfterAdvice<?>> after = interfaceMethod != null ? afterInterceptors.get(interfaceMethod)
+                                                                          : null;
+        return new InvocationPlan(interfaceMethod,
+            beanMethod,
+            beanMethod != null ? toMethodHandle(beanMethod) : null,
+            !serviceExtraMethod && beanMethod == null,
+            before != null ? before.toArray(new ServiceMethodBeforeAdvice[0]) : new ServiceMethodBeforeAdvice[0],
+            after != null ? after.toArray(new ServiceMethodAfterAdvice<?>[0]) : new ServiceMethodAfterAdvice<?>[0],
+            interfaceMethod != null ? aroundInterceptors.get(interfaceMethod) : null,
+            interfaceMethod != null ? serviceExtraMethodAnnotations.get(interfaceMethod) : null);
+    }
+
+    /**
+     * Returns a handle with {@code (Object, Object[])Object} type or {@code null} if the method cannot be called via
+     * a method handle, in this case reflection is used.
+     */
+    private static MethodHandle toMethodHandle(Method method) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+        try {
+            MethodHandle methodHandle = MethodHandles.publicLookup().unreflect(method).asFixedArity();
+            return methodHandle.asType(methodHandle.type().generic())
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private InvocationPlan getInvocationPlan(Method calledMethod) {
+        InvocationPlan invocationPlan = invocationPlans.get(calledMethod);
+        if (invocationPlan == null) {
+            // Methods of the proxy which are not declared in the service class, for example IEngineWrapper methods
+            invocationPlan = invocationPlans.computeIfAbsent(calledMethod, this::createInvocationPlan);
+        }
+        return invocationPlan;
+    }
+
+    private void beforeInvocation(InvocationPlan invocationPlan, Object... args) throws Throwable {
+        Method interfaceMethod = invocationPlan.interfaceMethod;
+        for (ServiceMethodBeforeAdvice interceptor : invocationPlan.beforeInterceptors) {
+            invokeBeforeServiceMethodAdviceOnListeners(interceptor, interfaceMethod, args, null, null);
+            interceptor.before(interfaceMethod, serviceTarget, args);
+            invokeAfterServiceMethodAdviceOnListeners(interceptor, interfaceMethod, args, null, null);
         }
     }
 
-    protected Object serviceExtraMethodInvoke(Method interfaceMethod,
+    private Object serviceExtraMethodInvoke(InvocationPlan invocationPlan,
             Object serviceBean,
             Object... args) throws Exception {
-        ServiceExtraMethodHandler<?> serviceExtraMethodHandler = serviceExtraMethodAnnotations.get(interfaceMethod);
+        ServiceExtraMethodHandler<?> serviceExtraMethodHandler = invocationPlan.serviceExtraMethodHandler;
         if (serviceExtraMethodHandler != null) {
-            return serviceExtraMethodHandler.invoke(interfaceMethod, serviceBean, args);
+            return serviceExtraMethodHandler.invoke(invocationPlan.interfaceMethod, serviceBean, args);
         }
         throw new OpenLRuntimeException("Service method advice is not found.");
     }
 
-    protected Object afterInvocation(Method interfaceMethod,
+    private Object beanMethodInvoke(InvocationPlan invocationPlan, Object... args) throws Exception {
+        MethodHandle beanMethodHandle = invocationPlan.beanMethodHandle;
+        if (beanMethodHandle == null || !isApplicable(invocationPlan.beanParameterTypes, args)) {
+            // Reflection reports illegal arguments and does widening conversions of primitives
+            return invocationPlan.beanMethod.invoke(serviceTarget, args);
+        }
+        try {
+            return (Object) beanMethodHandle.invokeExact(serviceTarget, args);
+        } catch (Throwable t) {
+            // The arguments are checked, so the exception is thrown by the method itself as for reflection calls
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Checks if the arguments can be passed to the method handle without conversions which can fail.
+     */
+    private static boolean isApplicable(Class<?>[] parameterTypes, Object[] args) {
+        int length = args == null ? 0 : args.length;
+        if (parameterTypes.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            Class<?> parameterType = parameterTypes[i];
+            Object arg = args[i];
+            if (parameterType.isPrimitive()) {
+                if (!ClassUtils.primitiveToWrapper(parameterType).isInstance(arg)) {
+                    return false;
+                }
+            } else if (arg != null && !parameterType.isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object afterInvocation(InvocationPlan invocationPlan,
             Object result,
             Exception t,
             Object... args) throws Exception {
-        List<ServiceMethodAfterAdvice<?>> postInterceptors = afterInterceptors.get(interfaceMethod);
-        if (postInterceptors != null && !postInterceptors.isEmpty()) {
+        Method interfaceMethod = invocationPlan.interfaceMethod;
+        ServiceMethodAfterAdvice<?>[] postInterceptors = invocationPlan.afterInterceptors;
+        if (postInterceptors.length > 0) {
             Object ret = result;
             Exception lastOccuredException = t;
             for (ServiceMethodAfterAdvice<?> interceptor : postInterceptors) {
@@ -258,6 +372,9 @@ public final class ServiceInvocationAdvice implements MethodInterceptor, Ordered
             Object[] args,
             Object ret,
             Exception lastOccuredException) {
+        if (serviceMethodAdviceListeners.length == 0) {
+            return;
+        }
         for (ServiceInvocationAdviceListener listener : serviceMethodAdviceListeners) {
             try {
                 listener.afterServiceMethodAdvice(interceptor, interfaceMethod, args, ret, lastOccuredException);
@@ -272,6 +389,9 @@ public final class ServiceInvocationAdvice implements MethodInterceptor, Ordered
             Object[] args,
             Object ret,
             Exception lastOccuredException) {
+        if (serviceMethodAdviceListeners.length == 0) {
+            return;
+        }
         for (ServiceInvocationAdviceListener listener : serviceMethodAdviceListeners) {
             try {
                 listener.beforeServiceMethodAdvice(interceptor, interfaceMethod, args, ret, lastOccuredException);
@@ -285,26 +405,25 @@ public final class ServiceInvocationAdvice implements MethodInterceptor, Ordered
     public Object invoke(MethodInvocation invocation) throws Throwable {
         Method calledMethod = invocation.getMethod();
         Object[] args = invocation.getArguments();
-        String methodName = calledMethod.getName();
-        Class<?>[] parameterTypes = calledMethod.getParameterTypes();
-        Method interfaceMethod = MethodUtil.getMatchingAccessibleMethod(serviceClass, methodName, parameterTypes);
+        InvocationPlan invocationPlan = getInvocationPlan(calledMethod);
+        Method interfaceMethod = invocationPlan.interfaceMethod;
         Object result = null;
         try {
-            Method beanMethod = null;
-            if (!calledMethod.isAnnotationPresent(ServiceExtraMethod.class)) {
-                beanMethod = MethodUtil.getMatchingAccessibleMethod(serviceTarget.getClass(), methodName, parameterTypes);
-                if (beanMethod == null) {
-                    throw new OpenLRuntimeException(String.format(
-                        "Called method is not found in the service bean. Please, check that excel file contains method '%s'.",
-                        MethodUtil.printMethod(methodName, parameterTypes)));
-                }
+            if (invocationPlan.beanMethodNotFound) {
+                throw new OpenLRuntimeException(String.format(
+                    "Called method is not found in the service bean. Please, check that excel file contains method '%s'.",
+                    MethodUtil.printMethod(calledMethod.getName(), calledMethod.getParameterTypes())));
             }
             try {
-                ClassLoader oldClassLoader = Thread.currentThread().getContextClassLoader();
+                Thread currentThread = Thread.currentThread();
+                ClassLoader oldClassLoader = currentThread.getContextClassLoader();
+                boolean classLoaderChanged = oldClassLoader != serviceClassLoader;
                 try {
-                    Thread.currentThread().setContextClassLoader(serviceClassLoader);
-                    beforeInvocation(interfaceMethod, args);
-                    ServiceMethodAroundAdvice<?> serviceMethodAroundAdvice = aroundInterceptors.get(interfaceMethod);
+                    if (classLoaderChanged) {
+                        currentThread.setContextClassLoader(serviceClassLoader);
+                    }
+                    beforeInvocation(invocationPlan, args);
+                    ServiceMethodAroundAdvice<?> serviceMethodAroundAdvice = invocationPlan.aroundInterceptor;
                     try {
                         invokeBeforeMethodInvocationOnListeners(interfaceMethod, args, null, null);
                         if (serviceMethodAroundAdvice != null) {
@@ -315,7 +434,7 @@ public final class ServiceInvocationAdvice implements MethodInterceptor, Ordered
                                 null);
                             try {
                                 result = serviceMethodAroundAdvice
-                                    .around(interfaceMethod, beanMethod, serviceTarget, args);
+                                    .around(interfaceMethod, invocationPlan.beanMethod, serviceTarget, args);
                             } finally {
                                 invokeAfterServiceMethodAdviceOnListeners(serviceMethodAroundAdvice,
                                     interfaceMethod,
@@ -324,28 +443,30 @@ public final class ServiceInvocationAdvice implements MethodInterceptor, Ordered
                                     null);
                             }
                         } else {
-                            if (beanMethod != null) {
-                                result = beanMethod.invoke(serviceTarget, args);
+                            if (invocationPlan.beanMethod != null) {
+                                result = beanMethodInvoke(invocationPlan, args);
                             } else {
-                                result = serviceExtraMethodInvoke(interfaceMethod, serviceTarget, args);
+                                result = serviceExtraMethodInvoke(invocationPlan, serviceTarget, args);
                             }
                         }
                     } finally {
                         invokeAfterMethodInvocationOnListeners(interfaceMethod, args, result, null);
                     }
-                    result = afterInvocation(interfaceMethod, result, null, args);
+                    result = afterInvocation(invocationPlan, result, null, args);
                 } finally {
-                    Thread.currentThread().setContextClassLoader(oldClassLoader);
+                    if (classLoaderChanged) {
+                        currentThread.setContextClassLoader(oldClassLoader);
+                    }
                 }
             } catch (InvocationTargetException e) {
                 Throwable t = extractInvocationTargetException(e);
                 if (t instanceof Exception) {
-                    result = afterInvocation(interfaceMethod, null, (Exception) t, args);
+                    result = afterInvocation(invocationPlan, null, (Exception) t, args);
                 } else {
                     throw t;
                 }
             } catch (Exception e) {
-                result = afterInvocation(interfaceMethod, null, e, args);
+                result = afterInvocation(invocationPlan, null, e, args);
             }
             return result;
         } catch (Exception t) {
@@ -358,7 +479,9 @@ public final class ServiceInvocationAdvice implements MethodInterceptor, Ordered
             // Memory leaks fix.
             if (serviceTarget instanceof IEngineWrapper) {
                 IEngineWrapper engine = (IEngineWrapper) serviceTarget;
-                engine.release();
+                if (!runtimeEnvPooled || !resetRuntimeEnv(engine)) {
+                    engine.release();
+                }
             } else {
                 log.warn(
                     "Service bean does not implement IEngineWrapper interface. Please, don't use deprecated static wrapper classes.");
@@ -366,10 +489,28 @@ public final class ServiceInvocationAdvice implements MethodInterceptor, Ordered
         }
     }
 
+    /**
+     * Resets the runtime environment in place. The environment does not keep any references to the objects of the
+     * call after the reset, so it does not prevent the service class loader from unloading.
+     *
+     * @return {@code false} if the environment cannot be reset and must be released
+     */
+    private static boolean resetRuntimeEnv(IEngineWrapper engine) {
+        IRuntimeEnv runtimeEnv = engine.getRuntimeEnv();
+        if (runtimeEnv instanceof SimpleVM.SimpleRuntimeEnv) {
+            ((SimpleVM.SimpleRuntimeEnv) runtimeEnv).reset();
+            return true;
+        }
+        return false;
+    }
+
     private void invokeAfterMethodInvocationOnListeners(Method interfaceMethod,
             Object[] args,
             Object result,
             Exception e) {
+        if (serviceMethodAdviceListeners.length == 0) {
+            return;
+        }
         for (ServiceInvocationAdviceListener listener : serviceMethodAdviceListeners) {
             try {
                 listener.afterMethodInvocation(interfaceMethod, args, result, e);
@@ -383,6 +524,9 @@ public final class ServiceInvocationAdvice implements MethodInterceptor, Ordered
             Object[] args,
             Object result,
             Exception e) {
+        if (serviceMethodAdviceListeners.length == 0) {
+            return;
+        }
         for (ServiceInvocationAdviceListener listener : serviceMethodAdviceListeners) {
             try {
                 listener.beforeMethodInvocation(interfaceMethod, args, result, e);
@@ -503,4 +647,38 @@ public final class ServiceInvocationAdvice implements MethodInterceptor, Ordered
         return Ordered.HIGHEST_PRECEDENCE;
     }
 
+    /**
+     * Immutable data for calls of a service method which are resolved once per method instead of every call.
+     */
+    private static final class InvocationPlan {
+        private final Method interfaceMethod;
+        private final Method beanMethod;
+        private final Class<?>[] beanParameterTypes;
+        private final MethodHandle beanMethodHandle;
+        private final boolean beanMethodNotFound;
+        private final ServiceMethodBeforeAdvice[] beforeInterceptors;
+        private final ServiceMethodAfterAdvice<?>[] afterInterceptors;
+        private final ServiceMethodAroundAdvice<?> aroundInterceptor;
+        private final ServiceExtraMethodHandler<?> serviceExtraMethodHandler;
+
+        private InvocationPlan(Method interfaceMethod,
+                Method beanMethod,
+                MethodHandle beanMethodHandle,
+                boolean beanMethodNotFound,
+                ServiceMethodBeforeAdvice[] beforeInterceptors,
+                ServiceMethodAfterAdvice<?>[] afterInterceptors,
+                ServiceMethodAroundAdvice<?> aroundInterceptor,
+                ServiceExtraMethodHandler<?> serviceExtraMethodHandler) {
+            this.interfaceMethod = interfaceMethod;
+            this.beanMethod = beanMethod;
+            this.beanParameterTypes = beanMethod != null ? beanMethod.getParameterTypes() : null;
+            this.beanMethodHandle = beanMethodHandle;
+            this.beanMethodNotFound = beanMethodNotFound;
+            this.beforeInterceptors = beforeInterceptors;
+            this.afterInterceptors = afterInterceptors;
+            this.aroundInterceptor = aroundInterceptor;
+            this.serviceExtraMethodHandler = serviceExtraMethodHandler;
+        }
+    }
+
 }
\ No newline at end of file
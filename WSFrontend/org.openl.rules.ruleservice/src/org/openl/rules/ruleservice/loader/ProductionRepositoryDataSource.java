@@ -53,6 +53,9 @@ public class ProductionRepositoryDataSource implements DataSource {
         ConcurrentMap<String, Deployment> deployments = new ConcurrentHashMap<>();
         for (FileData fileData : fileDatas) {
             String deploymentFolderName = fileData.getName().substring(deployPath.length()).split("/")[0];
+            if (deployments.containsKey(deploymentFolderName)) {
+                continue;
+            }
             String deploymentName = deploymentFolderName;
             CommonVersionImpl commonVersion = null;
 
@@ -72,6 +75,8 @@ public class ProductionRepositoryDataSource implements DataSource {
                 String version = fileData.getVersion();
                 if (version != null) {
                     commonVersion = new CommonVersionImpl(version);
+                } else if (!repository.supports().versions()) {
+                    commonVersion = getModificationVersion(deployPath + deploymentFolderName);
                 }
             }
 
@@ -148,6 +153,24 @@ public class ProductionRepositoryDataSource implements DataSource {
         this.deployPath = deployPath.isEmpty() || deployPath.endsWith("/") ? deployPath : deployPath + "/";
     }
 
+    /**
+     * Repositories without versions do not report changes of deployments, so the last modification time of the
+     * deployment files is used as its version.
+     */
+    private CommonVersionImpl getModificationVersion(String deploymentFolderPath) {
+        long modifiedAt = 0;
+        try {
+            for (FileData fileData : repository.list(deploymentFolderPath + "/")) {
+                if (fileData.getModifiedAt() != null) {
+                    modifiedAt = Math.max(modifiedAt, fileData.getModifiedAt().getTime());
+                }
+            }
+        } catch (IOException e) {
+            throw RuntimeExceptionWrapper.wrap(e);
+        }
+        return modifiedAt == 0 ? null : new CommonVersionImpl(Long.toString(modifiedAt));
+    }
+
     private boolean isFolderStructure(String deploymentFolderPath) {
         boolean folderStructure;
         try {
@@ -1,15 +1,26 @@
 package org.openl.rules.ruleservice.management;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.openl.rules.ruleservice.conf.ServiceConfigurer;
+import org.openl.rules.ruleservice.core.DeploymentDescription;
+import org.openl.rules.ruleservice.core.MaxThreadsForCompileSemaphore;
 import org.openl.rules.ruleservice.core.OpenLService;
 import org.openl.rules.ruleservice.core.RuleService;
 import org.openl.rules.ruleservice.core.RuleServiceDeployException;
+import org.openl.rules.ruleservice.core.RuleServiceStaticConfigurationUtil;
 import org.openl.rules.ruleservice.core.RuleServiceUndeployException;
 import org.openl.rules.ruleservice.core.ServiceDescription;
 import org.openl.rules.ruleservice.loader.DataSourceListener;
@@ -18,7 +29,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Handles data source modifications and controls all services.
+ * Handles data source modifications and controls all services. Only the services which are new or whose deployment
+ * version has been changed are deployed. Services of different deployments are deployed in parallel, the number of
+ * threads is limited by {@link RuleServiceStaticConfigurationUtil#getMaxThreadsForCompile()}.
  *
  * @author PUdalau
  */
@@ -27,8 +40,8 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener {
     private RuleService ruleService;
     private ServiceConfigurer serviceConfigurer;
     private RuleServiceLoader ruleServiceLoader;
-    private Map<String, ServiceDescription> serviceDescriptions = new HashMap<>();
-    private Map<String, ServiceDescription> failedServiceDescriptions = new HashMap<>();
+    private Map<String, ServiceDescription> serviceDescriptions = new ConcurrentHashMap<>();
+    private Map<String, ServiceDescription> failedServiceDescriptions = new ConcurrentHashMap<>();
 
     public void setRuleServiceLoader(RuleServiceLoader ruleServiceLoader) {
         if (this.ruleServiceLoader != null) {
@@ -122,31 +135,80 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener {
     }
 
     protected void deployServices(Map<String, ServiceDescription> newServices) {
+        Map<DeploymentDescription, List<ServiceDescription>> servicesByDeployment = new LinkedHashMap<>();
         for (ServiceDescription serviceDescription : newServices.values()) {
+            if (isDeploymentRequired(serviceDescription)) {
+                servicesByDeployment.computeIfAbsent(serviceDescription.getDeployment(), e -> new ArrayList<>())
+                    .add(serviceDescription);
+            }
+        }
+        if (servicesByDeployment.size() <= 1) {
+            servicesByDeployment.values().forEach(this::deployServiceGroup);
+            return;
+        }
+        // Services of the same deployment share compilation resources, so they are deployed in one task
+        int threads = Math.min(servicesByDeployment.size(),
+            Math.max(1, RuleServiceStaticConfigurationUtil.getMaxThreadsForCompile()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (List<ServiceDescription> group : servicesByDeployment.values()) {
+                futures.add(executor.submit(() -> MaxThreadsForCompileSemaphore.getInstance().run(() -> {
+                    deployServiceGroup(group);
+                    return null;
+                })));
+            }
+            for (Future<Object> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("Failed to deploy services.", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for services deployment.");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Checks whether the service is not deployed or is deployed with another version of the deployment. A service
+     * which has been failed to deploy is not deployed again until its deployment version is changed. A service of a
+     * deployment without version is always deployed again.
+     */
+    private boolean isDeploymentRequired(ServiceDescription serviceDescription) {
+        String serviceName = serviceDescription.getName();
+        ServiceDescription failedServiceDescription = failedServiceDescriptions.get(serviceName);
+        if (failedServiceDescription != null && isSameVersion(failedServiceDescription, serviceDescription)) {
+            return false;
+        }
+        if (isServiceDeployed(serviceName)) {
+            ServiceDescription deployedServiceDescription = serviceDescriptions.get(serviceName);
+            return deployedServiceDescription == null || !isSameVersion(deployedServiceDescription,
+                serviceDescription);
+        }
+        return true;
+    }
+
+    private static boolean isSameVersion(ServiceDescription serviceDescription1,
+            ServiceDescription serviceDescription2) {
+        return serviceDescription1.getDeployment().isSameVersion(serviceDescription2.getDeployment());
+    }
+
+    private void deployServiceGroup(Collection<ServiceDescription> serviceDescriptionsToDeploy) {
+        for (ServiceDescription serviceDescription : serviceDescriptionsToDeploy) {
             String serviceName = serviceDescription.getName();
             try {
                 ServiceDescriptionHolder.getInstance().setServiceDescription(serviceDescription);
-                if (!isServiceDeployed(serviceName)) {
-                    ServiceDescription failedServiceDescription = failedServiceDescriptions.get(serviceName);
-                    if (failedServiceDescription != null) {
-                        if (!serviceName.equals(failedServiceDescription.getName())) {
-                            throw new IllegalStateException();
-                        }
-                        if (failedServiceDescription.getDeployment()
-                            .getVersion()
-                            .compareTo(serviceDescription.getDeployment().getVersion()) != 0) {
-                            failedServiceDescriptions.remove(serviceName);
-                            ruleService.deploy(serviceDescription);
-                            serviceDescriptions.put(serviceName, serviceDescription);
-                        }
-                    } else {
-                        ruleService.deploy(serviceDescription);
-                        serviceDescriptions.put(serviceName, serviceDescription);
-                    }
-                } else {
+                if (isServiceDeployed(serviceName)) {
                     ruleService.redeploy(serviceDescription);
-                    serviceDescriptions.put(serviceName, serviceDescription);
+                } else {
+                    ruleService.deploy(serviceDescription);
                 }
+                serviceDescriptions.put(serviceName, serviceDescription);
+                failedServiceDescriptions.remove(serviceName);
             } catch (RuleServiceDeployException e) {
                 failedServiceDescriptions.put(serviceName, serviceDescription);
                 log.error("Failed to deploy service '{}'.", serviceName, e);
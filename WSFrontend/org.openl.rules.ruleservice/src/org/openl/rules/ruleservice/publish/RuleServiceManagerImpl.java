@@ -2,6 +2,7 @@ package org.openl.rules.ruleservice.publish;
 
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.openl.rules.ruleservice.core.OpenLService;
@@ -26,7 +27,7 @@ public class RuleServiceManagerImpl implements RuleServiceManager, InitializingB
 
     private Collection<String> defaultRuleServicePublishers = Collections.emptyList();
 
-    private Map<String, OpenLService> services = new HashMap<>();
+    private Map<String, OpenLService> services = new ConcurrentHashMap<>();
 
     private Collection<RuleServicePublisherListener> listeners = Collections.emptyList();
 
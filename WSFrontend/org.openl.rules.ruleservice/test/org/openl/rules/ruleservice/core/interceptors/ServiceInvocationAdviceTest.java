@@ -0,0 +1,113 @@
+package org.openl.rules.ruleservice.core.interceptors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.Before;
+import org.junit.Test;
+import org.openl.exception.OpenLRuntimeException;
+import org.openl.rules.ruleservice.core.ExceptionType;
+import org.openl.rules.ruleservice.core.RuleServiceWrapperException;
+import org.openl.rules.ruleservice.core.annotations.ServiceExtraMethod;
+import org.openl.rules.ruleservice.core.annotations.ServiceExtraMethodHandler;
+
+public class ServiceInvocationAdviceTest {
+
+    public interface Service {
+        int add(int a, int b);
+
+        String fail(String message);
+
+        @ServiceExtraMethod(ConcatHandler.class)
+        String concat(String a, String b);
+    }
+
+    public static class ServiceBean {
+        private int calls;
+
+        public int add(int a, int b) {
+            calls++;
+            return a + b;
+        }
+
+        public String fail(String message) {
+            calls++;
+            throw new OpenLRuntimeException(message);
+        }
+    }
+
+    public static class ConcatHandler implements ServiceExtraMethodHandler<String> {
+        @Override
+        public String invoke(Method interfaceMethod, Object serviceBean, Object... args) throws Exception {
+            return args[0] + "-" + args[1];
+        }
+    }
+
+    private ServiceBean serviceBean;
+    private ServiceInvocationAdvice advice;
+
+    @Before
+    public void setUp() {
+        serviceBean = new ServiceBean();
+        advice = new ServiceInvocationAdvice(null,
+            serviceBean,
+            Service.class,
+            getClass().getClassLoader(),
+            Collections.emptyList());
+    }
+
+    @Test
+    public void testMethodCall() throws Throwable {
+        assertEquals(5, invoke("add", new Class<?>[] { int.class, int.class }, 2, 3));
+        assertEquals(1, serviceBean.calls);
+    }
+
+    @Test
+    public void testRuleException() throws Throwable {
+        try {
+            invoke("fail", new Class<?>[] { String.class }, "Rule error");
+            fail();
+        } catch (RuleServiceWrapperException e) {
+            assertEquals(ExceptionType.RULES_RUNTIME, e.getType());
+            assertEquals("Rule error", e.getSimpleMessage());
+        }
+        assertEquals(1, serviceBean.calls);
+    }
+
+    @Test
+    public void testIllegalArguments() throws Throwable {
+        try {
+            invoke("add", new Class<?>[] { int.class, int.class }, 2L, 3);
+            fail();
+        } catch (RuleServiceWrapperException e) {
+            assertEquals(ExceptionType.SYSTEM, e.getType());
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+        try {
+            invoke("add", new Class<?>[] { int.class, int.class }, 2);
+            fail();
+        } catch (RuleServiceWrapperException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+        assertEquals(0, serviceBean.calls);
+    }
+
+    @Test
+    public void testServiceExtraMethod() throws Throwable {
+        assertEquals("a-b", invoke("concat", new Class<?>[] { String.class, String.class }, "a", "b"));
+    }
+
+    private Object invoke(String methodName, Class<?>[] parameterTypes, Object... args) throws Throwable {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(Service.class.getMethod(methodName, parameterTypes));
+        when(invocation.getArguments()).thenReturn(args);
+        return advice.invoke(invocation);
+    }
+}
@@ -0,0 +1,68 @@
+package org.openl.rules.ruleservice.loader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openl.rules.common.CommonVersion;
+import org.openl.rules.project.abstraction.Deployment;
+import org.openl.rules.repository.file.FileSystemRepository;
+
+public class ProductionRepositoryDataSourceWithoutVersionsTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private FileSystemRepository repository;
+    private ProductionRepositoryDataSource dataSource;
+    private File rules;
+
+    @Before
+    public void setUp() throws Exception {
+        File root = tempFolder.getRoot();
+        rules = new File(root, "deploy/deployment1/project1/rules.xml");
+        rules.getParentFile().mkdirs();
+        Files.write(rules.toPath(), "<project/>".getBytes(StandardCharsets.UTF_8));
+        rules.setLastModified(1000000000000L);
+
+        repository = new FileSystemRepository();
+        repository.setRoot(root);
+        repository.initialize();
+        dataSource = new ProductionRepositoryDataSource();
+        dataSource.setRepository(repository);
+        dataSource.setDeployPath("deploy");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        repository.close();
+    }
+
+    @Test
+    public void testVersionIsChangedWhenDeploymentIsModified() {
+        CommonVersion version = getVersion();
+        assertNotNull(version);
+        assertEquals(version, getVersion());
+
+        rules.setLastModified(1000000001000L);
+        assertNotEquals(version, getVersion());
+    }
+
+    private CommonVersion getVersion() {
+        Collection<Deployment> deployments = dataSource.getDeployments();
+        assertEquals(1, deployments.size());
+        Deployment deployment = deployments.iterator().next();
+        assertEquals("deployment1", deployment.getDeploymentName());
+        return deployment.getCommonVersion();
+    }
+}
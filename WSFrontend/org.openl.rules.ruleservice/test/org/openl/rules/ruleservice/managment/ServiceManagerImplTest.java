@@ -0,0 +1,148 @@
+package org.openl.rules.ruleservice.managment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openl.rules.common.CommonVersion;
+import org.openl.rules.common.impl.CommonVersionImpl;
+import org.openl.rules.ruleservice.core.DeploymentDescription;
+import org.openl.rules.ruleservice.core.OpenLService;
+import org.openl.rules.ruleservice.core.RuleService;
+import org.openl.rules.ruleservice.core.RuleServiceDeployException;
+import org.openl.rules.ruleservice.core.ServiceDescription;
+import org.openl.rules.ruleservice.management.ServiceManagerImpl;
+
+public class ServiceManagerImplTest {
+
+    private final List<ServiceDescription> servicesToBeDeployed = new ArrayList<>();
+    private final FakeRuleService ruleService = new FakeRuleService();
+    private ServiceManagerImpl serviceManager;
+
+    @Before
+    public void setUp() {
+        serviceManager = new ServiceManagerImpl();
+        serviceManager.setRuleService(ruleService);
+        serviceManager.setServiceConfigurer(ruleServiceLoader -> new ArrayList<>(servicesToBeDeployed));
+    }
+
+    private static ServiceDescription service(String name, String deployment, int version) {
+        return service(name, deployment, new CommonVersionImpl(version));
+    }
+
+    private static ServiceDescription service(String name, String deployment, CommonVersion version) {
+        return new ServiceDescription.ServiceDescriptionBuilder().setName(name)
+            .setModules(Collections.emptyList())
+            .setResourceLoader(location -> null)
+            .setDeployment(new DeploymentDescription(deployment, version))
+            .build();
+    }
+
+    @Test
+    public void testDeployOnlyChangedServices() {
+        for (int i = 0; i < 10; i++) {
+            servicesToBeDeployed.add(service("service" + i, "deployment" + i, 1));
+        }
+        serviceManager.start();
+        assertEquals(10, ruleService.deployed.size());
+        assertEquals(10, ruleService.getServices().size());
+
+        servicesToBeDeployed.set(3, service("service3", "deployment3", 2));
+        serviceManager.onDeploymentAdded();
+        assertEquals(10, ruleService.deployed.size());
+        assertEquals(Collections.singletonList("service3"), ruleService.redeployed);
+
+        serviceManager.onDeploymentAdded();
+        assertEquals(1, ruleService.redeployed.size());
+    }
+
+    @Test
+    public void testServicesWithoutVersionAreAlwaysRedeployed() {
+        servicesToBeDeployed.add(service("service1", "deployment1", (CommonVersion) null));
+        serviceManager.start();
+        assertEquals(1, ruleService.deployed.size());
+
+        serviceManager.onDeploymentAdded();
+        serviceManager.onDeploymentAdded();
+        assertEquals(Arrays.asList("service1", "service1"), ruleService.redeployed);
+    }
+
+    @Test
+    public void testFailedServiceIsNotDeployedAgain() {
+        ruleService.failed.add("service1");
+        servicesToBeDeployed.add(service("service1", "deployment1", 1));
+        servicesToBeDeployed.add(service("service2", "deployment2", 1));
+        serviceManager.start();
+        assertEquals(2, ruleService.deployed.size());
+        assertEquals(1, ruleService.getServices().size());
+
+        serviceManager.onDeploymentAdded();
+        assertEquals(2, ruleService.deployed.size());
+
+        ruleService.failed.clear();
+        servicesToBeDeployed.set(0, service("service1", "deployment1", 2));
+        serviceManager.onDeploymentAdded();
+        assertEquals(3, ruleService.deployed.size());
+        assertEquals(2, ruleService.getServices().size());
+    }
+
+    @Test
+    public void testUndeployRemovedServices() {
+        servicesToBeDeployed.add(service("service1", "deployment1", 1));
+        servicesToBeDeployed.add(service("service2", "deployment2", 1));
+        serviceManager.start();
+        servicesToBeDeployed.remove(1);
+        serviceManager.onDeploymentAdded();
+        assertEquals(1, ruleService.getServices().size());
+        assertTrue(ruleService.services.containsKey("service1"));
+    }
+
+    private static class FakeRuleService implements RuleService {
+        final Map<String, OpenLService> services = new ConcurrentHashMap<>();
+        final List<String> deployed = new CopyOnWriteArrayList<>();
+        final List<String> redeployed = new CopyOnWriteArrayList<>();
+        final List<String> failed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void deploy(ServiceDescription serviceDescription) throws RuleServiceDeployException {
+            deployed.add(serviceDescription.getName());
+            if (failed.contains(serviceDescription.getName())) {
+                throw new RuleServiceDeployException("Failed.");
+            }
+            OpenLService service = new OpenLService.OpenLServiceBuilder().setName(serviceDescription.getName())
+                .build(openLService -> {
+                });
+            services.put(serviceDescription.getName(), service);
+        }
+
+        @Override
+        public void redeploy(ServiceDescription serviceDescription) {
+            redeployed.add(serviceDescription.getName());
+        }
+
+        @Override
+        public void undeploy(String serviceName) {
+            services.remove(serviceName);
+        }
+
+        @Override
+        public Collection<OpenLService> getServices() {
+            return new ArrayList<>(services.values());
+        }
+
+        @Override
+        public OpenLService getServiceByName(String serviceName) {
+            return services.get(serviceName);
+        }
+    }
+}